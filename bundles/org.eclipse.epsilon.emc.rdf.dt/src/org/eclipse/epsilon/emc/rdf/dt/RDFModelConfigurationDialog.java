@@ -26,6 +26,11 @@ import org.eclipse.epsilon.common.dt.launching.dialogs.AbstractModelConfiguratio
 import org.eclipse.epsilon.common.dt.launching.dialogs.BrowseWorkspaceUtil;
 import org.eclipse.epsilon.common.dt.util.DialogUtil;
 import org.eclipse.epsilon.emc.rdf.RDFModel;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.emc.rdf.RDFModel.StorageType;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 import org.eclipse.jface.viewers.ArrayContentProvider;
 import org.eclipse.jface.viewers.CellEditor;
@@ -197,6 +202,9 @@ public class RDFModelConfigurationDialog extends AbstractModelConfigurationDialo
 		createSchemaModelRDFUrlsGroup(control);
 		createNamespaceMappingGroup(control);
 		createLanguagePreferenceGroup(control);
+		createReasonerGroup(control);
+		createStorageGroup(control);
+		createImportsGroup(control);
 		createValidateModelGroup(control);
 	}
 
@@ -517,6 +525,181 @@ public class RDFModelConfigurationDialog extends AbstractModelConfigurationDialo
 	}
 	
 	
+	protected Combo reasonerCombo;
+	protected Button singleInferenceLayerButton;
+	protected Button materialiseInferenceButton;
+	protected Text closureCacheText;
+	private Composite createReasonerGroup(Composite parent) {
+		final Composite groupContent = DialogUtil.createGroupContainer(parent, "Reasoner", 2);
+
+		Label reasonerLabel = new Label(groupContent, SWT.NONE);
+		reasonerLabel.setText("Type:");
+
+		reasonerCombo = new Combo(groupContent, SWT.READ_ONLY);
+		for (ReasonerType type : ReasonerType.values()) {
+			reasonerCombo.add(type.getId());
+		}
+		if (reasonerCombo.getText().isBlank()) {
+			reasonerCombo.setText(RDFModel.REASONER_DEFAULT.getId());
+		}
+
+		singleInferenceLayerButton = new Button(groupContent, SWT.CHECK);
+		singleInferenceLayerButton.setText("Do not run the OWL rules again over inferred statements (faster, infers less)");
+		singleInferenceLayerButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		materialiseInferenceButton = new Button(groupContent, SWT.CHECK);
+		materialiseInferenceButton.setText("Materialise inferences while loading");
+		materialiseInferenceButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		Label closureCacheLabel = new Label(groupContent, SWT.NONE);
+		closureCacheLabel.setText("Closure cache folder:");
+
+		closureCacheText = new Text(groupContent, SWT.BORDER);
+		closureCacheText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+		groupContent.layout();
+		groupContent.pack();
+		return groupContent;
+	}
+
+	protected Combo storageCombo;
+	protected Combo graphImplementationCombo;
+	protected Text tdbLocationText;
+	protected Text snapshotLocationText;
+	protected Text loadCacheText;
+	protected Combo loadCacheFormatCombo;
+	protected Text loadThreadsText;
+	protected Button sharedGraphCacheButton;
+	protected Button mergeDataModelsButton;
+	private Composite createStorageGroup(Composite parent) {
+		final Composite groupContent = DialogUtil.createGroupContainer(parent, "Storage", 2);
+
+		Label storageLabel = new Label(groupContent, SWT.NONE);
+		storageLabel.setText("Type:");
+
+		storageCombo = new Combo(groupContent, SWT.READ_ONLY);
+		for (StorageType type : StorageType.values()) {
+			storageCombo.add(type.getId());
+		}
+		if (storageCombo.getText().isBlank()) {
+			storageCombo.setText(RDFModel.STORAGE_DEFAULT.getId());
+		}
+		storageCombo.addModifyListener(new ModifyListener() {
+			@Override
+			public void modifyText(ModifyEvent event) {
+				validateForm();
+			}
+		});
+
+		Label graphImplementationLabel = new Label(groupContent, SWT.NONE);
+		graphImplementationLabel.setText("In-memory graph:");
+
+		graphImplementationCombo = new Combo(groupContent, SWT.READ_ONLY);
+		for (RDFGraphImplementation impl : RDFGraphImplementation.values()) {
+			graphImplementationCombo.add(impl.getId());
+		}
+		if (graphImplementationCombo.getText().isBlank()) {
+			graphImplementationCombo.setText(RDFModel.GRAPH_IMPLEMENTATION_DEFAULT.getId());
+		}
+
+		Label tdbLocationLabel = new Label(groupContent, SWT.NONE);
+		tdbLocationLabel.setText("TDB2 folder:");
+
+		tdbLocationText = new Text(groupContent, SWT.BORDER);
+		tdbLocationText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+		tdbLocationText.addModifyListener(new ModifyListener() {
+			@Override
+			public void modifyText(ModifyEvent event) {
+				validateForm();
+			}
+		});
+
+		Label snapshotLocationLabel = new Label(groupContent, SWT.NONE);
+		snapshotLocationLabel.setText("Snapshot file:");
+
+		snapshotLocationText = new Text(groupContent, SWT.BORDER);
+		snapshotLocationText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+		snapshotLocationText.addModifyListener(new ModifyListener() {
+			@Override
+			public void modifyText(ModifyEvent event) {
+				validateForm();
+			}
+		});
+
+		Label loadCacheLabel = new Label(groupContent, SWT.NONE);
+		loadCacheLabel.setText("Load cache folder:");
+
+		loadCacheText = new Text(groupContent, SWT.BORDER);
+		loadCacheText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+		Label loadCacheFormatLabel = new Label(groupContent, SWT.NONE);
+		loadCacheFormatLabel.setText("Load cache format:");
+
+		loadCacheFormatCombo = new Combo(groupContent, SWT.READ_ONLY);
+		for (RDFBinaryFormat format : RDFBinaryFormat.values()) {
+			loadCacheFormatCombo.add(format.getId());
+		}
+		if (loadCacheFormatCombo.getText().isBlank()) {
+			loadCacheFormatCombo.setText(RDFModel.LOAD_CACHE_FORMAT_DEFAULT.getId());
+		}
+
+		sharedGraphCacheButton = new Button(groupContent, SWT.CHECK);
+		sharedGraphCacheButton.setText("Share read-only graphs with other models in this JVM");
+		sharedGraphCacheButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		mergeDataModelsButton = new Button(groupContent, SWT.CHECK);
+		mergeDataModelsButton.setText("Merge data models into a single graph while loading");
+		mergeDataModelsButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		Label loadThreadsLabel = new Label(groupContent, SWT.NONE);
+		loadThreadsLabel.setText("Loading threads (0 for one per processor):");
+
+		loadThreadsText = new Text(groupContent, SWT.BORDER);
+		loadThreadsText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+		loadThreadsText.addModifyListener(new ModifyListener() {
+			@Override
+			public void modifyText(ModifyEvent event) {
+				validateForm();
+			}
+		});
+
+		groupContent.layout();
+		groupContent.pack();
+		return groupContent;
+	}
+
+	protected Combo importModeCombo;
+	protected Text importCatalogText;
+	protected Button importCacheButton;
+	private Composite createImportsGroup(Composite parent) {
+		final Composite groupContent = DialogUtil.createGroupContainer(parent, "Ontology imports", 2);
+
+		Label importModeLabel = new Label(groupContent, SWT.NONE);
+		importModeLabel.setText("Mode:");
+
+		importModeCombo = new Combo(groupContent, SWT.READ_ONLY);
+		for (ImportMode mode : ImportMode.values()) {
+			importModeCombo.add(mode.getId());
+		}
+		if (importModeCombo.getText().isBlank()) {
+			importModeCombo.setText(RDFModel.IMPORT_MODE_DEFAULT.getId());
+		}
+
+		Label importCatalogLabel = new Label(groupContent, SWT.NONE);
+		importCatalogLabel.setText("Location mapping file:");
+
+		importCatalogText = new Text(groupContent, SWT.BORDER);
+		importCatalogText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+		importCacheButton = new Button(groupContent, SWT.CHECK);
+		importCacheButton.setText("Share imported graphs with other models in this JVM");
+		importCacheButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+		groupContent.layout();
+		groupContent.pack();
+		return groupContent;
+	}
+
 	protected Combo validateModelCombo;
 	private Composite createValidateModelGroup(Composite parent) {
 		final Composite groupContent = DialogUtil.createGroupContainer(parent, "Model validation", 2);
@@ -571,6 +754,35 @@ public class RDFModelConfigurationDialog extends AbstractModelConfigurationDialo
 		
 		languagePreferenceText.setText(properties.getProperty(RDFModel.PROPERTY_LANGUAGE_PREFERENCE));
 		
+		reasonerCombo.setText(
+				properties.getProperty(RDFModel.PROPERTY_REASONER, RDFModel.REASONER_DEFAULT.getId()));
+		singleInferenceLayerButton.setSelection(
+				properties.getBooleanProperty(RDFModel.PROPERTY_SINGLE_INFERENCE_LAYER, false));
+		materialiseInferenceButton.setSelection(
+				properties.getBooleanProperty(RDFModel.PROPERTY_MATERIALISE_INFERENCE, false));
+		closureCacheText.setText(properties.getProperty(RDFModel.PROPERTY_CLOSURE_CACHE, ""));
+
+		storageCombo.setText(
+				properties.getProperty(RDFModel.PROPERTY_STORAGE, RDFModel.STORAGE_DEFAULT.getId()));
+		graphImplementationCombo.setText(
+				properties.getProperty(RDFModel.PROPERTY_GRAPH_IMPLEMENTATION, RDFModel.GRAPH_IMPLEMENTATION_DEFAULT.getId()));
+		tdbLocationText.setText(properties.getProperty(RDFModel.PROPERTY_TDB_LOCATION, ""));
+		snapshotLocationText.setText(properties.getProperty(RDFModel.PROPERTY_SNAPSHOT_LOCATION, ""));
+		loadCacheText.setText(properties.getProperty(RDFModel.PROPERTY_LOAD_CACHE, ""));
+		loadThreadsText.setText(properties.getProperty(RDFModel.PROPERTY_LOAD_THREADS, "0"));
+		sharedGraphCacheButton.setSelection(
+				properties.getBooleanProperty(RDFModel.PROPERTY_SHARED_GRAPH_CACHE, false));
+		mergeDataModelsButton.setSelection(
+				properties.getBooleanProperty(RDFModel.PROPERTY_MERGE_DATA_MODELS, false));
+		loadCacheFormatCombo.setText(
+				properties.getProperty(RDFModel.PROPERTY_LOAD_CACHE_FORMAT, RDFModel.LOAD_CACHE_FORMAT_DEFAULT.getId()));
+
+		importModeCombo.setText(
+				properties.getProperty(RDFModel.PROPERTY_IMPORT_MODE, RDFModel.IMPORT_MODE_DEFAULT.getId()));
+		importCatalogText.setText(properties.getProperty(RDFModel.PROPERTY_IMPORT_CATALOG, ""));
+		importCacheButton.setSelection(
+				properties.getBooleanProperty(RDFModel.PROPERTY_IMPORT_CACHE, false));
+
 		// Load any saved property and default to Jena if none
 		validateModelCombo.setText(
 				properties.getProperty(RDFModel.PROPERTY_VALIDATE_MODEL, RDFModel.VALIDATION_SELECTION_DEFAULT.getId()));
@@ -603,6 +815,22 @@ public class RDFModelConfigurationDialog extends AbstractModelConfigurationDialo
 		properties.put(RDFModel.PROPERTY_LANGUAGE_PREFERENCE,
 				languagePreferenceText.getText().replaceAll("\\s", ""));
 		
+		properties.put(RDFModel.PROPERTY_REASONER, reasonerCombo.getText());
+		properties.put(RDFModel.PROPERTY_SINGLE_INFERENCE_LAYER, singleInferenceLayerButton.getSelection() + "");
+		properties.put(RDFModel.PROPERTY_MATERIALISE_INFERENCE, materialiseInferenceButton.getSelection() + "");
+		properties.put(RDFModel.PROPERTY_CLOSURE_CACHE, closureCacheText.getText().strip());
+		properties.put(RDFModel.PROPERTY_STORAGE, storageCombo.getText());
+		properties.put(RDFModel.PROPERTY_GRAPH_IMPLEMENTATION, graphImplementationCombo.getText());
+		properties.put(RDFModel.PROPERTY_TDB_LOCATION, tdbLocationText.getText().strip());
+		properties.put(RDFModel.PROPERTY_SNAPSHOT_LOCATION, snapshotLocationText.getText().strip());
+		properties.put(RDFModel.PROPERTY_LOAD_CACHE, loadCacheText.getText().strip());
+		properties.put(RDFModel.PROPERTY_LOAD_CACHE_FORMAT, loadCacheFormatCombo.getText());
+		properties.put(RDFModel.PROPERTY_LOAD_THREADS, loadThreadsText.getText().strip());
+		properties.put(RDFModel.PROPERTY_SHARED_GRAPH_CACHE, sharedGraphCacheButton.getSelection() + "");
+		properties.put(RDFModel.PROPERTY_MERGE_DATA_MODELS, mergeDataModelsButton.getSelection() + "");
+		properties.put(RDFModel.PROPERTY_IMPORT_MODE, importModeCombo.getText());
+		properties.put(RDFModel.PROPERTY_IMPORT_CATALOG, importCatalogText.getText().strip());
+		properties.put(RDFModel.PROPERTY_IMPORT_CACHE, importCacheButton.getSelection() + "");
 		properties.put(RDFModel.PROPERTY_VALIDATE_MODEL, validateModelCombo.getText());
 		
 	}
@@ -623,6 +851,21 @@ public class RDFModelConfigurationDialog extends AbstractModelConfigurationDialo
 			}
 		}
 
+		if (StorageType.TDB2.getId().equals(storageCombo.getText()) && tdbLocationText.getText().isBlank()) {
+			setErrorMessage("TDB2 storage requires a database folder");
+			return;
+		}
+
+		if (StorageType.SNAPSHOT.getId().equals(storageCombo.getText()) && snapshotLocationText.getText().isBlank()) {
+			setErrorMessage("Snapshot storage requires a snapshot file");
+			return;
+		}
+
+		if (!loadThreadsText.getText().strip().matches("\\d*")) {
+			setErrorMessage("The number of loading threads must be a non-negative integer");
+			return;
+		}
+
 		for (URLTableEntry entry : this.dataModelUrls) {
 			String errorMessage = validateURL(entry.url);
 			if (errorMessage != null) {
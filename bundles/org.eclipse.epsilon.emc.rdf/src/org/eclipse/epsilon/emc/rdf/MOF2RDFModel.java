@@ -12,13 +12,63 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.ontology.MaxCardinalityRestriction;
+import org.apache.jena.ontology.OntClass;
 import org.apache.jena.rdf.model.Resource;
+import org.eclipse.epsilon.emc.rdf.RDFPropertyProcesses.MaxCardRestrictedProperty;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
 
 public class MOF2RDFModel extends RDFModel {
 
+	protected record ClassPropertyKey(Node rdfType, String namespaceURI, String localName) {}
+
+	/**
+	 * Table from (class, property name) to the matching properties declared by
+	 * the class and their max cardinality restrictions. It is filled in on
+	 * demand, and discarded when the model is loaded again or disposed.
+	 */
+	protected final Map<ClassPropertyKey, List<MaxCardRestrictedProperty>> maxCardinalityTable = new ConcurrentHashMap<>();
+
 	@Override
 	protected MOF2RDFResource createResource(Resource aResource) {
 		return new MOF2RDFResource(aResource, this);
 	}
 
+	/**
+	 * Returns the max cardinality restriction that applies to the property of
+	 * the resource, or {@code null} if there is none. Warns about ambiguous
+	 * accesses if several properties match the name.
+	 */
+	public MaxCardinalityRestriction getMaxCardinalityRestriction(RDFQualifiedName propertyName, RDFResource resource, IEolContext context) {
+		List<RDFResource> types = resource.getTypes();
+		List<List<MaxCardRestrictedProperty>> restrictionsByType = new ArrayList<>(types.size());
+		for (RDFResource type : types) {
+			Resource rdfType = type.getResource();
+			ClassPropertyKey key = new ClassPropertyKey(rdfType.asNode(), propertyName.namespaceURI, propertyName.localName);
+			restrictionsByType.add(maxCardinalityTable.computeIfAbsent(key,
+				k -> RDFPropertyProcesses.getDeclaredPropertyRestrictions(propertyName, rdfType.as(OntClass.class))));
+		}
+
+		return RDFPropertyProcesses.getMaxCardinalityRestriction(propertyName, restrictionsByType, context);
+	}
+
+	@Override
+	protected void loadModel() throws EolModelLoadingException {
+		maxCardinalityTable.clear();
+		super.loadModel();
+	}
+
+	@Override
+	protected void disposeModel() {
+		super.disposeModel();
+		maxCardinalityTable.clear();
+	}
+
 }
@@ -30,11 +30,12 @@ public class MOF2RDFResource extends RDFResource {
 		Collection<Object> value = super.getCollectionOfProperyValues(property, context);
 
 		// Restriction checking on property 
-		final RDFQualifiedName pName = RDFQualifiedName.from(property, this.owningModel::getNamespaceURI);
+		final RDFQualifiedName pName = this.owningModel.getPropertyAccessor(property).name;
 		
 		// Perform Cardinality checks
-		MaxCardinalityRestriction maxCardinality = RDFPropertyProcesses
-				.getPropertyStatementMaxCardinalityRestriction(pName, resource, context);
+		MaxCardinalityRestriction maxCardinality = this.owningModel instanceof MOF2RDFModel mof2rdfModel
+				? mof2rdfModel.getMaxCardinalityRestriction(pName, this, context)
+				: RDFPropertyProcesses.getPropertyStatementMaxCardinalityRestriction(pName, resource, context);
 
 		// Check collection of rawValues is less than the MaxCardinality and prune
 		if (null != maxCardinality) {
@@ -23,6 +23,10 @@ public class RDFLiteral extends RDFModelElement {
 		this.literal = node;
 	}
 
+	public Literal getLiteral() {
+		return literal;
+	}
+
 	public Object getValue() {
 		return literal.getValue();
 	}
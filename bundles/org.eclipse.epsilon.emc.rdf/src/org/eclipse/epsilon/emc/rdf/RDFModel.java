@@ -15,31 +15,68 @@ package org.eclipse.epsilon.emc.rdf;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.compose.MultiUnion;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionDatasetBuilder;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.query.Syntax;
+import org.apache.jena.ontology.OntDocumentManager;
 import org.apache.jena.ontology.OntModel;
 import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.NodeIterator;
+import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.ResIterator;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.reasoner.InfGraph;
 import org.apache.jena.reasoner.Reasoner;
-import org.apache.jena.reasoner.ReasonerRegistry;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.tdb2.loader.DataLoader;
+import org.apache.jena.tdb2.loader.LoaderFactory;
+import org.apache.jena.tdb2.loader.base.LoaderOps;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.OWL;
 import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
 import org.eclipse.epsilon.common.util.StringProperties;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
 import org.eclipse.epsilon.eol.exceptions.models.EolEnumerationValueNotFoundException;
@@ -48,10 +85,31 @@ import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.eol.exceptions.models.EolNotInstantiableModelElementTypeException;
 import org.eclipse.epsilon.eol.models.CachedModel;
 import org.eclipse.epsilon.eol.models.IRelativePathResolver;
+import org.eclipse.epsilon.eol.types.EolSequence;
+import org.eclipse.epsilon.eol.types.EolTuple;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFClosureCache;
+import org.eclipse.epsilon.rdf.loading.RDFCompactGraph;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.loading.RDFGraphProvider;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
+import org.eclipse.epsilon.rdf.loading.RDFLoadCache;
+import org.eclipse.epsilon.rdf.loading.RDFMergedGraph;
+import org.eclipse.epsilon.rdf.loading.RDFReasonerType;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache.BoundSchema;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache;
+import org.eclipse.epsilon.rdf.loading.RDFSnapshotGraph;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode.RDFModelValidationReport;
 import org.eclipse.epsilon.rdf.validation.RDFValidationException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+
 public class RDFModel extends CachedModel<RDFModelElement> {
 
 	public static final String PROPERTY_LANGUAGE_PREFERENCE = "languagePreference";
@@ -79,13 +137,80 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	public static final ValidationMode VALIDATION_SELECTION_DEFAULT = ValidationMode.JENA_CLEAN;
 	protected ValidationMode validationMode = VALIDATION_SELECTION_DEFAULT;
 
-	// TODO add to this list to cover reasoner types in the ReasonerRegistry Class
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the ID of one of the {@link ReasonerType} values.
+	 * If it is not set, {@link #REASONER_DEFAULT} will be used.
+	 */
+	public static final String PROPERTY_REASONER = "reasoner";
+
+	/**
+	 * Reasoners that can be used to infer statements from the data and schema
+	 * models. Their IDs (and aliases) are shared with the EMF driver through
+	 * {@link RDFReasonerType}, except for its custom rule reasoner, which is
+	 * not supported by this driver.
+	 */
 	public enum ReasonerType {
-		NONE,
-		OWL_FULL;
+		NONE(RDFReasonerType.NONE),
+		RDFS(RDFReasonerType.RDFS),
+		OWL_MICRO(RDFReasonerType.OWL_MICRO),
+		OWL_MINI(RDFReasonerType.OWL_MINI),
+		TRANSITIVE(RDFReasonerType.TRANSITIVE),
+		OWL_FULL(RDFReasonerType.OWL_FULL) {
+			/*
+			 * The inferred model is wrapped in a rule-based ontology model, which
+			 * runs the OWL rules again over the inferred statements. This infers
+			 * a few more statements (e.g. rdfs:Resource and owl:Thing types), at
+			 * the cost of running two rule engines: see
+			 * PROPERTY_SINGLE_INFERENCE_LAYER.
+			 */
+			@Override
+			public OntModelSpec getOntModelSpec() {
+				return OntModelSpec.OWL_DL_MEM_RULE_INF;
+			}
+		};
+
+		private final RDFReasonerType type;
+
+		ReasonerType(RDFReasonerType type) {
+			this.type = type;
+		}
+
+		public String getId() {
+			return type.getId();
+		}
+
+		/**
+		 * Returns the Jena reasoner to be used, or {@code null} if no inference
+		 * should be performed.
+		 */
+		public Reasoner getReasoner() {
+			return type.getReasoner(Collections.emptyList());
+		}
+
+		/**
+		 * Returns the specification for the ontology model that wraps the
+		 * (possibly inferred) data.
+		 */
+		public OntModelSpec getOntModelSpec() {
+			return OntModelSpec.OWL_MEM;
+		}
+
+		public static ReasonerType fromString(String id) {
+			RDFReasonerType type = RDFReasonerType.fromString(id);
+			for (ReasonerType reasonerType : ReasonerType.values()) {
+				if (reasonerType.type == type) {
+					return reasonerType;
+				}
+			}
+			throw new IllegalArgumentException("Reasoner type not supported by RDFModel: " + id);
+		}
 	}
 
-	protected ReasonerType reasonerType = ReasonerType.NONE;
+	public static final ReasonerType REASONER_DEFAULT = ReasonerType.OWL_FULL;
+	protected ReasonerType reasonerType = REASONER_DEFAULT;
 
 	public ReasonerType getReasonerType() {
 		return reasonerType;
@@ -94,7 +219,366 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	public void setReasonerType(ReasonerType rdfsReasonerType) {
 		this.reasonerType = rdfsReasonerType;
 	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * If this key is set to {@code true}, the statements inferred by the
+	 * {@link ReasonerType#OWL_FULL} reasoner are wrapped in a plain ontology
+	 * model, instead of one that runs the OWL rules again over them. This is
+	 * much faster, but it does not infer some statements (e.g. that every
+	 * resource is an {@code rdfs:Resource} and an {@code owl:Thing}) and
+	 * validation may report fewer warnings. Other reasoners always use a single
+	 * inference layer.
+	 */
+	public static final String PROPERTY_SINGLE_INFERENCE_LAYER = "singleInferenceLayer";
+
+	protected boolean singleInferenceLayer;
+
+	public boolean isSingleInferenceLayer() {
+		return singleInferenceLayer;
+	}
+
+	public void setSingleInferenceLayer(boolean singleInferenceLayer) {
+		this.singleInferenceLayer = singleInferenceLayer;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * If this key is set to {@code true}, the statements inferred by the reasoner
+	 * are computed once while loading and copied into a plain in-memory model,
+	 * instead of being inferred on demand while querying the model.
+	 */
+	public static final String PROPERTY_MATERIALISE_INFERENCE = "materialiseInference";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key can be set to a folder where materialised inference closures will
+	 * be cached (see {@link RDFClosureCache}), using the format in
+	 * {@link #PROPERTY_LOAD_CACHE_FORMAT}. It is only used if
+	 * {@link #PROPERTY_MATERIALISE_INFERENCE} is enabled.
+	 */
+	public static final String PROPERTY_CLOSURE_CACHE = "closureCache";
+
+	protected boolean materialiseInference;
+	protected String closureCacheLocation;
+
+	public boolean isMaterialiseInference() {
+		return materialiseInference;
+	}
+
+	public void setMaterialiseInference(boolean materialiseInference) {
+		this.materialiseInference = materialiseInference;
+	}
+
+	public String getClosureCacheLocation() {
+		return closureCacheLocation;
+	}
+
+	public void setClosureCacheLocation(String closureCacheLocation) {
+		this.closureCacheLocation = closureCacheLocation;
+	}
 	
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the ID of one of the {@link StorageType} values.
+	 * If it is not set, {@link #STORAGE_DEFAULT} will be used.
+	 */
+	public static final String PROPERTY_STORAGE = "storage";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the folder of the TDB2 database to be used
+	 * when {@link #PROPERTY_STORAGE} is set to {@link StorageType#TDB2}.
+	 */
+	public static final String PROPERTY_TDB_LOCATION = "tdbLocation";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the snapshot file to be used when
+	 * {@link #PROPERTY_STORAGE} is set to {@link StorageType#SNAPSHOT}.
+	 */
+	public static final String PROPERTY_SNAPSHOT_LOCATION = "snapshotLocation";
+
+	/**
+	 * Where the statements of the data and schema models are kept.
+	 */
+	public enum StorageType {
+		/**
+		 * The documents are parsed into in-memory graphs on every load.
+		 */
+		MEMORY("memory"),
+
+		/**
+		 * The documents are parsed into memory on every load, and then converted
+		 * into read-only {@link RDFCompactGraph}s, which use less memory and are
+		 * faster to query.
+		 */
+		COMPACT("compact"),
+
+		/**
+		 * The first load parses the documents and writes everything in the
+		 * (possibly inferred) ontology model into a snapshot file, which is
+		 * memory-mapped as an {@link RDFSnapshotGraph} by this and later loads.
+		 * The snapshot is written again if the documents or the reasoning and
+		 * import settings change.
+		 */
+		SNAPSHOT("snapshot"),
+
+		/**
+		 * The documents are bulk loaded into a persistent TDB2 database the first
+		 * time they are used, and later loads reuse the database. Each document is
+		 * kept as a named graph whose name is its URI.
+		 */
+		TDB2("tdb2");
+
+		private final String id;
+
+		StorageType(String id) {
+			this.id = id;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public static StorageType fromString(String id) {
+			for (StorageType type : StorageType.values()) {
+				if (type.id.equalsIgnoreCase(id)) {
+					return type;
+				}
+			}
+			throw new IllegalArgumentException("Storage type not found: " + id);
+		}
+	}
+
+	public static final StorageType STORAGE_DEFAULT = StorageType.MEMORY;
+	protected StorageType storageType = STORAGE_DEFAULT;
+	protected String tdbLocation;
+	protected String snapshotLocation;
+
+	public StorageType getStorageType() {
+		return storageType;
+	}
+
+	public void setStorageType(StorageType storageType) {
+		this.storageType = storageType;
+	}
+
+	public String getTdbLocation() {
+		return tdbLocation;
+	}
+
+	public void setTdbLocation(String tdbLocation) {
+		this.tdbLocation = tdbLocation;
+	}
+
+	public String getSnapshotLocation() {
+		return snapshotLocation;
+	}
+
+	public void setSnapshotLocation(String snapshotLocation) {
+		this.snapshotLocation = snapshotLocation;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the ID of one of the
+	 * {@link RDFGraphImplementation} values, which decides the in-memory graph
+	 * that documents are parsed into. If it is not set,
+	 * {@link #GRAPH_IMPLEMENTATION_DEFAULT} will be used.
+	 */
+	public static final String PROPERTY_GRAPH_IMPLEMENTATION = "graphImplementation";
+
+	public static final RDFGraphImplementation GRAPH_IMPLEMENTATION_DEFAULT = RDFGraphImplementation.FAST;
+	protected RDFGraphImplementation graphImplementation = GRAPH_IMPLEMENTATION_DEFAULT;
+
+	public RDFGraphImplementation getGraphImplementation() {
+		return graphImplementation;
+	}
+
+	public void setGraphImplementation(RDFGraphImplementation graphImplementation) {
+		this.graphImplementation = graphImplementation;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * If this key is set to {@code true}, the data documents are merged into a
+	 * single {@link RDFMergedGraph} while loading, instead of querying the
+	 * union of one graph per document. This has no effect with TDB2 storage.
+	 */
+	public static final String PROPERTY_MERGE_DATA_MODELS = "mergeDataModels";
+
+	protected boolean mergeDataModels;
+
+	public boolean isMergeDataModels() {
+		return mergeDataModels;
+	}
+
+	public void setMergeDataModels(boolean mergeDataModels) {
+		this.mergeDataModels = mergeDataModels;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key can be set to a folder where parsed documents will be cached in a
+	 * binary RDF format (see {@link RDFLoadCache}). If it is not set, documents
+	 * are parsed on every load.
+	 */
+	public static final String PROPERTY_LOAD_CACHE = "loadCache";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the ID of one of the {@link RDFBinaryFormat}
+	 * values. If it is not set, {@link #LOAD_CACHE_FORMAT_DEFAULT} will be used.
+	 */
+	public static final String PROPERTY_LOAD_CACHE_FORMAT = "loadCacheFormat";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key can be set to the maximum number of documents that will be parsed
+	 * at the same time. If it is not set (or set to 0), the number of available
+	 * processors will be used. Setting it to 1 loads documents sequentially.
+	 */
+	public static final String PROPERTY_LOAD_THREADS = "loadThreads";
+
+	protected int loadThreads;
+
+	public int getLoadThreads() {
+		return loadThreads;
+	}
+
+	public void setLoadThreads(int loadThreads) {
+		this.loadThreads = loadThreads;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * If this key is set to {@code true}, local documents are taken from the
+	 * JVM-wide {@link RDFSharedGraphCache}, sharing a single read-only copy of
+	 * each document with every other model that loads it.
+	 */
+	public static final String PROPERTY_SHARED_GRAPH_CACHE = "sharedGraphCache";
+
+	protected boolean sharedGraphCache;
+
+	public boolean isSharedGraphCache() {
+		return sharedGraphCache;
+	}
+
+	public void setSharedGraphCache(boolean sharedGraphCache) {
+		this.sharedGraphCache = sharedGraphCache;
+	}
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key should be set to the ID of one of the {@link ImportMode} values,
+	 * which controls how {@code owl:imports} are followed. If it is not set,
+	 * {@link #IMPORT_MODE_DEFAULT} will be used.
+	 */
+	public static final String PROPERTY_IMPORT_MODE = "importMode";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * This key can be set to a Jena location mapping file, which maps the URIs
+	 * of imported ontologies to alternative (usually local) locations. See
+	 * {@link RDFImportResolver#setCatalog(String)}.
+	 */
+	public static final String PROPERTY_IMPORT_CATALOG = "importCatalog";
+
+	/**
+	 * One of the keys used to construct the first argument to
+	 * {@link #load(StringProperties, String)}.
+	 *
+	 * If this key is set to {@code true}, imported local documents are taken
+	 * from the JVM-wide {@link RDFSharedGraphCache}, so they are only parsed
+	 * again if they change.
+	 */
+	public static final String PROPERTY_IMPORT_CACHE = "importCache";
+
+	public static final ImportMode IMPORT_MODE_DEFAULT = ImportMode.FOLLOW;
+	protected ImportMode importMode = IMPORT_MODE_DEFAULT;
+	protected String importCatalogLocation;
+	protected boolean importCache;
+
+	public ImportMode getImportMode() {
+		return importMode;
+	}
+
+	public void setImportMode(ImportMode importMode) {
+		this.importMode = importMode;
+	}
+
+	public String getImportCatalogLocation() {
+		return importCatalogLocation;
+	}
+
+	public void setImportCatalogLocation(String importCatalogLocation) {
+		this.importCatalogLocation = importCatalogLocation;
+	}
+
+	public boolean isImportCache() {
+		return importCache;
+	}
+
+	public void setImportCache(boolean importCache) {
+		this.importCache = importCache;
+	}
+
+	public static final RDFBinaryFormat LOAD_CACHE_FORMAT_DEFAULT = RDFBinaryFormat.THRIFT;
+	protected String loadCacheLocation;
+	protected RDFBinaryFormat loadCacheFormat = LOAD_CACHE_FORMAT_DEFAULT;
+
+	public String getLoadCacheLocation() {
+		return loadCacheLocation;
+	}
+
+	public void setLoadCacheLocation(String loadCacheLocation) {
+		this.loadCacheLocation = loadCacheLocation;
+	}
+
+	public RDFBinaryFormat getLoadCacheFormat() {
+		return loadCacheFormat;
+	}
+
+	public void setLoadCacheFormat(RDFBinaryFormat loadCacheFormat) {
+		this.loadCacheFormat = loadCacheFormat;
+	}
+
+	protected RDFDatasetLoader datasetLoader;
+	protected RDFImportResolver importResolver;
+
+	// Documents imported into a cached closure are not loaded by the import resolver
+	protected List<String> closureImportLocations = Collections.emptyList();
+	protected BoundSchema boundSchema;
+
 	protected final List<String> schemaURIs = new ArrayList<>();
 	protected Dataset schemaModelSet = DatasetFactory.create();		// DefaultModel empty, using NamedModels
 	
@@ -107,14 +591,83 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 		return model;
 	}
 
+	/**
+	 * Index from local names to the type resources with that local name, and
+	 * from URIs to type resources. Only resources that are the object of at
+	 * least one {@code rdf:type} statement are indexed. The index is computed
+	 * on first use, and discarded when the model is loaded again or disposed.
+	 */
+	protected TypeIndex typeIndex;
+
+	protected static class TypeIndex {
+		private final Map<String, List<Resource>> typesByLocalName = new HashMap<>();
+		private final Map<String, Resource> typesByURI = new HashMap<>();
+
+		public TypeIndex(Model model) {
+			for (NodeIterator it = model.listObjectsOfProperty(RDF.type); it.hasNext(); ) {
+				RDFNode typeNode = it.next();
+				if (typeNode.isURIResource()) {
+					Resource typeResource = typeNode.asResource();
+					if (typesByURI.putIfAbsent(typeResource.getURI(), typeResource) == null) {
+						typesByLocalName
+							.computeIfAbsent(typeResource.getLocalName(), k -> new ArrayList<>(1))
+							.add(typeResource);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Returns the first type with the given local name, or {@code null} if
+		 * no instance has a type with that local name.
+		 */
+		public Resource getByLocalName(String localName) {
+			List<Resource> types = typesByLocalName.get(localName);
+			return types == null ? null : types.get(0);
+		}
+
+		/**
+		 * Returns the type with the given URI, or {@code null} if it does not
+		 * have any instances.
+		 */
+		public Resource getByURI(String uri) {
+			return typesByURI.get(uri);
+		}
+	}
+
 	public RDFModel() {
 		this.propertyGetter = new RDFPropertyGetter(this);
 	}
 	
+	/**
+	 * Canonical wrappers for the resources of the model, so the same Jena
+	 * resource is always represented by the same {@link RDFResource}. Values
+	 * are weakly referenced, so wrappers which are no longer used elsewhere
+	 * can be garbage collected.
+	 */
+	protected ConcurrentMap<Node, RDFResource> resourceRegistry = createResourceRegistry();
+
+	private static ConcurrentMap<Node, RDFResource> createResourceRegistry() {
+		return new MapMaker().weakValues().makeMap();
+	}
+
+	/**
+	 * Creates a new wrapper for a resource. Subclasses may override this method
+	 * to use their own {@link RDFResource} subclass. Other code should use
+	 * {@link #getCanonicalResource(Resource)} instead.
+	 */
 	protected RDFResource createResource(Resource aResource) {
 		return new RDFResource(aResource, this);
 	}
 
+	/**
+	 * Returns the canonical wrapper for a resource, creating it through
+	 * {@link #createResource(Resource)} if needed.
+	 */
+	protected RDFResource getCanonicalResource(Resource aResource) {
+		return resourceRegistry.computeIfAbsent(aResource.asNode(), n -> createResource(aResource));
+	}
+
 	@Override
 	public Object getEnumerationValue(String enumeration, String label) throws EolEnumerationValueNotFoundException {
 		throw new UnsupportedOperationException();
@@ -124,10 +677,9 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	public String getTypeNameOf(Object instance) {
 		if (instance instanceof RDFResource) {
 			RDFResource res = (RDFResource) instance;
-			List<RDFResource> types = res.getTypes();
-			if (!types.isEmpty()) {
-				RDFResource firstType = types.get(0);
-				return getQualifiedTypeName(firstType);
+			List<String> typeNames = res.getQualifiedTypeNames();
+			if (!typeNames.isEmpty()) {
+				return typeNames.get(0);
 			}
 		}
 
@@ -135,7 +687,7 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 		return null;
 	}
 
-	private String getQualifiedTypeName(RDFResource typeResource) {
+	protected String getQualifiedTypeName(RDFResource typeResource) {
 		return String.format("%s:%s",
 			getPrefix(typeResource.getResource().getNameSpace()),
 			typeResource.getResource().getLocalName());
@@ -145,7 +697,7 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	public RDFResource getElementById(String uri) {
 		Resource res = model.getResource(uri);
 		if (res != null) {
-			return createResource(res);
+			return getCanonicalResource(res);
 		}
 		return null;
 	}
@@ -175,12 +727,7 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 
 	@Override
 	public boolean hasType(String type) {
-		try {
-			getTypeResourceByName(type);
-			return true;
-		} catch (EolModelElementTypeNotFoundException e) {
-			return false;
-		}
+		return findTypeResourceByName(type) != null;
 	}
 
 	@Override
@@ -195,26 +742,98 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 		loadCommaSeparatedProperty(properties, PROPERTY_DATA_URIS, this.dataURIs);
 		loadCommaSeparatedProperty(properties, PROPERTY_SCHEMA_URIS, this.schemaURIs);
 
-		this.validationMode =  ValidationMode.fromString(properties.getProperty(RDFModel.PROPERTY_VALIDATE_MODEL, VALIDATION_SELECTION_DEFAULT.getId()));
+		try {
+			this.reasonerType = ReasonerType.fromString(properties.getProperty(PROPERTY_REASONER, REASONER_DEFAULT.getId()));
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+		this.singleInferenceLayer = properties.getBooleanProperty(PROPERTY_SINGLE_INFERENCE_LAYER, false);
 
-		this.customPrefixesMap.clear();
-		String sPrefixes = properties.getProperty(PROPERTY_PREFIXES, "").strip();
-		if (!sPrefixes.isEmpty()) {
-			for (String sItem : sPrefixes.split(",")) {
-				int idxEquals = sItem.indexOf('=');
-				if (idxEquals <= 0 || idxEquals == sItem.length() - 1) {
-					throw new IllegalArgumentException(String.format("Entry '%s' does not follow the prefix=uri format", sItem));
-				}
+		this.materialiseInference = properties.getBooleanProperty(PROPERTY_MATERIALISE_INFERENCE, false);
+		String sClosureCache = properties.getProperty(PROPERTY_CLOSURE_CACHE, "").strip();
+		this.closureCacheLocation = sClosureCache.isEmpty() ? null : resolver.resolve(sClosureCache);
 
-				String sPrefix = sItem.substring(0, idxEquals);
-				String sURI = sItem.substring(idxEquals + 1);
-				customPrefixesMap.put(sPrefix, sURI);
-			}
+		try {
+			this.storageType = StorageType.fromString(properties.getProperty(PROPERTY_STORAGE, STORAGE_DEFAULT.getId()));
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+		String sTdbLocation = properties.getProperty(PROPERTY_TDB_LOCATION, "").strip();
+		this.tdbLocation = sTdbLocation.isEmpty() ? null : resolver.resolve(sTdbLocation);
+		String sSnapshotLocation = properties.getProperty(PROPERTY_SNAPSHOT_LOCATION, "").strip();
+		this.snapshotLocation = sSnapshotLocation.isEmpty() ? null : resolver.resolve(sSnapshotLocation);
+		try {
+			this.graphImplementation = RDFGraphImplementation.fromString(
+				properties.getProperty(PROPERTY_GRAPH_IMPLEMENTATION, GRAPH_IMPLEMENTATION_DEFAULT.getId()));
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
 		}
+		this.mergeDataModels = properties.getBooleanProperty(PROPERTY_MERGE_DATA_MODELS, false);
 
-		this.languagePreference.clear();
-		String sLanguagePreference = properties.getProperty(PROPERTY_LANGUAGE_PREFERENCE, "").strip();
-		if (!sLanguagePreference.isEmpty()) {
+		this.sharedGraphCache = properties.getBooleanProperty(PROPERTY_SHARED_GRAPH_CACHE, false);
+		try {
+			this.importMode = ImportMode.fromString(properties.getProperty(PROPERTY_IMPORT_MODE, IMPORT_MODE_DEFAULT.getId()));
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+		String sImportCatalog = properties.getProperty(PROPERTY_IMPORT_CATALOG, "").strip();
+		this.importCatalogLocation = sImportCatalog.isEmpty() ? null : resolver.resolve(sImportCatalog);
+		this.importCache = properties.getBooleanProperty(PROPERTY_IMPORT_CACHE, false);
+		String sLoadCache = properties.getProperty(PROPERTY_LOAD_CACHE, "").strip();
+		this.loadCacheLocation = sLoadCache.isEmpty() ? null : resolver.resolve(sLoadCache);
+		try {
+			this.loadThreads = Integer.parseInt(properties.getProperty(PROPERTY_LOAD_THREADS, "0").strip());
+			if (loadThreads < 0) {
+				throw new IllegalArgumentException("The number of loading threads cannot be negative");
+			}
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+		try {
+			this.loadCacheFormat = RDFBinaryFormat.fromString(
+				properties.getProperty(PROPERTY_LOAD_CACHE_FORMAT, LOAD_CACHE_FORMAT_DEFAULT.getId()));
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+
+		/*
+		 * Validation is done by the reasoner: without one, models are not
+		 * validated unless requested, and requesting it is an error.
+		 */
+		String sValidationMode = properties.getProperty(RDFModel.PROPERTY_VALIDATE_MODEL, "").strip();
+		if (sValidationMode.isEmpty()) {
+			this.validationMode = reasonerType == ReasonerType.NONE ? ValidationMode.NONE : VALIDATION_SELECTION_DEFAULT;
+		} else {
+			try {
+				this.validationMode = ValidationMode.fromString(sValidationMode);
+			} catch (IllegalArgumentException ex) {
+				throw new EolModelLoadingException(ex, this);
+			}
+			if (reasonerType == ReasonerType.NONE && validationMode != ValidationMode.NONE) {
+				throw new EolModelLoadingException(new IllegalArgumentException(String.format(
+					"Validation mode '%s' requires a reasoner, but reasoner '%s' has been selected",
+					validationMode.getId(), reasonerType.getId())), this);
+			}
+		}
+
+		this.customPrefixesMap.clear();
+		String sPrefixes = properties.getProperty(PROPERTY_PREFIXES, "").strip();
+		if (!sPrefixes.isEmpty()) {
+			for (String sItem : sPrefixes.split(",")) {
+				int idxEquals = sItem.indexOf('=');
+				if (idxEquals <= 0 || idxEquals == sItem.length() - 1) {
+					throw new IllegalArgumentException(String.format("Entry '%s' does not follow the prefix=uri format", sItem));
+				}
+
+				String sPrefix = sItem.substring(0, idxEquals);
+				String sURI = sItem.substring(idxEquals + 1);
+				customPrefixesMap.put(sPrefix, sURI);
+			}
+		}
+
+		this.languagePreference.clear();
+		String sLanguagePreference = properties.getProperty(PROPERTY_LANGUAGE_PREFERENCE, "").strip();
+		if (!sLanguagePreference.isEmpty()) {
 			for (String tag : sLanguagePreference.split(",")) {
 				tag = tag.strip();
 				if (isValidLanguageTag(tag)) {
@@ -267,7 +886,15 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	}
 	
 	private boolean store(Function <String, String> mapper) {		
+		if (storageType == StorageType.SNAPSHOT) {
+			System.err.println("Models with snapshot storage cannot be stored, as their documents are not kept in memory");
+			return false;
+		}
 		for (String uri : dataURIs) {
+			if (RDFDatasetLoader.isProvided(uri)) {
+				// Graphs from providers (e.g. HDT files) are read-only
+				continue;
+			}
 			try {
 				storeDataNamedModel(uri, mapper.apply(uri));
 			} catch (IOException e) {
@@ -302,60 +929,414 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 		return store(uri -> uri);
 	}
 
+	/*
+	 * Element collections stream the matching triples from the graph on demand, rather
+	 * than listing the subjects upfront, and do not retain the elements, so they are cheap
+	 * to keep in the CachedModel caches. Iterating over all contents remembers the subjects
+	 * visited so far, as a subject may appear in many triples: the rdf:type triples of a
+	 * given type have distinct subjects, so iterating over a type does not.
+	 */
 	@Override
 	protected Collection<RDFModelElement> allContentsFromModel() {
-		final List<RDFModelElement> elems = new ArrayList<>();
-
-		for (ResIterator it = model.listSubjects(); it.hasNext(); ) {
-			Resource stmt = it.next();
-			elems.add(createResource(stmt));
-		}
-		
-		return elems;
+		final OntModel m = this.model;
+		return new RDFResourceCollection(
+			() -> findTriples(Node.ANY, Node.ANY),
+			n -> m.getGraph().contains(n, Node.ANY, Node.ANY),
+			n -> getCanonicalResource(m.wrapAsResource(n)));
 	}
 
 	@Override
 	protected Collection<RDFModelElement> getAllOfTypeFromModel(String type)
 			throws EolModelElementTypeNotFoundException {
-		Resource typeR = getTypeResourceByName(type);
+		final OntModel m = this.model;
+		final Node typeNode = getTypeResourceByName(type).asNode();
+		final Node rdfType = RDF.type.asNode();
+		return new RDFResourceCollection(
+			() -> findTriples(rdfType, typeNode),
+			n -> m.getGraph().contains(n, rdfType, typeNode),
+			n -> getCanonicalResource(m.wrapAsResource(n)),
+			true);
+	}
+
+	/**
+	 * Finds the triples in the model graph with the given predicate and object,
+	 * which may be {@link Node#ANY}. Used to produce element collections.
+	 */
+	protected ExtendedIterator<Triple> findTriples(Node predicate, Node object) {
+		return model.getGraph().find(Node.ANY, predicate, object);
+	}
+
+	/**
+	 * Index from local names to the predicates with that local name, used to
+	 * resolve unprefixed property accesses without scanning every statement of
+	 * the subject. The index is computed on first use, and discarded when the
+	 * model is loaded again or disposed.
+	 */
+	protected Map<String, List<Property>> predicatesByLocalName;
+
+	/**
+	 * Returns the predicates used in the model with the given local name. If
+	 * more than one is returned, unprefixed access to that property may be
+	 * ambiguous. Predicates which only appear in inferred statements and are
+	 * not declared as properties may be missing (see {@link #collectPredicates()}
+	 * and {@link #isPredicateIndexComplete()}).
+	 */
+	public List<Property> getPredicatesByLocalName(String localName) {
+		if (predicatesByLocalName == null) {
+			Map<String, List<Property>> index = new HashMap<>();
+			for (Node node : collectPredicates()) {
+				Property predicate = model.getProperty(node.getURI());
+				index.computeIfAbsent(predicate.getLocalName(), k -> new ArrayList<>(1)).add(predicate);
+			}
+			predicatesByLocalName = index;
+		}
+		return predicatesByLocalName.getOrDefault(localName, Collections.emptyList());
+	}
+
+	/**
+	 * Returns {@code true} if {@link #getPredicatesByLocalName(String)} covers
+	 * every predicate in the model. This is the case if there is no reasoner,
+	 * or if the inferred closure has been materialised. Otherwise, the reasoner
+	 * may infer statements with predicates that are not in the index.
+	 */
+	public boolean isPredicateIndexComplete() {
+		return !(model.getBaseModel().getGraph() instanceof InfGraph);
+	}
+
+	/**
+	 * Returns the predicates used in the data and schema graphs, and the
+	 * properties declared in them. These are read from the graphs before any
+	 * inference, as listing the statements of the inferred model would compute
+	 * its whole closure. Declared properties and their super-properties cover
+	 * most predicates that only appear in inferred statements.
+	 */
+	protected Set<Node> collectPredicates() {
+		List<Graph> graphs = new ArrayList<>();
+		if (model.getBaseModel().getGraph() instanceof InfGraph infGraph) {
+			graphs.add(infGraph.getRawGraph());
+			graphs.add(getSchemaGraph());
+		} else {
+			// Without a reasoner, or with a materialised closure that needs no further inference
+			graphs.add(model.getBaseModel().getGraph());
+		}
+		for (OntModel subModel : model.listSubModels(true).toList()) {
+			graphs.add(subModel.getBaseModel().getGraph());
+		}
 
-		ResIterator itInstances = model.listResourcesWithProperty(RDF.type, typeR);
-		List<RDFModelElement> instances = new ArrayList<>();
-		while (itInstances.hasNext()) {
-			instances.add(createResource(itInstances.next()));
+		Set<Node> propertyTypes = Set.of(
+			RDF.Property.asNode(), OWL.ObjectProperty.asNode(),
+			OWL.DatatypeProperty.asNode(), OWL.AnnotationProperty.asNode());
+		Set<Node> predicates = new HashSet<>();
+		for (Graph graph : graphs) {
+			graph.find().forEachRemaining(t -> {
+				predicates.add(t.getPredicate());
+				if (t.getPredicate().equals(RDFS.subPropertyOf.asNode())) {
+					addIfURI(predicates, t.getSubject());
+					addIfURI(predicates, t.getObject());
+				} else if (t.getPredicate().equals(RDF.type.asNode()) && propertyTypes.contains(t.getObject())) {
+					addIfURI(predicates, t.getSubject());
+				}
+			});
 		}
+		return predicates;
+	}
 
-		return instances;
+	private static void addIfURI(Set<Node> nodes, Node node) {
+		if (node.isURI()) {
+			nodes.add(node);
+		}
+	}
+
+	/**
+	 * Returns the union of the schema models, without any inference. With TDB2
+	 * storage, only the named graphs of the schema documents are included.
+	 */
+	protected Graph getSchemaGraph() {
+		if (storageType == StorageType.TDB2) {
+			MultiUnion union = new MultiUnion();
+			for (String uri : schemaURIs) {
+				if (schemaModelSet.containsNamedModel(uri)) {
+					union.addGraph(getTDB2Graph(schemaModelSet, uri));
+				}
+			}
+			return union;
+		}
+		return schemaModelSet.getUnionModel().getGraph();
+	}
+
+	/**
+	 * Maximum number of property names whose accessors will be cached by
+	 * {@link #getPropertyAccessor(String)}.
+	 */
+	protected static final int PROPERTY_ACCESSOR_CACHE_SIZE = 1_024;
+
+	protected final Cache<String, RDFPropertyAccessor> propertyAccessorCache =
+		CacheBuilder.newBuilder().maximumSize(PROPERTY_ACCESSOR_CACHE_SIZE).build();
+
+	// Last seen version of the custom prefixes, used to invalidate derived information
+	private Map<String, String> customPrefixesSnapshot = Collections.emptyMap();
+	private int customPrefixesVersion = 0;
+
+	/**
+	 * Returns a number which changes every time that the custom prefixes are
+	 * found to have been modified. Information that depends on the prefixes
+	 * (e.g. qualified names) should be recomputed if this value changes.
+	 */
+	protected int getCustomPrefixesVersion() {
+		if (!customPrefixesSnapshot.equals(customPrefixesMap)) {
+			propertyAccessorCache.invalidateAll();
+			customPrefixesSnapshot = new HashMap<>(customPrefixesMap);
+			customPrefixesVersion++;
+		}
+		return customPrefixesVersion;
+	}
+
+	/**
+	 * Returns the parsed and resolved form of a property name. Results are
+	 * cached, and the cache is invalidated if {@link #getCustomPrefixesMap()}
+	 * has been changed since the last call.
+	 *
+	 * @throws IllegalArgumentException The property uses an unknown prefix.
+	 */
+	public RDFPropertyAccessor getPropertyAccessor(String property) {
+		getCustomPrefixesVersion();
+
+		RDFPropertyAccessor accessor = propertyAccessorCache.getIfPresent(property);
+		if (accessor == null) {
+			accessor = RDFPropertyAccessor.from(property, this::getNamespaceURI);
+			propertyAccessorCache.put(property, accessor);
+		}
+		return accessor;
+	}
+
+	/**
+	 * Bounded cache of the literals in the most preferred language for the
+	 * subjects and predicates accessed so far. It is recomputed if the language
+	 * preference changes, and discarded when the model is loaded again or disposed.
+	 */
+	protected RDFPreferredLanguageIndex preferredLanguageIndex;
+
+	public RDFPreferredLanguageIndex getPreferredLanguageIndex() {
+		RDFPreferredLanguageIndex index = preferredLanguageIndex;
+		if (index == null || !index.isFor(languagePreference)) {
+			index = new RDFPreferredLanguageIndex(model, languagePreference);
+			preferredLanguageIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Maximum number of result tuples that will be cached across all the queries
+	 * run by {@link #query(String, Map)} and {@link #construct(String, Map)}.
+	 * Each query counts as at least one tuple, so queries without results are
+	 * also bounded.
+	 */
+	protected static final long QUERY_RESULT_CACHE_WEIGHT = 100_000;
+
+	protected record QueryCacheKey(boolean construct, String query, Map<String, Node> bindings, int prefixesVersion) {}
+
+	protected final Cache<QueryCacheKey, List<EolTuple>> queryResultCache = CacheBuilder.newBuilder()
+		.maximumWeight(QUERY_RESULT_CACHE_WEIGHT)
+		.weigher((QueryCacheKey key, List<EolTuple> results) -> results.size() + 1)
+		.build();
+
+	public List<EolTuple> query(String sparql) {
+		return query(sparql, Collections.emptyMap());
+	}
+
+	/**
+	 * <p>
+	 * Runs a SPARQL SELECT query against the loaded model, and returns a tuple
+	 * for each solution. The tuples map the variable names to resources, to
+	 * the values of literals (or {@link RDFLiteral}s if the variable name ends
+	 * with {@code _literal}), or to {@code null} if the variable is unbound.
+	 * </p>
+	 *
+	 * <p>
+	 * The query may use the prefixes of the model without declaring them. The
+	 * bindings replace variables in the query before it is run: their values
+	 * may be resources, literals, or Java values (converted to typed
+	 * literals). Results are cached by query and bindings until the model is
+	 * loaded again or disposed.
+	 * </p>
+	 */
+	public List<EolTuple> query(String sparql, Map<String, ?> bindings) {
+		return runQuery(false, sparql, bindings);
+	}
+
+	public List<EolTuple> construct(String sparql) {
+		return construct(sparql, Collections.emptyMap());
+	}
+
+	/**
+	 * Runs a SPARQL CONSTRUCT query against the loaded model, and returns a
+	 * tuple with the {@code subject}, {@code predicate} and {@code object} of
+	 * each constructed statement. Prefixes, bindings and caching work as in
+	 * {@link #query(String, Map)}.
+	 */
+	public List<EolTuple> construct(String sparql, Map<String, ?> bindings) {
+		return runQuery(true, sparql, bindings);
+	}
+
+	protected List<EolTuple> runQuery(boolean construct, String sparql, Map<String, ?> bindings) {
+		Map<String, Node> nodeBindings = new HashMap<>();
+		for (Entry<String, ?> entry : bindings.entrySet()) {
+			String varName = entry.getKey();
+			if (varName.startsWith("?") || varName.startsWith("$")) {
+				varName = varName.substring(1);
+			}
+			nodeBindings.put(varName, toQueryNode(entry.getValue()).asNode());
+		}
+
+		QueryCacheKey key = new QueryCacheKey(construct, sparql, nodeBindings, getCustomPrefixesVersion());
+		List<EolTuple> results = queryResultCache.getIfPresent(key);
+		if (results == null) {
+			results = Collections.unmodifiableList(construct
+				? executeConstruct(parseQuery(sparql), nodeBindings)
+				: executeSelect(parseQuery(sparql), nodeBindings));
+			queryResultCache.put(key, results);
+		}
+
+		// Tuples are copied so changes by the caller do not reach the cache
+		EolSequence<EolTuple> copy = new EolSequence<>();
+		for (EolTuple result : results) {
+			EolTuple tuple = new EolTuple();
+			tuple.putAll(result);
+			copy.add(tuple);
+		}
+		return copy;
+	}
+
+	/**
+	 * Parses a SPARQL query, where the prefixes of the model and the custom
+	 * prefixes are available without being declared.
+	 */
+	protected Query parseQuery(String sparql) {
+		Query query = new Query();
+		query.getPrefixMapping().setNsPrefixes(model.getNsPrefixMap());
+		query.getPrefixMapping().setNsPrefixes(customPrefixesMap);
+		QueryFactory.parse(query, sparql, null, Syntax.syntaxARQ);
+		return query;
+	}
+
+	protected List<EolTuple> executeSelect(Query query, Map<String, Node> bindings) {
+		if (!query.isSelectType()) {
+			throw new IllegalArgumentException("Only SELECT queries can be run with query(): use construct() for CONSTRUCT queries");
+		}
+
+		List<EolTuple> results = new ArrayList<>();
+		try (QueryExecution exec = createQueryExecution(query, bindings)) {
+			ResultSet resultSet = exec.execSelect();
+			List<String> varNames = resultSet.getResultVars();
+			while (resultSet.hasNext()) {
+				QuerySolution solution = resultSet.next();
+				EolTuple tuple = new EolTuple();
+				for (String varName : varNames) {
+					RDFNode node = solution.get(varName);
+					tuple.put(varName, node == null ? null : fromQueryNode(node, varName.endsWith(RDFResource.LITERAL_SUFFIX)));
+				}
+				results.add(tuple);
+			}
+		}
+		return results;
+	}
+
+	protected List<EolTuple> executeConstruct(Query query, Map<String, Node> bindings) {
+		if (!query.isConstructType()) {
+			throw new IllegalArgumentException("Only CONSTRUCT queries can be run with construct(): use query() for SELECT queries");
+		}
+
+		List<EolTuple> results = new ArrayList<>();
+		try (QueryExecution exec = createQueryExecution(query, bindings)) {
+			for (StmtIterator itStmt = exec.execConstruct().listStatements(); itStmt.hasNext(); ) {
+				Statement stmt = itStmt.next();
+				EolTuple tuple = new EolTuple();
+				tuple.put("subject", fromQueryNode(stmt.getSubject(), false));
+				tuple.put("predicate", fromQueryNode(stmt.getPredicate(), false));
+				tuple.put("object", fromQueryNode(stmt.getObject(), false));
+				results.add(tuple);
+			}
+		}
+		return results;
+	}
+
+	protected QueryExecution createQueryExecution(Query query, Map<String, Node> bindings) {
+		QueryExecutionDatasetBuilder builder = QueryExecution.model(model).query(query);
+		for (Entry<String, Node> entry : bindings.entrySet()) {
+			builder.substitution(entry.getKey(), model.asRDFNode(entry.getValue()));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Converts a binding into an RDF node. Literals are only matched if they
+	 * have the same datatype, so Java numbers use the datatypes that Turtle
+	 * gives to plain numbers: integral values become {@code xsd:integer}s, and
+	 * finite reals become {@code xsd:decimal}s. Other values use Jena's default
+	 * datatype for their class.
+	 */
+	protected RDFNode toQueryNode(Object value) {
+		if (value instanceof RDFResource) {
+			return ((RDFResource) value).getResource();
+		} else if (value instanceof RDFLiteral) {
+			return ((RDFLiteral) value).getLiteral();
+		} else if (value instanceof RDFNode) {
+			return (RDFNode) value;
+		} else if (value == null) {
+			throw new IllegalArgumentException("Query bindings cannot be null");
+		} else if (value instanceof Integer || value instanceof Long || value instanceof Short
+				|| value instanceof Byte || value instanceof BigInteger) {
+			return ResourceFactory.createTypedLiteral(value.toString(), XSDDatatype.XSDinteger);
+		} else if (value instanceof BigDecimal) {
+			return ResourceFactory.createTypedLiteral(((BigDecimal) value).toPlainString(), XSDDatatype.XSDdecimal);
+		} else if ((value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue())) {
+			// Float.toString keeps the shortest digits of the float, rather than those of its double value
+			return ResourceFactory.createTypedLiteral(new BigDecimal(value.toString()).toPlainString(), XSDDatatype.XSDdecimal);
+		}
+		return ResourceFactory.createTypedLiteral(value);
+	}
+
+	protected Object fromQueryNode(RDFNode node, boolean rawLiteral) {
+		// Nodes from constructed models are moved to the loaded model
+		node = model.asRDFNode(node.asNode());
+		if (node.isLiteral()) {
+			return rawLiteral ? new RDFLiteral(node.asLiteral(), this) : node.asLiteral().getValue();
+		}
+		return getCanonicalResource(node.asResource());
 	}
 
 	protected Resource getTypeResourceByName(String type) throws EolModelElementTypeNotFoundException {
+		Resource typeResource = findTypeResourceByName(type);
+		if (typeResource == null) {
+			throw new EolModelElementTypeNotFoundException(this.getName(), type);
+		}
+		return typeResource;
+	}
+
+	/**
+	 * Returns the type resource with the given name, which may be prefixed or
+	 * not, or {@code null} if it does not have any instances. For unprefixed
+	 * names, if several namespaces have a type with that local name, the first
+	 * one found in the model is returned.
+	 */
+	protected Resource findTypeResourceByName(String type) {
 		RDFQualifiedName qName = RDFQualifiedName.from(type, this::getNamespaceURI);
+		TypeIndex index = getTypeIndex();
 
 		if (qName.namespaceURI == null) {
-			// A namespace URI hasn't been found: we need to iterate through all known types
-			NodeIterator itAvailableTypes = model.listObjectsOfProperty(RDF.type);
-			while (itAvailableTypes.hasNext()) {
-				RDFNode typeNode = itAvailableTypes.next();
-				if (typeNode instanceof Resource) {
-					Resource typeResource = (Resource) typeNode;
-					if ((qName.namespaceURI == null || qName.namespaceURI.equals(typeResource.getNameSpace())) && qName.localName.equals(typeResource.getLocalName())) {
-						return typeResource;
-					}
-				}
-			}
+			// A namespace URI hasn't been found: we need to look through all known types
+			return index.getByLocalName(qName.localName);
 		} else {
 			// We known both namespace URI and local name: ask directly for it
-			Resource typeResource = model.getResource(qName.namespaceURI + qName.localName);
-
-			// Note: Jena will happily create the resource if it doesn't exist already, so
-			// we at least check that there is at least one instance of it.
-			ResIterator itInstances = model.listSubjectsWithProperty(RDF.type, typeResource);
-			if (itInstances.hasNext()) {
-				return typeResource;
-			}
+			return index.getByURI(qName.namespaceURI + qName.localName);
 		}
+	}
 
-		throw new EolModelElementTypeNotFoundException(this.getName(), type);
+	protected TypeIndex getTypeIndex() {
+		if (typeIndex == null) {
+			typeIndex = new TypeIndex(model);
+		}
+		return typeIndex;
 	}
 
 	@Override
@@ -377,39 +1358,509 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 			return;
 		}
 
+		typeIndex = null;
+		predicatesByLocalName = null;
+		resourceRegistry = createResourceRegistry();
+		propertyAccessorCache.invalidateAll();
+		preferredLanguageIndex = null;
+		queryResultCache.invalidateAll();
+		modelValidated = false;
+		releaseStorage();
 		try {
 			if (dataURIs.isEmpty()) {
 				throw new IllegalStateException("No file path has been set");
 			}
-			
-			schemaModelSet = DatasetFactory.createNamed(schemaURIs);
-			Model schemaUnionModel = schemaModelSet.getUnionModel(); // READ-ONLY
 
-			// If a schema model has been loaded assume need for a reasoner using Jena's default OWL
-			if (schemaURIs.size() >= 0 && reasonerType == ReasonerType.NONE) {
-				this.setReasonerType(ReasonerType.OWL_FULL);
+			RDFDatasetLoader loader = createDatasetLoader();
+			this.datasetLoader = loader;
+			this.importResolver = createImportResolver(loader);
+			this.closureImportLocations = Collections.emptyList();
+			if (storageType == StorageType.SNAPSHOT) {
+				// Everything is already in the snapshot, including any inferred statements and imports
+				this.model = ModelFactory.createOntologyModel(
+					createMaterialisedOntModelSpec(),
+					ModelFactory.createModelForGraph(loadSnapshot(loader)));
+			} else {
+				this.model = createOntModel(loader);
 			}
 
-			dataModelSet = DatasetFactory.createNamed(dataURIs);
-			Model dataUnionModel = dataModelSet.getUnionModel(); // READ-ONLY
+			// Weaker reasoners may not infer rdf:type owl:Class for every type in use
+			this.model.setStrictMode(false);
 
-			//Create an OntModel to handle the data model being loaded or inferred from data and schema
-			if (reasonerType == ReasonerType.NONE) {
-				// Only the OntModel bits are added to the dataModel being loaded.
-				this.model = ModelFactory.createOntologyModel(OntModelSpec.OWL_DL_MEM_RULE_INF, dataUnionModel);
+		} catch (Exception ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
+	}
+
+	/**
+	 * Loads the data and schema documents into {@link #dataModelSet} and
+	 * {@link #schemaModelSet}, and creates the ontology model to be queried.
+	 */
+	protected OntModel createOntModel(RDFDatasetLoader loader) throws IOException {
+		Reasoner reasoner = reasonerType.getReasoner();
+		Model schemaUnionModel = null, dataUnionModel;
+		if (storageType == StorageType.TDB2) {
+			Dataset tdbDataset = connectTDB2Dataset();
+			schemaModelSet = tdbDataset;
+			dataModelSet = tdbDataset;
+
+			/*
+			 * TDB2 requires all access to happen inside a transaction. The read
+			 * transaction is kept open until the model is disposed: as TDB2
+			 * transactions are bound to a thread, the graphs can only be read
+			 * from the thread that loaded them (see getTDB2Graph).
+			 */
+			tdbDataset.begin(ReadWrite.READ);
+			schemaUnionModel = createUnionOfNamedModels(loader, tdbDataset, schemaURIs);
+			dataUnionModel = createUnionOfNamedModels(loader, tdbDataset, dataURIs);
+		} else {
+			if (reasoner == null) {
+				schemaModelSet = loader.loadNamed(schemaURIs);
+				schemaUnionModel = schemaModelSet.getUnionModel(); // READ-ONLY
 			} else {
-				// OntModel bits are added and the reasoner will add schema bits to the dataModel being loaded.
-				Reasoner reasoner = ReasonerRegistry.getOWLReasoner();
-				InfModel infmodel = ModelFactory.createInfModel(reasoner, schemaUnionModel, dataUnionModel);
-				this.model = ModelFactory.createOntologyModel(OntModelSpec.OWL_DL_MEM_RULE_INF, infmodel);
+				// Schema documents are only loaded if there is no reusable bound reasoner (see bindSchema)
+				schemaModelSet = DatasetFactory.create();
 			}
 
-		} catch (Exception ex) {
-			throw new EolModelLoadingException(ex, this);
+			if (mergeDataModels) {
+				// The default model has every data document in a single graph
+				dataModelSet = loader.loadMerged(dataURIs);
+				dataUnionModel = dataModelSet.getDefaultModel();
+			} else {
+				dataModelSet = loader.loadNamed(dataURIs);
+				dataUnionModel = dataModelSet.getUnionModel(); // READ-ONLY
+			}
+		}
+
+		// Create an OntModel to handle the data model being loaded or inferred from data and schema
+		if (reasoner == null) {
+			// No inference: schema models are simply added as read-only submodels
+			OntModel ontModel = ModelFactory.createOntologyModel(getOntModelSpec(), dataUnionModel);
+			if (!schemaURIs.isEmpty()) {
+				ontModel.addSubModel(schemaUnionModel);
+			}
+			return ontModel;
+		} else if (materialiseInference) {
+			// Queries will go to a plain copy of everything the reasoner can infer
+			return ModelFactory.createOntologyModel(
+				createMaterialisedOntModelSpec(),
+				materialiseInference(loader, reasoner, schemaUnionModel, dataUnionModel));
+		} else {
+			// The reasoner will add schema bits to the dataModel being loaded.
+			InfModel infmodel = ModelFactory.createInfModel(bindSchema(reasoner, schemaUnionModel), dataUnionModel);
+			return ModelFactory.createOntologyModel(getOntModelSpec(), infmodel);
+		}
+	}
+
+	/**
+	 * Maps the snapshot at {@link #snapshotLocation}. If there is no snapshot,
+	 * or if it was written for other documents or settings, the ontology model
+	 * is created as usual and all its statements are written into a new
+	 * snapshot first.
+	 *
+	 * The mapped snapshot has no reasoner to validate it with, so the ontology
+	 * model is validated before it is written. Snapshots are only written once
+	 * they pass validation, and the validation mode is part of their label, so
+	 * reused snapshots are not validated again.
+	 */
+	protected RDFSnapshotGraph loadSnapshot(RDFDatasetLoader loader) throws IOException {
+		if (snapshotLocation == null) {
+			throw new IllegalStateException("Snapshot storage requires a snapshot file");
+		}
+
+		Path fSnapshot = Paths.get(snapshotLocation);
+		String label = getSnapshotLabel();
+		if (Files.isRegularFile(fSnapshot)) {
+			try {
+				RDFSnapshotGraph snapshot = RDFSnapshotGraph.open(fSnapshot);
+				if (isSnapshotUpToDate(label, snapshot.getLabel())) {
+					lastValidationReport = "The snapshot passed validation when it was written";
+					modelValidated = true;
+					return snapshot;
+				}
+			} catch (IOException ex) {
+				System.err.printf("Replacing unreadable snapshot %s: %s%n", fSnapshot, ex.getMessage());
+			}
+		}
+
+		OntModel ontModel = createOntModel(loader);
+		if (!modelValidated) {
+			validateModel(ontModel);
+		}
+		StringBuilder sbLabel = new StringBuilder(label);
+		Set<String> importLocations = new LinkedHashSet<>(importResolver.getImportLocations());
+		importLocations.addAll(closureImportLocations);
+		for (String location : importLocations) {
+			appendSnapshotSource(sbLabel, SNAPSHOT_IMPORT, location);
+		}
+		RDFSnapshotGraph.write(RDFCompactGraph.copyOf(ontModel.getGraph()), fSnapshot, sbLabel.toString());
+
+		// The parsed documents are no longer needed
+		schemaModelSet = DatasetFactory.create();
+		dataModelSet = DatasetFactory.create();
+		return RDFSnapshotGraph.open(fSnapshot);
+	}
+
+	/**
+	 * Returns a description of the documents and settings that a snapshot is
+	 * written from, which is stored in the snapshot to tell if it is out of
+	 * date. Local documents are described by their size and modification time:
+	 * remote documents are assumed not to change. The imported documents are
+	 * only known once the ontology model has been created, so they are added
+	 * to the stored label when the snapshot is written.
+	 */
+	protected String getSnapshotLabel() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getClosureSettings());
+		for (String uri : schemaURIs) {
+			appendSnapshotSource(sb, PROPERTY_SCHEMA_URIS, uri);
+		}
+		for (String uri : dataURIs) {
+			appendSnapshotSource(sb, PROPERTY_DATA_URIS, uri);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Checks if a snapshot with the given stored label was written from the
+	 * documents and settings described by the current label, and if the
+	 * documents that were imported at the time have not changed since.
+	 */
+	protected boolean isSnapshotUpToDate(String label, String storedLabel) throws IOException {
+		if (!storedLabel.startsWith(label)) {
+			return false;
+		}
+
+		StringBuilder sb = new StringBuilder(label);
+		String importPrefix = SNAPSHOT_IMPORT + "=";
+		for (String line : storedLabel.substring(label.length()).split("\n")) {
+			if (line.isEmpty()) {
+				continue;
+			} else if (!line.startsWith(importPrefix)) {
+				return false;
+			}
+			int idxSpace = line.indexOf(' ');
+			String location = line.substring(importPrefix.length(), idxSpace < 0 ? line.length() : idxSpace);
+			appendSnapshotSource(sb, SNAPSHOT_IMPORT, location);
+		}
+		return sb.toString().equals(storedLabel);
+	}
+
+	/**
+	 * Describes the import mode and catalog, which change the statements that
+	 * are imported into the ontology model (and inferred from them).
+	 */
+	private void appendImportSettings(StringBuilder sb) throws IOException {
+		sb.append(PROPERTY_IMPORT_MODE).append('=').append(importMode.getId()).append('\n');
+		appendSnapshotSource(sb, PROPERTY_IMPORT_CATALOG, importCatalogLocation);
+	}
+
+	private static final String SNAPSHOT_IMPORT = "import";
+
+	private void appendSnapshotSource(StringBuilder sb, String role, String uri) throws IOException {
+		if (uri == null) {
+			return;
+		}
+		sb.append(role).append('=').append(uri);
+		Path path = RDFLoadCache.toLocalPath(uri);
+		if (path != null && Files.isRegularFile(path)) {
+			BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+			sb.append(' ').append(attrs.size()).append('@').append(attrs.lastModifiedTime().toMillis());
+		}
+		sb.append('\n');
+	}
+
+	/**
+	 * Computes the closure of the ontology model that would otherwise be used
+	 * for querying, reusing the one in {@link #closureCacheLocation} if the
+	 * documents and settings have not changed since it was cached.
+	 *
+	 * The materialised closure has no reasoner to validate it with, so the
+	 * inferred model is validated before it is materialised. Closures are only
+	 * cached once they pass validation, and the validation mode is part of their
+	 * key, so cached closures are not validated again.
+	 */
+	protected Model materialiseInference(RDFDatasetLoader loader, Reasoner reasoner, Model schemaUnionModel, Model dataUnionModel) throws IOException {
+		RDFClosureCache.Inference inference = () -> {
+			InfModel infmodel = ModelFactory.createInfModel(bindSchema(reasoner, schemaUnionModel), dataUnionModel);
+			OntModel inferred = ModelFactory.createOntologyModel(getOntModelSpec(), infmodel);
+			validateModel(inferred);
+			return inferred;
+		};
+		if (closureCacheLocation == null) {
+			return RDFClosureCache.materialise(inference.infer());
+		}
+
+		RDFClosureCache cache = new RDFClosureCache(Paths.get(closureCacheLocation), loadCacheFormat);
+		Model closure = cache.load(getClosureSettings(), schemaURIs, dataURIs, inference, importResolver::getImportLocations);
+		closureImportLocations = cache.getImportLocations();
+		if (!modelValidated) {
+			lastValidationReport = "The inference closure passed validation when it was cached";
+			modelValidated = true;
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns a description of the options that change a materialised closure
+	 * or the outcome of its validation, used as part of the key of the closure
+	 * cache and of the label of snapshots. Besides the reasoner, these include
+	 * the import settings (as imports are part of the closure) and the
+	 * validation mode.
+	 */
+	protected String getClosureSettings() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getReasonerSettings()).append('\n');
+		sb.append(PROPERTY_SINGLE_INFERENCE_LAYER).append('=').append(singleInferenceLayer).append('\n');
+		appendImportSettings(sb);
+		sb.append(PROPERTY_VALIDATE_MODEL).append('=').append(validationMode.getId()).append('\n');
+		return sb.toString();
+	}
+
+	/**
+	 * Binds the reasoner to the schema models. With in-memory storage, the bound
+	 * reasoner is shared through the {@link RDFSchemaReasonerCache} with every
+	 * model using the same reasoner and unchanged schema documents, which are
+	 * only parsed if no such reasoner is available yet. The schema documents are
+	 * loaded through their own loader, as the cache may keep them for longer
+	 * than this model.
+	 */
+	protected Reasoner bindSchema(Reasoner reasoner, Model schemaUnionModel) throws IOException {
+		if (storageType == StorageType.TDB2) {
+			return reasoner.bindSchema(schemaUnionModel);
+		}
+
+		BoundSchema bound = RDFSchemaReasonerCache.bind(getReasonerSettings(), schemaURIs, reasoner, createDatasetLoader());
+		this.boundSchema = bound;
+		schemaModelSet = bound.getSchema();
+		return bound.getReasoner();
+	}
+
+	/**
+	 * Returns a description of the options that change the inferred statements,
+	 * used as part of the key of the reasoner and closure caches.
+	 */
+	protected String getReasonerSettings() {
+		return PROPERTY_REASONER + "=" + reasonerType.getId();
+	}
+
+	/**
+	 * Returns the specification for the ontology model that wraps the (possibly
+	 * inferred) data, resolving its imports through {@link #importResolver}.
+	 */
+	protected OntModelSpec getOntModelSpec() {
+		return importResolver.createSpec(singleInferenceLayer ? OntModelSpec.OWL_MEM : reasonerType.getOntModelSpec());
+	}
+
+	/**
+	 * Creates the resolver for the {@code owl:imports} of the ontology model,
+	 * using the import mode, catalog and cache that have been configured.
+	 * Imports are loaded through the same loader as the other documents. The
+	 * resolver is closed when the model is disposed.
+	 */
+	protected RDFImportResolver createImportResolver(RDFDatasetLoader loader) throws IOException {
+		RDFImportResolver resolver = new RDFImportResolver(importMode, loader);
+		resolver.setCatalog(importCatalogLocation);
+		if (importCache) {
+			resolver.setImportCache(RDFSharedGraphCache.getInstance());
+		}
+		return resolver;
+	}
+
+	/**
+	 * Returns a specification for wrapping a materialised closure: it has no
+	 * reasoner of its own, and it does not load imports again, as their
+	 * statements are already part of the closure.
+	 */
+	protected OntModelSpec createMaterialisedOntModelSpec() {
+		OntDocumentManager docManager = new OntDocumentManager();
+		docManager.setProcessImports(false);
+
+		OntModelSpec spec = new OntModelSpec(OntModelSpec.OWL_MEM);
+		spec.setDocumentManager(docManager);
+		return spec;
+	}
+
+	/**
+	 * Creates the loader for the data and schema documents in memory, using the
+	 * graph implementation, load cache, shared graph cache and number of threads
+	 * that have been configured. The loader is closed when the model is disposed.
+	 */
+	protected RDFDatasetLoader createDatasetLoader() {
+		RDFDatasetLoader loader = new RDFDatasetLoader();
+		if (loadThreads > 0) {
+			loader.setThreads(loadThreads);
+		}
+		loader.setGraphImplementation(graphImplementation);
+		if (loadCacheLocation != null) {
+			RDFLoadCache loadCache = new RDFLoadCache(Paths.get(loadCacheLocation), loadCacheFormat);
+			loadCache.setGraphImplementation(graphImplementation);
+			loader.setLoadCache(loadCache);
+		}
+		if (sharedGraphCache) {
+			// This driver never modifies the loaded graphs, so they can be shared
+			loader.setSharedGraphCache(RDFSharedGraphCache.getInstance());
+		}
+		loader.setCompactGraphs(storageType == StorageType.COMPACT || storageType == StorageType.SNAPSHOT);
+		return loader;
+	}
+
+	/**
+	 * Name of the graph in the TDB2 database which records the version of each
+	 * local document when it was loaded.
+	 */
+	protected static final String TDB_SOURCES_GRAPH = "urn:x-epsilon:rdf:sources";
+
+	/**
+	 * Predicate which links each document in {@link #TDB_SOURCES_GRAPH} to its
+	 * size and modification time when it was loaded.
+	 */
+	protected static final String TDB_SOURCE_VERSION = "urn:x-epsilon:rdf:sourceVersion";
+
+	/**
+	 * Connects to the TDB2 database at {@link #tdbLocation}, bulk loading any
+	 * data or schema document that is not yet in the database as a named graph.
+	 * Local documents whose size or modification time changed since they were
+	 * loaded (as recorded in {@link #TDB_SOURCES_GRAPH}) are loaded again, while
+	 * remote documents are only loaded if they are missing. Documents available
+	 * from an {@link RDFGraphProvider} are not copied.
+	 */
+	protected Dataset connectTDB2Dataset() {
+		if (tdbLocation == null) {
+			throw new IllegalStateException("TDB2 storage requires a database location");
+		}
+
+		Dataset dataset = TDB2Factory.connectDataset(tdbLocation);
+		Map<String, String> staleURIs = dataset.calculateRead(() -> {
+			Map<String, String> stale = new LinkedHashMap<>();
+			Graph sources = dataset.getNamedModel(TDB_SOURCES_GRAPH).getGraph();
+			for (List<String> uris : List.of(dataURIs, schemaURIs)) {
+				for (String uri : uris) {
+					if (RDFDatasetLoader.isProvided(uri)) {
+						continue;
+					}
+					String version = getSourceVersion(uri);
+					if (!dataset.containsNamedModel(uri) || version != null && !version.equals(getLoadedVersion(sources, uri))) {
+						stale.put(uri, version);
+					}
+				}
+			}
+			return stale;
+		});
+
+		for (Entry<String, String> entry : staleURIs.entrySet()) {
+			final String uri = entry.getKey();
+			final Node graphName = NodeFactory.createURI(uri);
+			dataset.executeWrite(() -> dataset.asDatasetGraph().removeGraph(graphName));
+
+			DataLoader loader = LoaderFactory.createLoader(
+				dataset.asDatasetGraph(), graphName, LoaderOps.outputToLog());
+			loader.startBulk();
+			try {
+				loader.load(uri);
+				loader.finishBulk();
+			} catch (RuntimeException ex) {
+				loader.finishException(ex);
+				throw ex;
+			}
+
+			if (entry.getValue() != null) {
+				dataset.executeWrite(() -> {
+					Graph sources = dataset.getNamedModel(TDB_SOURCES_GRAPH).getGraph();
+					Node subject = NodeFactory.createURI(uri);
+					Node predicate = NodeFactory.createURI(TDB_SOURCE_VERSION);
+					sources.remove(subject, predicate, Node.ANY);
+					sources.add(Triple.create(subject, predicate, NodeFactory.createLiteralString(entry.getValue())));
+				});
+			}
+		}
+
+		return dataset;
+	}
+
+	/**
+	 * Returns the size and modification time of a local document, or
+	 * {@code null} if it is a remote document or it does not exist.
+	 */
+	protected static String getSourceVersion(String uri) {
+		Path source = RDFLoadCache.toLocalPath(uri);
+		if (source == null || !Files.isRegularFile(source)) {
+			return null;
+		}
+		try {
+			BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+			return attrs.size() + "/" + attrs.lastModifiedTime().toMillis();
+		} catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private static String getLoadedVersion(Graph sources, String uri) {
+		ExtendedIterator<Triple> it = sources.find(NodeFactory.createURI(uri), NodeFactory.createURI(TDB_SOURCE_VERSION), Node.ANY);
+		try {
+			return it.hasNext() ? it.next().getObject().getLiteralLexicalForm() : null;
+		} finally {
+			it.close();
+		}
+	}
+
+	/**
+	 * Returns the named graph with the given URI from a TDB2 dataset. The graph
+	 * is read within the transaction started by {@link #loadModel()}, which is
+	 * bound to the current thread: reading it from another thread (e.g. from a
+	 * parallel EOL operation) fails with an {@link IllegalStateException}.
+	 */
+	protected Graph getTDB2Graph(Dataset dataset, String uri) {
+		return new RDFThreadBoundGraph(dataset.getNamedModel(uri).getGraph(), Thread.currentThread());
+	}
+
+	/**
+	 * Returns a read-only union of the named models with the given URIs. Unlike
+	 * {@link Dataset#getUnionModel()}, this ignores any other named models in
+	 * the dataset (e.g. documents loaded into a TDB2 database by other runs).
+	 * Documents available from an {@link RDFGraphProvider} are taken from it.
+	 */
+	protected Model createUnionOfNamedModels(RDFDatasetLoader loader, Dataset dataset, List<String> uris) throws IOException {
+		MultiUnion union = new MultiUnion();
+		for (String uri : uris) {
+			if (RDFDatasetLoader.isProvided(uri)) {
+				union.addGraph(loader.loadModel(uri).getGraph());
+			} else {
+				union.addGraph(getTDB2Graph(dataset, uri));
+			}
+		}
+		return ModelFactory.createModelForGraph(union);
+	}
+
+	/**
+	 * Ends the read transaction on the TDB2 database, if one was started by
+	 * {@link #loadModel()} from this thread.
+	 */
+	protected void releaseStorage() {
+		if (dataModelSet != null && dataModelSet.supportsTransactions() && dataModelSet.isInTransaction()) {
+			dataModelSet.end();
+		}
+		if (datasetLoader != null) {
+			// Releases any shared graphs used by this model
+			datasetLoader.close();
+			datasetLoader = null;
+		}
+		if (importResolver != null) {
+			importResolver.close();
+			importResolver = null;
+		}
+		if (boundSchema != null) {
+			// Only releases the schema graphs if the bound reasoner was not cached
+			boundSchema.close();
+			boundSchema = null;
 		}
 	}
 
 	private String lastValidationReport = null;
+
+	// Set once the loaded model has been validated (e.g. before materialising its inference)
+	private boolean modelValidated;
+
 	public String getReportForLastValidation() {
 		if (null == lastValidationReport) {
 			return "Validation has not been run yet";
@@ -419,8 +1870,15 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 	}
 	
 	protected void validateModel() throws Exception {
-		RDFModelValidationReport report = validationMode.validate(this.model);
+		if (!modelValidated) {
+			validateModel(this.model);
+		}
+	}
+
+	protected void validateModel(OntModel ontModel) {
+		RDFModelValidationReport report = validationMode.validate(ontModel);
 		this.lastValidationReport = report.getText();
+		this.modelValidated = true;
 		if (!report.isValid()) {
 			throw new RDFValidationException(report.getText());
 		}
@@ -436,7 +1894,14 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 
 	@Override
 	protected void disposeModel() {
+		releaseStorage();
 		model = null;
+		typeIndex = null;
+		predicatesByLocalName = null;
+		resourceRegistry = createResourceRegistry();
+		propertyAccessorCache.invalidateAll();
+		preferredLanguageIndex = null;
+		queryResultCache.invalidateAll();
 	}
 
 	@Override
@@ -451,16 +1916,10 @@ public class RDFModel extends CachedModel<RDFModelElement> {
 
 	@Override
 	public Collection<String> getAllTypeNamesOf(Object instance) {
-		List<String> types = new ArrayList<>();
-
 		if (instance instanceof RDFResource) {
-			RDFResource res = (RDFResource) instance;
-			for (RDFResource t : res.getTypes()) {
-				types.add(getQualifiedTypeName(t));
-			}
+			return ((RDFResource) instance).getQualifiedTypeNames();
 		}
-
-		return types;
+		return Collections.emptyList();
 	}
 
 	public List<String> getDataUris() {
@@ -0,0 +1,154 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.StmtIterator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * <p>
+ * Index from (subject, predicate) pairs to the literals in the most preferred
+ * language available, according to a language preference. If there are no
+ * literals in a preferred language, the untagged literals are used instead.
+ * </p>
+ *
+ * <p>
+ * Entries are computed on demand from the statements of the subject with the
+ * predicate, and the most recently used ones are kept in a bounded cache (see
+ * {@link #ENTRY_CACHE_SIZE}), so the memory used by the index does not grow
+ * with the size of the model. The index is only valid for the language
+ * preference it was created with: see {@link #isFor(List)}.
+ * </p>
+ */
+public class RDFPreferredLanguageIndex {
+
+	/**
+	 * Best literals of a predicate for a subject.
+	 */
+	public static class Entry {
+		/**
+		 * Position of the language of the {@link #literals} in the preference,
+		 * where untagged literals are ranked after all the preferred languages.
+		 * If no literals were found in a preferred language or untagged, this
+		 * is {@link Integer#MAX_VALUE}.
+		 */
+		int rank = Integer.MAX_VALUE;
+
+		final List<Literal> literals = new ArrayList<>(1);
+
+		/**
+		 * If {@code true}, some values are resources. In that case, the
+		 * preferred languages should not be used to filter the values.
+		 */
+		boolean hasResources;
+
+		public int getRank() {
+			return rank;
+		}
+
+		public List<Literal> getLiterals() {
+			return Collections.unmodifiableList(literals);
+		}
+
+		public boolean hasResources() {
+			return hasResources;
+		}
+	}
+
+	/**
+	 * Maximum number of (subject, predicate) pairs whose entries will be cached.
+	 */
+	protected static final int ENTRY_CACHE_SIZE = 10_000;
+
+	// Cached in place of a null entry, for subjects without values for the predicate
+	private static final Entry NO_VALUES = new Entry();
+
+	private record EntryKey(Node subject, Property predicate) {}
+
+	private final Model model;
+	private final List<String> languagePreference;
+	private final Cache<EntryKey, Entry> entries = CacheBuilder.newBuilder().maximumSize(ENTRY_CACHE_SIZE).build();
+
+	public RDFPreferredLanguageIndex(Model model, List<String> languagePreference) {
+		this.model = model;
+		this.languagePreference = new ArrayList<>(languagePreference);
+	}
+
+	/**
+	 * Returns {@code true} if this index was computed for the given language
+	 * preference.
+	 */
+	public boolean isFor(List<String> languagePreference) {
+		return this.languagePreference.equals(languagePreference);
+	}
+
+	/**
+	 * Returns the best literals of the predicate for the subject, or
+	 * {@code null} if the subject does not have any values for the predicate.
+	 */
+	public Entry get(Resource subject, Property predicate) {
+		final EntryKey key = new EntryKey(subject.asNode(), predicate);
+		Entry entry = entries.getIfPresent(key);
+		if (entry == null) {
+			entry = computeEntry(subject, predicate);
+			entries.put(key, entry);
+		}
+		return entry == NO_VALUES ? null : entry;
+	}
+
+	private Entry computeEntry(Resource subject, Property predicate) {
+		Entry entry = NO_VALUES;
+		for (StmtIterator it = model.listStatements(subject, predicate, (RDFNode) null); it.hasNext(); ) {
+			if (entry == NO_VALUES) {
+				entry = new Entry();
+			}
+
+			RDFNode object = it.next().getObject();
+			if (object.isLiteral()) {
+				Literal literal = object.asLiteral();
+				int rank = getLanguageRank(literal.getLanguage());
+				if (rank >= 0 && rank <= entry.rank) {
+					if (rank < entry.rank) {
+						entry.rank = rank;
+						entry.literals.clear();
+					}
+					entry.literals.add(literal);
+				}
+			} else {
+				entry.hasResources = true;
+			}
+		}
+		return entry;
+	}
+
+	// Lower ranks are better: untagged literals rank after all preferred languages, and other languages are not ranked
+	private int getLanguageRank(String language) {
+		if (language == null || language.isEmpty()) {
+			return languagePreference.size();
+		}
+		return languagePreference.indexOf(language);
+	}
+
+}
@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A property name as used from an EOL script (e.g. {@code foaf:name@en} or
+ * {@code name_literal}), which has been parsed and resolved against the
+ * prefixes of a model.
+ * </p>
+ *
+ * <p>
+ * Instances are cached by {@link RDFModel#getPropertyAccessor(String)}, so
+ * repeated accesses to the same property do not need to parse it again.
+ * </p>
+ */
+public class RDFPropertyAccessor {
+
+	final RDFQualifiedName name;
+
+	/**
+	 * Name without the {@link RDFResource#LITERAL_SUFFIX}, to be tried if there are no
+	 * values for {@link #name}. It is {@code null} if the name does not end
+	 * with the suffix.
+	 */
+	final RDFQualifiedName nameWithoutLiteralSuffix;
+
+	private RDFPropertyAccessor(RDFQualifiedName name, RDFQualifiedName nameWithoutLiteralSuffix) {
+		this.name = name;
+		this.nameWithoutLiteralSuffix = nameWithoutLiteralSuffix;
+	}
+
+	public static RDFPropertyAccessor from(String property, Function<String, String> prefixToURIMapper) {
+		RDFQualifiedName pName = RDFQualifiedName.from(property, prefixToURIMapper);
+
+		RDFQualifiedName withoutLiteral = null;
+		if (pName.localName.endsWith(RDFResource.LITERAL_SUFFIX)) {
+			withoutLiteral = pName.withLocalName(
+				pName.localName.substring(0, pName.localName.length() - RDFResource.LITERAL_SUFFIX.length()));
+		}
+
+		return new RDFPropertyAccessor(pName, withoutLiteral);
+	}
+
+	public RDFQualifiedName getName() {
+		return name;
+	}
+
+	public RDFQualifiedName getNameWithoutLiteralSuffix() {
+		return nameWithoutLiteralSuffix;
+	}
+
+	@Override
+	public String toString() {
+		return "RDFPropertyAccessor [name=" + name + ", nameWithoutLiteralSuffix=" + nameWithoutLiteralSuffix + "]";
+	}
+
+}
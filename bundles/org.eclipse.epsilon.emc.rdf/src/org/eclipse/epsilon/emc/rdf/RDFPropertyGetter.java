@@ -12,6 +12,9 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.epsilon.common.module.ModuleElement;
 import org.eclipse.epsilon.eol.exceptions.EolIllegalPropertyException;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
@@ -22,6 +25,14 @@ public class RDFPropertyGetter extends JavaPropertyGetter {
 
 	protected final RDFModel model;
 
+	/**
+	 * For each class of {@link RDFModelElement}, remembers which property names
+	 * are resolved through Java methods (e.g. {@code uri} or {@code types}),
+	 * so other names can go straight to the RDF information without a
+	 * reflective lookup.
+	 */
+	protected final Map<Class<?>, Map<String, Boolean>> javaPropertiesByClass = new ConcurrentHashMap<>();
+
 	public RDFPropertyGetter(RDFModel model) {
 		this.model = model;
 	}
@@ -29,7 +40,7 @@ public class RDFPropertyGetter extends JavaPropertyGetter {
 	@Override
 	public Object invoke(Object object, String property, IEolContext context) throws EolRuntimeException {
 		// Try to use built-in methods first (e.g. for ".uri")
-		if (super.hasProperty(object, property, context)) {
+		if (isJavaProperty(object, property, context)) {
 			return super.invoke(object, property, context);
 		}
 
@@ -43,4 +54,19 @@ public class RDFPropertyGetter extends JavaPropertyGetter {
 		throw new EolIllegalPropertyException(object, property, ast, context);
 	}
 
+	protected boolean isJavaProperty(Object object, String property, IEolContext context) {
+		if (!(object instanceof RDFModelElement)) {
+			// Other objects (e.g. native types) may not resolve properties only from their class
+			return super.hasProperty(object, property, context);
+		}
+
+		Map<String, Boolean> javaProperties = javaPropertiesByClass.computeIfAbsent(object.getClass(), c -> new ConcurrentHashMap<>());
+		Boolean isJava = javaProperties.get(property);
+		if (isJava == null) {
+			isJava = super.hasProperty(object, property, context);
+			javaProperties.put(property, isJava);
+		}
+		return isJava;
+	}
+
 }
@@ -12,16 +12,17 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.jena.ontology.MaxCardinalityRestriction;
 import org.apache.jena.ontology.OntClass;
 import org.apache.jena.ontology.OntProperty;
 import org.apache.jena.ontology.OntResource;
 import org.apache.jena.ontology.Restriction;
 import org.apache.jena.rdf.model.Literal;
-import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.rdf.model.impl.PropertyImpl;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.eclipse.epsilon.eol.execute.context.IEolContext;
 
@@ -38,8 +39,7 @@ public class RDFPropertyProcesses {
 			propertyStatementIt = resource.listProperties()
 				.filterKeep(stmt -> propertyName.localName.equals(stmt.getPredicate().getLocalName()));
 		} else {
-			Property prop = new PropertyImpl(propertyName.namespaceURI, propertyName.localName);
-			propertyStatementIt = resource.listProperties(prop);
+			propertyStatementIt = resource.listProperties(propertyName.getProperty());
 		}
 		return propertyStatementIt;
 	}
@@ -95,32 +95,61 @@ public class RDFPropertyProcesses {
 	}
 
 	public static MaxCardinalityRestriction getPropertyStatementMaxCardinalityRestriction(RDFQualifiedName propertyName, Resource resource, IEolContext context) {
-		// Gets all the propertyStatements and finds all the MaxCardinality restrictions, keeps the most restrictive (lowest maxCardinality)
-		var mostRestrictive = new MaxCardRestrictedProperty(null, null);
 		OntResource ontResource = resource.as(OntResource.class);
 
 		// TODO re-evaluate if it is OK to use listRDFTypes(true) if we've triggered reasoning
+		List<List<MaxCardRestrictedProperty>> restrictionsByType = new ArrayList<>();
 		for (ExtendedIterator<Resource> itRDFType = ontResource.listRDFTypes(false); itRDFType.hasNext();) {
 			Resource rdfType = itRDFType.next();
-			OntClass ontClass = rdfType.as(OntClass.class);
-
-			for (ExtendedIterator<OntProperty> itProp = ontClass.listDeclaredProperties(); itProp.hasNext();) {
-				OntProperty prop = itProp.next();
-				if (propertyName.matches(prop)) {
-					if (null != mostRestrictive.property) {
-						if (mostRestrictive.property.equals(prop)) {
-							// same property, don't need to look at it again
-						} else {
-							context.getWarningStream().println(String.format(
-									"Ambiguous access to property with no prefix '%s':"
-									+"\n Most restrictive Max Cardinality found was %s %s,"
-									+" but also found a similar property %s",
-									propertyName, mostRestrictive.property,
-									mostRestrictive.restriction.getMaxCardinality(), prop));
-						}
+			restrictionsByType.add(getDeclaredPropertyRestrictions(propertyName, rdfType.as(OntClass.class)));
+		}
+
+		return getMaxCardinalityRestriction(propertyName, restrictionsByType, context);
+	}
+
+	/**
+	 * Returns the properties declared by a class that match the name, in the
+	 * order they are declared, each with its max cardinality restriction (if
+	 * any). The result only depends on the class and the name, so it can be
+	 * cached while the model is not modified.
+	 */
+	protected static List<MaxCardRestrictedProperty> getDeclaredPropertyRestrictions(RDFQualifiedName propertyName, OntClass ontClass) {
+		List<MaxCardRestrictedProperty> restricted = new ArrayList<>();
+		for (ExtendedIterator<OntProperty> itProp = ontClass.listDeclaredProperties(); itProp.hasNext();) {
+			OntProperty prop = itProp.next();
+			if (propertyName.matches(prop)) {
+				MaxCardRestrictedProperty mostRestrictive = MaxCardRestrictedProperty.mostRestrictive(new MaxCardRestrictedProperty(null, null), prop);
+				restricted.add(new MaxCardRestrictedProperty(prop, mostRestrictive.restriction));
+			}
+		}
+		return restricted;
+	}
+
+	/**
+	 * Combines the results of {@link #getDeclaredPropertyRestrictions(RDFQualifiedName, OntClass)}
+	 * for each of the types of a resource. Keeps the restriction of the first
+	 * restricted property, and warns about any other matching properties.
+	 */
+	protected static MaxCardinalityRestriction getMaxCardinalityRestriction(RDFQualifiedName propertyName, Iterable<List<MaxCardRestrictedProperty>> restrictionsByType, IEolContext context) {
+		// Gets all the propertyStatements and finds all the MaxCardinality restrictions, keeps the most restrictive (lowest maxCardinality)
+		var mostRestrictive = new MaxCardRestrictedProperty(null, null);
+
+		for (List<MaxCardRestrictedProperty> restrictions : restrictionsByType) {
+			for (MaxCardRestrictedProperty restricted : restrictions) {
+				OntProperty prop = restricted.property;
+				if (null != mostRestrictive.property) {
+					if (mostRestrictive.property.equals(prop)) {
+						// same property, don't need to look at it again
 					} else {
-						mostRestrictive = MaxCardRestrictedProperty.mostRestrictive(mostRestrictive, prop);
+						context.getWarningStream().println(String.format(
+								"Ambiguous access to property with no prefix '%s':"
+								+"\n Most restrictive Max Cardinality found was %s %s,"
+								+" but also found a similar property %s",
+								propertyName, mostRestrictive.property,
+								mostRestrictive.restriction.getMaxCardinality(), prop));
 					}
+				} else if (null != restricted.restriction) {
+					mostRestrictive = restricted;
 				}
 			}
 		}
@@ -18,6 +18,8 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.apache.jena.ontology.OntProperty;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.impl.PropertyImpl;
 
 /**
  * <p>
@@ -47,6 +49,9 @@ public class RDFQualifiedName {
 	final String localName;
 	final String languageTag;
 
+	// Computed on first use by #getProperty()
+	private Property property;
+
 	// NOTE: this constructor is intentionally private. See class comment.
 	private RDFQualifiedName(String prefix, String nsURI, String localName, String languageTag) {
 		this.prefix = prefix;
@@ -99,6 +104,17 @@ public class RDFQualifiedName {
 		return new RDFQualifiedName(prefix, namespaceURI, localName, newLanguageTag);
 	}
 
+	/**
+	 * Returns the Jena property with this namespace URI and local name, or
+	 * {@code null} if the namespace URI is not known.
+	 */
+	public Property getProperty() {
+		if (property == null && namespaceURI != null) {
+			property = new PropertyImpl(namespaceURI, localName);
+		}
+		return property;
+	}
+
 	public boolean matches(OntProperty prop) {
 		return localName.equals(prop.getLocalName())
 			&& (null == prefix || Objects.equals(namespaceURI, prop.getNameSpace()));
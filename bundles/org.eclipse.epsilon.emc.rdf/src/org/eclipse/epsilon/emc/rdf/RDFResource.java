@@ -14,11 +14,11 @@ package org.eclipse.epsilon.emc.rdf;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
@@ -27,11 +27,6 @@ import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.eclipse.epsilon.eol.execute.context.IEolContext;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
-
 public class RDFResource extends RDFModelElement {
 	protected static final String LITERAL_SUFFIX = "_literal";
 
@@ -41,6 +36,11 @@ public class RDFResource extends RDFModelElement {
 
 	protected Resource resource;
 
+	// Memoised type information: the underlying model is read-only
+	private List<RDFResource> types;
+	private List<String> qualifiedTypeNames;
+	private int qualifiedTypeNamesPrefixesVersion;
+
 	public RDFResource(Resource aResource, RDFModel rdfModel) {
 		super(rdfModel);
 		this.resource = aResource;
@@ -64,118 +64,241 @@ public class RDFResource extends RDFModelElement {
 	 * in the calling getProperty() method for the type of RDFResource.
 	 */
 	protected Collection<Object> getCollectionOfProperyValues(String property, IEolContext context) {
-		final RDFQualifiedName pName = RDFQualifiedName.from(property, this.owningModel::getNamespaceURI);
-		Collection<Object> value = listPropertyValues(pName, context, LiteralMode.VALUES_ONLY);
+		final RDFPropertyAccessor accessor = this.owningModel.getPropertyAccessor(property);
+		Collection<Object> value = listPropertyValues(accessor.name, context, LiteralMode.VALUES_ONLY);
 
-		if (value.isEmpty() && pName.localName.endsWith(LITERAL_SUFFIX)) {
-			final String localNameWithoutSuffix = pName.localName.substring(0,
-					pName.localName.length() - LITERAL_SUFFIX.length());
-			RDFQualifiedName withoutLiteral = pName.withLocalName(localNameWithoutSuffix);
-			value = listPropertyValues(withoutLiteral, context, LiteralMode.RAW);
+		if (value.isEmpty() && accessor.nameWithoutLiteralSuffix != null) {
+			value = listPropertyValues(accessor.nameWithoutLiteralSuffix, context, LiteralMode.RAW);
 		}
 		
 		return value;
 	}
 
-	//Returns a filtered list of property Values, with prefixes and raw value handling
+	/*
+	 * Returns a filtered list of property values, with prefixes and raw value handling.
+	 * Values are collected in a single pass, without intermediate collections.
+	 */
 	protected Collection<Object> listPropertyValues(RDFQualifiedName propertyName, IEolContext context, LiteralMode literalMode) {
-		ExtendedIterator<Statement> itStatements; 
-		itStatements = RDFPropertyProcesses.getPropertyStatementIterator(propertyName, resource);	
-		itStatements = RDFPropertyProcesses.filterPropertyStatementsIteratorWithLanguageTag(propertyName, itStatements);
+		// Filter by preferred languages if any are set, and no specific tag was requested
+		if (propertyName.languageTag == null && !getModel().getLanguagePreference().isEmpty()) {
+			Collection<Object> preferred = listPreferredLanguageValues(propertyName, context, literalMode);
+			if (preferred != null) {
+				return preferred;
+			}
+		}
 
-		// Build a collection Objects for the rawValues of the Objects for the Properties remaining 
-		Collection<Object> rawPropertyValues;
+		final PropertyValueCollector collector = new PropertyValueCollector(literalMode);
 		if (propertyName.prefix == null) {
 			// If no prefix was specified, watch out for ambiguity and issue warning in that case
-			ListMultimap<String, Object> values = MultimapBuilder.hashKeys().arrayListValues().build();
-			while (itStatements.hasNext()) {
-				Statement stmt = itStatements.next();
-				values.put(stmt.getPredicate().getURI(),
-						convertToModelObject(stmt.getObject()));
+			List<String> matchedPredicates = Collections.emptyList();
+			for (Property predicate : getPredicatesByLocalName(propertyName.localName)) {
+				if (collector.addAll(propertyName, resource.listProperties(predicate))) {
+					matchedPredicates = addMatchedPredicate(matchedPredicates, predicate);
+				}
 			}
+			warnIfAmbiguous(propertyName, matchedPredicates, context);
+		} else {
+			// Prefix was specified: we don't have to worry about ambiguity
+			collector.addAll(propertyName, RDFPropertyProcesses.getPropertyStatementIterator(propertyName, resource));
+		}
 
-			final Set<String> distinctKeys = values.keySet();
-			if (distinctKeys.size() > 1) {
-				context.getWarningStream().println(String.format(
-					"Ambiguous access to property '%s': multiple prefixes found (%s)",
-					propertyName,
-					String.join(", ", distinctKeys)
-				));
+		return collector.getValues();
+	}
+
+	/*
+	 * Returns the values in the most preferred language available, using the precomputed
+	 * index in the model. Returns null if some values are resources, as in that case the
+	 * language preference does not apply.
+	 */
+	protected Collection<Object> listPreferredLanguageValues(RDFQualifiedName propertyName, IEolContext context, LiteralMode literalMode) {
+		final RDFPreferredLanguageIndex index = this.owningModel.getPreferredLanguageIndex();
+		final List<Property> predicates = propertyName.prefix == null
+			? getPredicatesByLocalName(propertyName.localName)
+			: Collections.singletonList(propertyName.getProperty());
+
+		final PropertyValueCollector collector = new PropertyValueCollector(literalMode);
+		List<String> matchedPredicates = Collections.emptyList();
+		int bestRank = Integer.MAX_VALUE;
+		for (Property predicate : predicates) {
+			RDFPreferredLanguageIndex.Entry entry = index.get(resource, predicate);
+			if (entry == null) {
+				continue;
+			} else if (entry.hasResources()) {
+				return null;
 			}
 
-			rawPropertyValues = values.values();
-		} else {
-			// Prefix was specified: we don't have to worry about ambiguity
-			final List<Object> values = new ArrayList<>();
-			while (itStatements.hasNext()) {
-				Statement stmt = itStatements.next();
-				values.add(convertToModelObject(stmt.getObject()));
+			matchedPredicates = addMatchedPredicate(matchedPredicates, predicate);
+			if (entry.getRank() < bestRank) {
+				bestRank = entry.getRank();
+				collector.clear();
+			}
+			if (entry.getRank() == bestRank) {
+				for (Literal l : entry.getLiterals()) {
+					collector.add(l);
+				}
 			}
-			rawPropertyValues = values;
 		}
 
-		// Filter by preferred languages if any are set
-		if (propertyName.languageTag == null && !rawPropertyValues.stream().anyMatch(p -> p instanceof RDFResource)) {
-			rawPropertyValues = filterByPreferredLanguage(rawPropertyValues);
+		if (propertyName.prefix == null) {
+			warnIfAmbiguous(propertyName, matchedPredicates, context);
 		}
+		return collector.getValues();
+	}
 
-		// Convert literals to values depending on mode
-		switch (literalMode) {
-		case VALUES_ONLY:
-			return convertLiteralsToValues(rawPropertyValues);
-		case RAW:
-			return rawPropertyValues;
-		default:
-			throw new IllegalArgumentException("Unknown literal mode " + literalMode);
+	/*
+	 * Returns the predicates with the given local name that may have values for this resource.
+	 * If a reasoner may infer predicates missing from the index in the model, the statements of
+	 * this resource are scanned instead, so inferred-only predicates are still found.
+	 */
+	protected List<Property> getPredicatesByLocalName(String localName) {
+		if (this.owningModel.isPredicateIndexComplete()) {
+			return this.owningModel.getPredicatesByLocalName(localName);
+		}
+
+		List<Property> predicates = Collections.emptyList();
+		for (StmtIterator itStmt = resource.listProperties(); itStmt.hasNext(); ) {
+			Property predicate = itStmt.next().getPredicate();
+			if (localName.equals(predicate.getLocalName()) && !predicates.contains(predicate)) {
+				if (predicates.isEmpty()) {
+					predicates = new ArrayList<>(2);
+				}
+				predicates.add(predicate);
+			}
 		}
+		return predicates;
 	}
 
-	// Filters a collection of property values by preferred languages
-	protected Collection<Object> filterByPreferredLanguage(Collection<Object> value) {
-		// If no preferred languages are specified, don't do any filtering
-		if (getModel().getLanguagePreference().isEmpty()) {
-			return value;
+	private static List<String> addMatchedPredicate(List<String> matchedPredicates, Property predicate) {
+		if (matchedPredicates.isEmpty()) {
+			matchedPredicates = new ArrayList<>(2);
 		}
+		matchedPredicates.add(predicate.getURI());
+		return matchedPredicates;
+	}
 
-		// Otherwise, group literals by language tag
-		Multimap<String, RDFLiteral> literalsByTag = HashMultimap.create();
-		for (Object element : value) {
-			if (element instanceof RDFLiteral) {
-				RDFLiteral literal = (RDFLiteral) element;
-				literalsByTag.put(literal.getLanguage() == null ? "" : literal.getLanguage(), literal);
+	private void warnIfAmbiguous(RDFQualifiedName propertyName, List<String> matchedPredicates, IEolContext context) {
+		if (matchedPredicates.size() > 1) {
+			context.getWarningStream().println(String.format(
+				"Ambiguous access to property '%s': multiple prefixes found (%s)",
+				propertyName,
+				String.join(", ", matchedPredicates)
+			));
+		}
+	}
+
+	/**
+	 * Collects the values of a property, converting literals according to the
+	 * {@link LiteralMode}. Returns an empty or singleton list if there is at
+	 * most one value.
+	 */
+	protected class PropertyValueCollector {
+		private final LiteralMode literalMode;
+
+		private Object firstValue;
+		private List<Object> values;
+		private int size;
+
+		public PropertyValueCollector(LiteralMode literalMode) {
+			this.literalMode = literalMode;
+		}
+
+		// Adds the objects of the statements, keeping only those with the requested language tag (if any). Returns true if any were added.
+		public boolean addAll(RDFQualifiedName propertyName, ExtendedIterator<Statement> itStatements) {
+			itStatements = RDFPropertyProcesses.filterPropertyStatementsIteratorWithLanguageTag(propertyName, itStatements);
+			boolean found = false;
+			while (itStatements.hasNext()) {
+				found = true;
+				add(itStatements.next().getObject());
+			}
+			return found;
+		}
+
+		public void add(RDFNode node) {
+			if (node.isLiteral()) {
+				switch (literalMode) {
+				case VALUES_ONLY:
+					addValue(node.asLiteral().getValue());
+					break;
+				case RAW:
+					addValue(new RDFLiteral(node.asLiteral(), owningModel));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown literal mode " + literalMode);
+				}
+			} else {
+				addValue(convertToModelObject(node));
+			}
+		}
+
+		private void addValue(Object value) {
+			if (size == 0) {
+				firstValue = value;
 			} else {
-				// TODO #19 see if we run into this scenario (perhaps with integers instead of strings?), print some warning, return value as is as fallback
-				throw new IllegalArgumentException("Expected RDFLiteral while filtering based on preferred languages, but got " + element);
+				if (values == null) {
+					values = new ArrayList<>();
+				}
+				if (values.isEmpty()) {
+					values.add(firstValue);
+				}
+				values.add(value);
 			}
+			size++;
 		}
 
-		for (String tag : getModel().getLanguagePreference()) {
-			if (literalsByTag.containsKey(tag)) {
-				return new ArrayList<>(literalsByTag.get(tag));
+		public void clear() {
+			firstValue = null;
+			if (values != null) {
+				values.clear();
 			}
+			size = 0;
 		}
 
-		// If we don't find any matches in the preferred languages,
-		// fall back to the untagged literals (if any).
-		Collection<RDFLiteral> rawFromUntagged = literalsByTag.get("");
-		return new ArrayList<>(rawFromUntagged);
-	}
-	
-	protected Collection<Object> convertLiteralsToValues(Collection<Object> value) {
-		return value.stream()
-			.map(e -> e instanceof RDFLiteral ? ((RDFLiteral)e).getValue() : e)
-			.collect(Collectors.toList());
+		public Collection<Object> getValues() {
+			switch (size) {
+			case 0:
+				return Collections.emptyList();
+			case 1:
+				return Collections.singletonList(firstValue);
+			default:
+				return values;
+			}
+		}
 	}
 
+	/**
+	 * Returns the types of this resource. The list is computed on first use, as
+	 * the underlying model is read-only.
+	 */
 	public List<RDFResource> getTypes() {
-		List<RDFResource> types = new ArrayList<>();
-		for (StmtIterator itStmt = resource.listProperties(RDF.type); itStmt.hasNext(); ) {
-			RDFNode node = itStmt.next().getObject();
-			types.add(this.owningModel.createResource((Resource) node));
+		if (types == null) {
+			List<RDFResource> newTypes = new ArrayList<>();
+			for (StmtIterator itStmt = resource.listProperties(RDF.type); itStmt.hasNext(); ) {
+				RDFNode node = itStmt.next().getObject();
+				newTypes.add(this.owningModel.getCanonicalResource((Resource) node));
+			}
+			types = Collections.unmodifiableList(newTypes);
 		}
 		return types;
 	}
 
+	/**
+	 * Returns the prefixed names of the types of this resource, in the same
+	 * order as {@link #getTypes()}. The list is computed on first use, and
+	 * recomputed if the custom prefixes of the model change.
+	 */
+	public List<String> getQualifiedTypeNames() {
+		int prefixesVersion = this.owningModel.getCustomPrefixesVersion();
+		if (qualifiedTypeNames == null || qualifiedTypeNamesPrefixesVersion != prefixesVersion) {
+			List<String> names = new ArrayList<>();
+			for (RDFResource type : getTypes()) {
+				names.add(this.owningModel.getQualifiedTypeName(type));
+			}
+			qualifiedTypeNames = Collections.unmodifiableList(names);
+			qualifiedTypeNamesPrefixesVersion = prefixesVersion;
+		}
+		return qualifiedTypeNames;
+	}
+
 	public String getUri() {
 		return resource.getURI();
 	}
@@ -184,7 +307,7 @@ public class RDFResource extends RDFModelElement {
 		if (node instanceof Literal) {
 			return new RDFLiteral((Literal) node, this.owningModel);
 		} else if (node instanceof Resource) {
-			return this.owningModel.createResource((Resource) node);
+			return this.owningModel.getCanonicalResource((Resource) node);
 			
 		}
 		throw new IllegalArgumentException("Cannot convert " + node + " to a model object");
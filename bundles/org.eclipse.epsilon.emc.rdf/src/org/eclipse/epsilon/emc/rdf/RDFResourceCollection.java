@@ -0,0 +1,202 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import java.util.AbstractCollection;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+/**
+ * <p>
+ * Read-only collection of model elements, backed by a Jena iterator over the
+ * triples whose subjects are the underlying resources (e.g. all triples, or
+ * all the {@code rdf:type} triples for a given type). Triples are only fetched
+ * from the graph while iterating, and elements are only wrapped as they are
+ * produced, so iteration can stop early without visiting the rest of the graph.
+ * </p>
+ *
+ * <p>
+ * If the triples may share subjects (e.g. when iterating over all triples),
+ * each iteration remembers the subjects it has produced so far in order to
+ * skip repeated ones: the memory used by an iteration then grows with the
+ * number of distinct subjects visited, up to all the subjects in the graph.
+ * If the triples are known to have distinct subjects (e.g. the
+ * {@code rdf:type} triples for a given type), no subjects are remembered.
+ * The triple iterator is closed once it is exhausted: iterations that stop
+ * early should close the {@link ExtendedIterator} returned by
+ * {@link #iterator()}, or the {@link Stream} returned by {@link #stream()}.
+ * </p>
+ *
+ * <p>
+ * The size is computed by counting the resources the first time it is
+ * needed, and then remembered, as the underlying model is read-only.
+ * </p>
+ */
+public class RDFResourceCollection extends AbstractCollection<RDFModelElement> {
+
+	private final Supplier<ExtendedIterator<Triple>> triples;
+	private final Predicate<Node> membership;
+	private final Function<Node, ? extends RDFModelElement> wrapper;
+	private final boolean distinctSubjects;
+	private volatile int size = -1;
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param triples    Creates a new iterator over the triples whose subjects are in the collection.
+	 * @param membership Checks if a node is in the collection, without iterating.
+	 * @param wrapper    Produces the model element for a subject node.
+	 */
+	public RDFResourceCollection(Supplier<ExtendedIterator<Triple>> triples, Predicate<Node> membership, Function<Node, ? extends RDFModelElement> wrapper) {
+		this(triples, membership, wrapper, false);
+	}
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param triples          Creates a new iterator over the triples whose subjects are in the collection.
+	 * @param membership       Checks if a node is in the collection, without iterating.
+	 * @param wrapper          Produces the model element for a subject node.
+	 * @param distinctSubjects If {@code true}, no two triples have the same subject,
+	 *                         so iterations do not need to skip repeated subjects.
+	 */
+	public RDFResourceCollection(Supplier<ExtendedIterator<Triple>> triples, Predicate<Node> membership, Function<Node, ? extends RDFModelElement> wrapper, boolean distinctSubjects) {
+		this.triples = triples;
+		this.membership = membership;
+		this.wrapper = wrapper;
+		this.distinctSubjects = distinctSubjects;
+	}
+
+	@Override
+	public ExtendedIterator<RDFModelElement> iterator() {
+		return subjects().mapWith(wrapper::apply);
+	}
+
+	@Override
+	public Stream<RDFModelElement> stream() {
+		ExtendedIterator<RDFModelElement> it = iterator();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.DISTINCT | Spliterator.NONNULL), false)
+			.onClose(it::close);
+	}
+
+	@Override
+	public int size() {
+		if (size < 0) {
+			int count = 0;
+			ExtendedIterator<Node> it = subjects();
+			try {
+				while (it.hasNext()) {
+					it.next();
+					count++;
+				}
+			} finally {
+				it.close();
+			}
+			size = count;
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (size >= 0) {
+			return size == 0;
+		}
+
+		ExtendedIterator<Triple> it = triples.get();
+		try {
+			return !it.hasNext();
+		} finally {
+			it.close();
+		}
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (o instanceof RDFResource) {
+			return membership.test(((RDFResource) o).getResource().asNode());
+		}
+		return false;
+	}
+
+	private ExtendedIterator<Node> subjects() {
+		return new DistinctSubjectIterator(triples.get(), distinctSubjects ? null : new HashSet<>());
+	}
+
+	/**
+	 * Produces the distinct subjects of the triples, closing the underlying
+	 * iterator as soon as it is exhausted. If there is no set of seen subjects,
+	 * the subjects of the triples are assumed to be distinct already.
+	 */
+	private static class DistinctSubjectIterator extends NiceIterator<Node> {
+		private final ExtendedIterator<Triple> source;
+		private final Set<Node> seen;
+		private Node next;
+		private boolean closed;
+
+		DistinctSubjectIterator(ExtendedIterator<Triple> source, Set<Node> seen) {
+			this.source = source;
+			this.seen = seen;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (next == null && !closed) {
+				if (source.hasNext()) {
+					Node subject = source.next().getSubject();
+					if (seen == null || seen.add(subject)) {
+						next = subject;
+					}
+				} else {
+					close();
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public Node next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Node result = next;
+			next = null;
+			return result;
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				if (seen != null) {
+					seen.clear();
+				}
+				source.close();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.WrappedGraph;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * Read-only view of a graph which can only be queried from a specific thread.
+ * Used for TDB2 graphs, which are read within a transaction bound to the
+ * thread that loaded the model: reading them from any other thread (e.g. from
+ * a parallel EOL operation) fails with an {@link IllegalStateException} which
+ * explains the problem, rather than with an unrelated transaction error.
+ * The prefixes of the graph are copied when the view is created, so they can
+ * be used from any thread.
+ */
+public class RDFThreadBoundGraph extends WrappedGraph {
+
+	private final Thread owner;
+	private final PrefixMapping prefixes;
+
+	public RDFThreadBoundGraph(Graph base, Thread owner) {
+		super(base);
+		this.owner = owner;
+		this.prefixes = PrefixMapping.Factory.create().setNsPrefixes(base.getPrefixMapping()).lock();
+	}
+
+	public Thread getOwner() {
+		return owner;
+	}
+
+	@Override
+	public PrefixMapping getPrefixMapping() {
+		return prefixes;
+	}
+
+	@Override
+	public ExtendedIterator<Triple> find(Triple m) {
+		checkThread();
+		return super.find(m);
+	}
+
+	@Override
+	public ExtendedIterator<Triple> find(Node s, Node p, Node o) {
+		checkThread();
+		return super.find(s, p, o);
+	}
+
+	@Override
+	public boolean contains(Node s, Node p, Node o) {
+		checkThread();
+		return super.contains(s, p, o);
+	}
+
+	@Override
+	public boolean contains(Triple t) {
+		checkThread();
+		return super.contains(t);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		checkThread();
+		return super.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		checkThread();
+		return super.size();
+	}
+
+	protected void checkThread() {
+		if (Thread.currentThread() != owner) {
+			throw new IllegalStateException(String.format(
+				"This TDB2-backed graph can only be read from the thread that loaded it (%s), "
+				+ "but it was read from %s: use sequential operations on this model",
+				owner.getName(), Thread.currentThread().getName()));
+		}
+	}
+
+}
@@ -24,6 +24,8 @@ import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -35,11 +37,12 @@ import org.apache.jena.ontology.OntModel;
 import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
-import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.rulesys.Rule;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.eclipse.emf.common.util.URI;
@@ -49,6 +52,15 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.epsilon.rdf.emf.config.RDFResourceConfiguration;
 import org.eclipse.epsilon.rdf.emf.config.RDFResourceConfigurationIO;
+import org.eclipse.epsilon.rdf.loading.RDFClosureCache;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver;
+import org.eclipse.epsilon.rdf.loading.RDFLoadCache;
+import org.eclipse.epsilon.rdf.loading.RDFMergedGraph;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache.BoundSchema;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode.RDFModelValidationReport;
 import org.eclipse.epsilon.rdf.validation.RDFValidationException;
 
@@ -80,6 +92,7 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 	private RDFDeserializer deserializer;
 	private RDFGraphResourceUpdate rdfGraphUpdater;
 	private Dataset dataModelSet;
+	private BoundSchema boundSchema;
 
 	public RDFGraphResourceImpl() {
 		// Apply eAdapters for notifications of changes, and setup the Graph Resource updater
@@ -115,11 +128,11 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 		}
 
 		this.config = RDFResourceConfigurationIO.load(inputStream);
-		OntModel rdfOntModel = loadRDFModels();
-		initializeFromRDFModel(rdfOntModel);
+		Model rdfModel = loadRDFModels();
+		initializeFromRDFModel(rdfModel);
 	}
 
-	protected void initializeFromRDFModel(Model rdfOntModel) {
+	protected void initializeFromRDFModel(Model rdfModel) {
 		try {
 			setDisabledForAdapters(true);
 			deserializer = new RDFDeserializer(() -> {
@@ -131,7 +144,7 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 					return EPackage.Registry.INSTANCE;
 				}
 			});
-			deserializer.deserialize(rdfOntModel);
+			deserializer.deserialize(rdfModel);
 			for (EObject eob : deserializer.getEObjectToResourceMap().keySet()) {
 				if (eob.eContainer() == null) {
 					getContents().add(eob);
@@ -155,6 +168,7 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 		this.deserializer = null;
 		this.rdfGraphUpdater = null;
 		this.dataModelSet = null;
+		releaseSharedGraphs();
 
 		super.doUnload();
 	}
@@ -219,6 +233,10 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 		// TODO need some way to work out which of the Named models we want to write out, for now dump them all.
 		for (Iterator<Resource> namedModels = dataModelSet.listModelNames(); namedModels.hasNext(); ) {
 			Resource m = namedModels.next();
+			if (RDFDatasetLoader.isProvided(m.getURI())) {
+				// Graphs from providers (e.g. HDT files) are read-only
+				continue;
+			}
 			URL url = new URL(m.getURI());
 
 			try {
@@ -249,25 +267,222 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 		return eob;
 	}
 
-	protected OntModel loadRDFModels() throws IOException {
-		Dataset schemaModelSet = loadRDFModels(config.getSchemaModels());
-		Model rdfSchemaModel = schemaModelSet.getUnionModel();
-
+	protected Model loadRDFModels() throws IOException {
 		this.dataModelSet = loadRDFModels(config.getDataModels());
-		Model rdfDataModel = dataModelSet.getUnionModel();
+		Model rdfDataModel = config.isMergeDataModels()
+			? dataModelSet.getDefaultModel() // merged data models (see RDFDatasetLoader#loadMerged)
+			: dataModelSet.getUnionModel();
+
+		// With no reasoner, the deserializer reads directly from the union of the data models
+		Model rdfModel = rdfDataModel;
+		List<Rule> rules = loadReasonerRules();
+		Reasoner reasoner = config.getRawReasoner().getReasoner(rules);
+		if (reasoner != null && config.isMaterialiseInference()) {
+			// The closure is validated before it is materialised
+			return materialiseInference(reasoner, rules, rdfDataModel);
+		} else if (reasoner != null) {
+			rdfModel = ModelFactory.createInfModel(bindSchema(reasoner, rules), rdfDataModel);
+		}
+
+		validate(rdfModel);
+		return rdfModel;
+	}
 
-		InfModel infModel = ModelFactory.createRDFSModel(rdfSchemaModel, rdfDataModel);
-		OntModel rdfOntModel = ModelFactory.createOntologyModel(OntModelSpec.OWL_DL_MEM_RULE_INF, infModel);
+	/**
+	 * Validates the (possibly inferred) model with the configured validation
+	 * mode, throwing an {@link RDFValidationException} if it does not pass.
+	 */
+	protected void validate(Model rdfModel) throws IOException {
+		validate(rdfModel, new ArrayList<>());
+	}
+
+	/**
+	 * Validates the model as in {@link #validate(Model)}, adding the locations
+	 * of the documents imported during validation to the given list.
+	 */
+	protected void validate(Model rdfModel, List<String> importLocations) throws IOException {
+		ValidationMode validationMode = getConfig().getRawValidationMode();
+		if (validationMode != ValidationMode.NONE) {
+			// Imports are only followed for validation, as they are not deserialised
+			try (RDFImportResolver importResolver = createImportResolver()) {
+				OntModel rdfOntModel = ModelFactory.createOntologyModel(importResolver.createSpec(OntModelSpec.OWL_MEM), rdfModel);
+				RDFModelValidationReport result = validationMode.validate(rdfOntModel);
+				importLocations.addAll(importResolver.getImportLocations());
+				if (!result.isValid()) {
+					throw new RDFValidationException(result.getText());
+				}
+			}
+		}
+	}
 
-		RDFModelValidationReport result = getConfig().getRawValidationMode().validate(rdfOntModel);
-		if (!result.isValid()) {
-			throw new RDFValidationException(result.getText());
+	/**
+	 * Computes the inference closure into a plain model, reusing the one in the
+	 * closure cache folder (if configured) when the models and settings have not
+	 * changed since it was cached. The inferred model is validated before it is
+	 * materialised, as the closure has no reasoner to validate it with: closures
+	 * are only cached once they pass validation, so cached closures are not
+	 * validated again. The documents imported during validation are part of
+	 * the key of the cached closure, as they change its outcome.
+	 */
+	protected Model materialiseInference(Reasoner reasoner, List<Rule> rules, Model rdfDataModel) throws IOException {
+		List<String> importLocations = new ArrayList<>();
+		RDFClosureCache.Inference inference = () -> {
+			Model inferred = ModelFactory.createInfModel(bindSchema(reasoner, rules), rdfDataModel);
+			validate(inferred, importLocations);
+			return inferred;
+		};
+		if (config.getClosureCache() == null || config.getClosureCache().isBlank()) {
+			return RDFClosureCache.materialise(inference.infer());
 		}
-		return rdfOntModel;
+
+		RDFClosureCache cache = new RDFClosureCache(
+			resolveLocalFolder(config.getClosureCache(), "closure cache"), config.getRawLoadCacheFormat());
+		return cache.load(getClosureSettings(rules),
+			resolveURIs(config.getSchemaModels()), resolveURIs(config.getDataModels()), inference, () -> importLocations);
+	}
+
+	/**
+	 * Binds the reasoner to the schema models. The bound reasoner is shared
+	 * through the {@link RDFSchemaReasonerCache} with every resource using the
+	 * same reasoner, rules and unchanged schema models, which are only parsed if
+	 * no such reasoner is available yet.
+	 */
+	protected Reasoner bindSchema(Reasoner reasoner, List<Rule> rules) throws IOException {
+		List<String> schemaURIs = resolveURIs(config.getSchemaModels());
+		releaseSharedGraphs();
+		BoundSchema bound = RDFSchemaReasonerCache.bind(
+			getReasonerSettings(rules), schemaURIs, reasoner, createSchemaLoader());
+		this.boundSchema = bound;
+		return bound.getReasoner();
+	}
+
+	/**
+	 * Returns a description of the options that change the inferred statements,
+	 * used as part of the key of the reasoner and closure caches.
+	 */
+	protected String getReasonerSettings(List<Rule> rules) {
+		return "reasoner=" + config.getRawReasoner().getId() + "\nrules=" + rules;
+	}
+
+	/**
+	 * Returns a description of the options that change a materialised closure
+	 * or the outcome of its validation, used as part of the key of the closure
+	 * cache. The import settings are included as imports are followed during
+	 * validation.
+	 */
+	protected String getClosureSettings(List<Rule> rules) {
+		return getReasonerSettings(rules)
+			+ "\nvalidationMode=" + config.getRawValidationMode().getId()
+			+ "\nimportMode=" + config.getRawImportMode().getId()
+			+ "\nimportCatalog=" + config.getImportCatalog();
+	}
+
+	protected List<Rule> loadReasonerRules() throws IOException {
+		List<Rule> rules = new ArrayList<>();
+		for (String sURI : resolveURIs(config.getReasonerRules())) {
+			rules.addAll(Rule.rulesFromURL(sURI));
+		}
+		return rules;
 	}
 
 	protected Dataset loadRDFModels(Collection<String> uris) throws IOException, MalformedURLException {
 		Dataset newDataset = null;
+		List<String> namedModelSources = resolveURIs(uris);
+
+		// create a dataset with all the named models
+		if (!namedModelSources.isEmpty() && config.isMergeDataModels()) {
+			newDataset = createDatasetLoader().loadMerged(namedModelSources);
+		} else if (!namedModelSources.isEmpty()) {
+			newDataset = createDatasetLoader().loadNamed(namedModelSources);
+		} else {
+			newDataset = DatasetFactory.create(); // create an empty one
+		}
+		return newDataset;
+	}
+
+	/**
+	 * Creates the loader for the schema models. If enabled in the configuration,
+	 * they are taken from the JVM-wide shared graph cache: this is safe as schema
+	 * models are never modified through this resource. The loader is owned by
+	 * the {@link RDFSchemaReasonerCache}, which keeps its leases on the shared
+	 * graphs for as long as it keeps the bound reasoner.
+	 */
+	protected RDFDatasetLoader createSchemaLoader() throws IOException {
+		RDFDatasetLoader loader = createDatasetLoader();
+		if (config.isSharedGraphCache()) {
+			loader.setSharedGraphCache(RDFSharedGraphCache.getInstance());
+		}
+		return loader;
+	}
+
+	/**
+	 * Releases the leases on the shared schema graphs used by this resource,
+	 * unless they are kept by the {@link RDFSchemaReasonerCache}.
+	 */
+	protected void releaseSharedGraphs() {
+		if (boundSchema != null) {
+			boundSchema.close();
+			boundSchema = null;
+		}
+	}
+
+	/**
+	 * Creates the loader for the data and schema models, using the graph
+	 * implementation, load cache folder and number of threads from the
+	 * configuration (if any).
+	 */
+	protected RDFDatasetLoader createDatasetLoader() throws IOException {
+		RDFDatasetLoader loader = new RDFDatasetLoader();
+		if (config.getLoadThreads() != 0) {
+			loader.setThreads(config.getLoadThreads());
+		}
+		loader.setGraphImplementation(config.getRawGraphImplementation());
+		if (config.getLoadCache() != null && !config.getLoadCache().isBlank()) {
+			RDFLoadCache loadCache = new RDFLoadCache(
+				resolveLocalFolder(config.getLoadCache(), "load cache"), config.getRawLoadCacheFormat());
+			loadCache.setGraphImplementation(config.getRawGraphImplementation());
+			loader.setLoadCache(loadCache);
+		}
+		return loader;
+	}
+
+	/**
+	 * Creates the resolver for the {@code owl:imports} of the models, using the
+	 * import mode, catalog and cache from the configuration (if any).
+	 */
+	protected RDFImportResolver createImportResolver() throws IOException {
+		RDFImportResolver resolver = new RDFImportResolver(config.getRawImportMode(), createDatasetLoader());
+		if (config.getImportCatalog() != null && !config.getImportCatalog().isBlank()) {
+			resolver.setCatalog(resolveURIs(List.of(config.getImportCatalog())).get(0));
+		}
+		if (config.isImportCache()) {
+			resolver.setImportCache(RDFSharedGraphCache.getInstance());
+		}
+		return resolver;
+	}
+
+	/**
+	 * Resolves a folder from the configuration against the URI of this resource,
+	 * checking that it is a local folder.
+	 */
+	protected Path resolveLocalFolder(String folder, String description) throws IOException {
+		String sFolderURI = resolveURIs(List.of(folder)).get(0);
+		try {
+			java.net.URI folderURI = new java.net.URI(sFolderURI);
+			if (!"file".equals(folderURI.getScheme())) {
+				throw new IOException("The " + description + " must be a local folder: " + sFolderURI);
+			}
+			return Paths.get(folderURI);
+		} catch (URISyntaxException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Resolves the given URIs against the URI of this resource, converting any
+	 * {@code platform:} URIs to {@code file:} URIs if possible.
+	 */
+	protected List<String> resolveURIs(Collection<String> uris) throws IOException, MalformedURLException {
 		List<String> namedModelSources = new ArrayList<>();
 
 		for (String sURI : uris) {
@@ -294,13 +509,7 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 			}
 		}
 
-		// create a dataset with all the named models
-		if (!namedModelSources.isEmpty()) {
-			newDataset = DatasetFactory.createNamed(namedModelSources);
-		} else {
-			newDataset = DatasetFactory.create(); // create an empty one
-		}
-		return newDataset;
+		return namedModelSources;
 	}
 
 	public RDFResourceConfiguration getConfig() {
@@ -318,7 +527,13 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 
 	public List<Resource> getResourcesForNamedModelsContaining(Resource res) {
 		List<Resource> resources = new ArrayList<Resource>();
-		if (null != dataModelSet && null != res) {
+		if (null != dataModelSet && null != res
+				&& dataModelSet.getDefaultModel().getGraph() instanceof RDFMergedGraph merged) {
+			// The source index of the merged graph knows where each triple came from
+			for (String name : merged.getSourceNamesContaining(res.asNode())) {
+				resources.add(ResourceFactory.createResource(name));
+			}
+		} else if (null != dataModelSet && null != res) {
 			Iterator<Resource> namedModels = dataModelSet.listModelNames();
 			namedModels.forEachRemaining(m -> {
 				Model model = dataModelSet.getNamedModel(m);
@@ -406,7 +621,7 @@ public class RDFGraphResourceImpl extends ResourceImpl {
 			if (uri.isRelative()) {
 				uri = uri.resolve(this.getURI());
 			}
-			dataModelSet = dataModelSet.addNamedModel(ResourceFactory.createResource(uri.toString()), ModelFactory.createDefaultModel());
+			dataModelSet = dataModelSet.addNamedModel(ResourceFactory.createResource(uri.toString()), config.getRawGraphImplementation().createModel());
 		}
 		initializeFromRDFModel(this.dataModelSet.getUnionModel());
 	}
@@ -15,6 +15,10 @@ package org.eclipse.epsilon.rdf.emf.config;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
+import org.eclipse.epsilon.rdf.loading.RDFReasonerType;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 
 public class RDFResourceConfiguration {
@@ -26,6 +30,22 @@ public class RDFResourceConfiguration {
 	private String multiValueAttributeMode = MultiValueAttributeMode.CONTAINER.getId();
 	private String defaultModelNamespace;
 
+	private String reasoner = RDFReasonerType.OWL_FULL.getId();
+	private List<String> reasonerRules = new ArrayList<>();
+	private boolean materialiseInference;
+	private String closureCache;
+
+	private String loadCache;
+	private String loadCacheFormat = RDFBinaryFormat.THRIFT.getId();
+	private int loadThreads;
+	private boolean sharedGraphCache;
+	private String graphImplementation = RDFGraphImplementation.FAST.getId();
+	private boolean mergeDataModels;
+
+	private String importMode = ImportMode.FOLLOW.getId();
+	private String importCatalog;
+	private boolean importCache;
+
 	public String getDefaultModelNamespace() {
 		return defaultModelNamespace;
 	}
@@ -74,6 +94,153 @@ public class RDFResourceConfiguration {
 		this.validationMode = validationMode;
 	}
 	
+	public String getReasoner() {
+		return reasoner;
+	}
+
+	public RDFReasonerType getRawReasoner() {
+		return RDFReasonerType.fromString(reasoner);
+	}
+
+	public void setReasoner(String reasoner) {
+		this.reasoner = reasoner;
+	}
+
+	public List<String> getReasonerRules() {
+		return reasonerRules;
+	}
+
+	public void setReasonerRules(List<String> reasonerRules) {
+		this.reasonerRules = reasonerRules;
+	}
+
+	/**
+	 * Returns whether the statements inferred by the reasoner should be computed
+	 * once while loading, rather than on demand.
+	 */
+	public boolean isMaterialiseInference() {
+		return materialiseInference;
+	}
+
+	public void setMaterialiseInference(boolean materialiseInference) {
+		this.materialiseInference = materialiseInference;
+	}
+
+	public String getClosureCache() {
+		return closureCache;
+	}
+
+	public void setClosureCache(String closureCache) {
+		this.closureCache = closureCache;
+	}
+
+	public String getLoadCache() {
+		return loadCache;
+	}
+
+	public void setLoadCache(String loadCache) {
+		this.loadCache = loadCache;
+	}
+
+	public String getLoadCacheFormat() {
+		return loadCacheFormat;
+	}
+
+	public RDFBinaryFormat getRawLoadCacheFormat() {
+		return RDFBinaryFormat.fromString(loadCacheFormat);
+	}
+
+	public void setLoadCacheFormat(String loadCacheFormat) {
+		this.loadCacheFormat = loadCacheFormat;
+	}
+
+	/**
+	 * Returns the maximum number of models that will be parsed at the same time,
+	 * or 0 if the number of available processors should be used.
+	 */
+	public int getLoadThreads() {
+		return loadThreads;
+	}
+
+	public void setLoadThreads(int loadThreads) {
+		this.loadThreads = loadThreads;
+	}
+
+	/**
+	 * Returns whether the schema models should be taken from the JVM-wide cache
+	 * of read-only graphs, sharing them with other resources and models.
+	 */
+	public boolean isSharedGraphCache() {
+		return sharedGraphCache;
+	}
+
+	public void setSharedGraphCache(boolean sharedGraphCache) {
+		this.sharedGraphCache = sharedGraphCache;
+	}
+
+	public String getGraphImplementation() {
+		return graphImplementation;
+	}
+
+	/**
+	 * Returns the in-memory graph implementation that models are loaded into.
+	 */
+	public RDFGraphImplementation getRawGraphImplementation() {
+		return RDFGraphImplementation.fromString(graphImplementation);
+	}
+
+	public void setGraphImplementation(String graphImplementation) {
+		this.graphImplementation = graphImplementation;
+	}
+
+	/**
+	 * Returns whether the data models should be merged into a single graph
+	 * while loading, instead of querying the union of one graph per model.
+	 */
+	public boolean isMergeDataModels() {
+		return mergeDataModels;
+	}
+
+	public void setMergeDataModels(boolean mergeDataModels) {
+		this.mergeDataModels = mergeDataModels;
+	}
+
+	public String getImportMode() {
+		return importMode;
+	}
+
+	public ImportMode getRawImportMode() {
+		return ImportMode.fromString(importMode);
+	}
+
+	public void setImportMode(String importMode) {
+		this.importMode = importMode;
+	}
+
+	/**
+	 * Returns the Jena location mapping file used to resolve the
+	 * {@code owl:imports} of the models, or {@code null} if there is none.
+	 */
+	public String getImportCatalog() {
+		return importCatalog;
+	}
+
+	public void setImportCatalog(String importCatalog) {
+		this.importCatalog = importCatalog;
+	}
+
+	/**
+	 * Returns whether imported local documents should be taken from the
+	 * JVM-wide cache of read-only graphs.
+	 */
+	public boolean isImportCache() {
+		return importCache;
+	}
+
+	public void setImportCache(boolean importCache) {
+		this.importCache = importCache;
+	}
+
 	@Override
 	public String toString() {
 		return "RDFResourceConfiguration" +
@@ -82,6 +249,19 @@ public class RDFResourceConfiguration {
 				", schemaModels=" + schemaModels +
 				", validationMode=" + validationMode + 
 				", multiValueAttributeMode=" + multiValueAttributeMode +
+				", reasoner=" + reasoner +
+				", reasonerRules=" + reasonerRules +
+				", materialiseInference=" + materialiseInference +
+				", closureCache=" + closureCache +
+				", loadCache=" + loadCache +
+				", loadCacheFormat=" + loadCacheFormat +
+				", loadThreads=" + loadThreads +
+				", sharedGraphCache=" + sharedGraphCache +
+				", graphImplementation=" + graphImplementation +
+				", mergeDataModels=" + mergeDataModels +
+				", importMode=" + importMode +
+				", importCatalog=" + importCatalog +
+				", importCache=" + importCache +
 				" ]";
 	}
 
@@ -0,0 +1,147 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading.hdt;
+
+import java.io.IOException;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.JenaException;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NullIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+import org.rdfhdt.hdt.exceptions.NotFoundException;
+import org.rdfhdt.hdt.hdt.HDT;
+import org.rdfhdt.hdt.triples.TripleString;
+
+/**
+ * <p>
+ * Read-only Jena graph over an HDT document, which answers each triple pattern
+ * with a search over the (usually memory-mapped) HDT indices, without copying
+ * the triples into memory.
+ * </p>
+ *
+ * <p>
+ * HDT represents terms as strings: IRIs as they are, blank nodes with a
+ * {@code _:} prefix, and literals as their quoted lexical form followed by
+ * their language tag or datatype, as in N-Triples but without escaping the
+ * lexical form. Closing the graph closes the HDT document.
+ * </p>
+ */
+public class RDFHDTGraph extends GraphBase {
+
+	private static final String BLANK_PREFIX = "_:";
+	private static final String DATATYPE_SEPARATOR = "^^<";
+
+	private final HDT hdt;
+
+	public RDFHDTGraph(HDT hdt) {
+		this.hdt = hdt;
+	}
+
+	public HDT getHDT() {
+		return hdt;
+	}
+
+	@Override
+	protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+		try {
+			return WrappedIterator.create(hdt.search(
+				toHDTString(m.getMatchSubject()),
+				toHDTString(m.getMatchPredicate()),
+				toHDTString(m.getMatchObject())
+			)).mapWith(RDFHDTGraph::toTriple);
+		} catch (NotFoundException ex) {
+			// Some of the terms are not in the dictionary
+			return NullIterator.instance();
+		}
+	}
+
+	@Override
+	protected int graphBaseSize() {
+		return (int) Math.min(Integer.MAX_VALUE, hdt.getTriples().getNumberOfElements());
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		try {
+			hdt.close();
+		} catch (IOException ex) {
+			throw new JenaException(ex);
+		}
+	}
+
+	/**
+	 * Returns the HDT string for a Jena node, or the empty string (which
+	 * matches any term in HDT searches) for {@code null} or a variable.
+	 */
+	public static String toHDTString(Node node) {
+		if (node == null || !node.isConcrete()) {
+			return "";
+		} else if (node.isURI()) {
+			return node.getURI();
+		} else if (node.isBlank()) {
+			return BLANK_PREFIX + node.getBlankNodeLabel();
+		} else if (node.isLiteral()) {
+			StringBuilder sb = new StringBuilder();
+			sb.append('"').append(node.getLiteralLexicalForm()).append('"');
+			String lang = node.getLiteralLanguage();
+			if (lang != null && !lang.isEmpty()) {
+				sb.append('@').append(lang);
+			} else if (!XSDDatatype.XSDstring.getURI().equals(node.getLiteralDatatypeURI())) {
+				sb.append(DATATYPE_SEPARATOR).append(node.getLiteralDatatypeURI()).append('>');
+			}
+			return sb.toString();
+		}
+		throw new IllegalArgumentException("Cannot represent node in HDT: " + node);
+	}
+
+	/**
+	 * Returns the Jena node for an HDT string.
+	 */
+	public static Node toNode(CharSequence hdtString) {
+		String s = hdtString.toString();
+		if (s.startsWith("\"")) {
+			int end = s.lastIndexOf('"');
+			String lexicalForm = s.substring(1, end);
+			String suffix = s.substring(end + 1);
+			if (suffix.startsWith("@")) {
+				return NodeFactory.createLiteralLang(lexicalForm, suffix.substring(1));
+			} else if (suffix.startsWith(DATATYPE_SEPARATOR)) {
+				String datatypeURI = suffix.substring(DATATYPE_SEPARATOR.length(), suffix.length() - 1);
+				return NodeFactory.createLiteralDT(lexicalForm, TypeMapper.getInstance().getSafeTypeByName(datatypeURI));
+			}
+			return NodeFactory.createLiteralString(lexicalForm);
+		} else if (s.startsWith(BLANK_PREFIX)) {
+			return NodeFactory.createBlankNode(s.substring(BLANK_PREFIX.length()));
+		}
+		return NodeFactory.createURI(s);
+	}
+
+	/**
+	 * Returns the HDT triple for a Jena triple.
+	 */
+	public static TripleString toTripleString(Triple t) {
+		return new TripleString(toHDTString(t.getSubject()), toHDTString(t.getPredicate()), toHDTString(t.getObject()));
+	}
+
+	private static Triple toTriple(TripleString t) {
+		return Triple.create(toNode(t.getSubject()), toNode(t.getPredicate()), toNode(t.getObject()));
+	}
+
+}
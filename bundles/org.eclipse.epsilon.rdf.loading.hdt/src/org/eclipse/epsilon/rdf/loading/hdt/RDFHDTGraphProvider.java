@@ -0,0 +1,58 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading.hdt;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.apache.jena.graph.Graph;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFGraphProvider;
+import org.eclipse.epsilon.rdf.loading.RDFLoadCache;
+import org.rdfhdt.hdt.hdt.HDTManager;
+
+/**
+ * <p>
+ * Provides graphs for local HDT files, by memory-mapping them with
+ * <a href="https://github.com/rdfhdt/hdt-java">hdt-java</a>. The first time a
+ * file is mapped, hdt-java writes an additional index next to it (with the
+ * {@code .index.v1-1} suffix), which is reused by later loads.
+ * </p>
+ *
+ * <p>
+ * This provider is registered through {@link java.util.ServiceLoader}. Under
+ * OSGi, it is part of a fragment of the {@code org.eclipse.epsilon.rdf.loading}
+ * bundle, so the service registration is visible to {@link RDFDatasetLoader}.
+ * </p>
+ */
+public class RDFHDTGraphProvider implements RDFGraphProvider {
+
+	@Override
+	public boolean canProvide(String uri) {
+		return uri.toLowerCase(Locale.ROOT).endsWith(RDFDatasetLoader.HDT_EXTENSION)
+			&& RDFLoadCache.toLocalPath(uri) != null;
+	}
+
+	@Override
+	public Graph provide(String uri) throws IOException {
+		Path path = RDFLoadCache.toLocalPath(uri);
+		if (!Files.isRegularFile(path)) {
+			throw new FileNotFoundException(String.format("Cannot load '%s': the HDT file does not exist", uri));
+		}
+		return new RDFHDTGraph(HDTManager.mapIndexedHDT(path.toString()));
+	}
+
+}
@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import org.apache.jena.riot.Lang;
+
+/**
+ * Binary RDF formats which can be used by the {@link RDFLoadCache}.
+ */
+public enum RDFBinaryFormat {
+	THRIFT("thrift", Lang.RDFTHRIFT, ".rt"),
+	PROTOBUF("protobuf", Lang.RDFPROTO, ".rpb");
+
+	private final String id;
+	private final Lang lang;
+	private final String extension;
+
+	RDFBinaryFormat(String id, Lang lang, String extension) {
+		this.id = id;
+		this.lang = lang;
+		this.extension = extension;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Lang getLang() {
+		return lang;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public static RDFBinaryFormat fromString(String id) {
+		for (RDFBinaryFormat format : RDFBinaryFormat.values()) {
+			if (format.id.equalsIgnoreCase(id)) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("Binary format not found: " + id);
+	}
+
+}
@@ -0,0 +1,242 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.lang.CollectorStreamRDF;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.core.Quad;
+
+/**
+ * <p>
+ * Parses a single large N-Triples or N-Quads file using several threads. The
+ * file is memory-mapped and split into chunks at line boundaries (these formats
+ * have one statement per line), which are parsed concurrently. The statements
+ * are then sent to the output in the same order as in the file.
+ * </p>
+ *
+ * <p>
+ * Blank node labels are scoped to the whole file, as if it had been parsed in
+ * one go: every chunk allocates blank nodes by hashing their labels with the
+ * same per-file seed, so a label used in several chunks is still the same node.
+ * </p>
+ */
+public class RDFChunkedParser {
+
+	/**
+	 * Default size of each chunk (64 MiB). Chunks are extended to the end of
+	 * the line in which they would otherwise end.
+	 */
+	public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+	private final int threads;
+	private final long chunkSize;
+
+	public RDFChunkedParser(int threads, long chunkSize) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("The number of parsing threads must be at least 1");
+		}
+		if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("The chunk size must be between 1 and " + Integer.MAX_VALUE + " bytes");
+		}
+		this.threads = threads;
+		this.chunkSize = chunkSize;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Returns the line-based language of the file at the given path, or
+	 * {@code null} if it is not an uncompressed N-Triples or N-Quads file.
+	 */
+	public static Lang getLineBasedLang(Path path) {
+		String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+		if (name.endsWith(".nt")) {
+			return Lang.NTRIPLES;
+		} else if (name.endsWith(".nq")) {
+			return Lang.NQUADS;
+		}
+		return null;
+	}
+
+	/**
+	 * Parses the given file into the output. If any chunk cannot be parsed, the
+	 * error for the first such chunk in the file is thrown, and the statements
+	 * from the chunks before it will have been sent to the output.
+	 */
+	public void parse(Path file, Lang lang, StreamRDF output) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			List<Long> starts = findChunkStarts(channel);
+			long size = channel.size();
+			UUID seed = UUID.randomUUID();
+
+			output.start();
+			ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(threads, starts.size()), RDFDatasetLoader.createThreadFactory());
+			try {
+				// Limit the chunks held in memory while they wait to be sent to the output
+				final int maxPending = 2 * threads;
+				Deque<Future<CollectorStreamRDF>> pending = new ArrayDeque<>();
+				int nextChunk = 0;
+				while (nextChunk < starts.size() || !pending.isEmpty()) {
+					while (nextChunk < starts.size() && pending.size() < maxPending) {
+						long start = starts.get(nextChunk);
+						long end = nextChunk + 1 < starts.size() ? starts.get(nextChunk + 1) : size;
+						pending.add(executor.submit(() -> parseChunk(channel, start, end, lang, seed)));
+						nextChunk++;
+					}
+
+					CollectorStreamRDF collector;
+					try {
+						collector = pending.removeFirst().get();
+					} catch (ExecutionException ex) {
+						RDFDatasetLoader.rethrow(ex.getCause());
+						return;
+					}
+					for (Triple t : collector.getTriples()) {
+						output.triple(t);
+					}
+					for (Quad q : collector.getQuads()) {
+						output.quad(q);
+					}
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while parsing " + file);
+			} finally {
+				executor.shutdownNow();
+			}
+			output.finish();
+		}
+	}
+
+	/**
+	 * Returns the offsets at which each chunk starts. Every chunk but the first
+	 * starts right after a newline.
+	 */
+	protected List<Long> findChunkStarts(FileChannel channel) throws IOException {
+		final long size = channel.size();
+		List<Long> starts = new ArrayList<>();
+		starts.add(0L);
+
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long start = 0;
+		while (size - start > chunkSize) {
+			long newline = findNewline(channel, start + chunkSize - 1, buffer);
+			if (newline < 0 || newline + 1 >= size) {
+				break;
+			}
+			start = newline + 1;
+			starts.add(start);
+		}
+		return starts;
+	}
+
+	private static long findNewline(FileChannel channel, long from, ByteBuffer buffer) throws IOException {
+		long position = from;
+		while (true) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if (read <= 0) {
+				return -1;
+			}
+			for (int i = 0; i < read; i++) {
+				if (buffer.get(i) == '\n') {
+					return position + i;
+				}
+			}
+			position += read;
+		}
+	}
+
+	private static CollectorStreamRDF parseChunk(FileChannel channel, long start, long end, Lang lang, UUID seed) throws IOException {
+		if (end - start > Integer.MAX_VALUE) {
+			throw new IOException(String.format(
+				"Cannot parse the chunk starting at byte %d: its last line ends after more than %d bytes",
+				start, Integer.MAX_VALUE));
+		}
+
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		CollectorStreamRDF collector = new CollectorStreamRDF();
+		try {
+			RDFParser.source(new ByteBufferInputStream(buffer))
+				.lang(lang)
+				.labelToNode(LabelToNode.createScopeByDocumentHash(seed))
+				.parse(collector);
+		} catch (RiotException ex) {
+			// Line numbers reported by the parser are relative to the chunk
+			throw new RiotException(String.format("%s (in the chunk starting at byte %d)", ex.getMessage(), start), ex);
+		}
+		return collector;
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			} else if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int n = Math.min(len, buffer.remaining());
+			buffer.get(b, off, n);
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+}
@@ -0,0 +1,194 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.jena.Jena;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * <p>
+ * Cache of materialised inference closures, kept in a binary RDF format.
+ * </p>
+ *
+ * <p>
+ * Each closure is keyed by a SHA-256 digest of the Jena version, the reasoner
+ * settings, and the contents of the schema and data documents (in order).
+ * Closures can only be cached if all documents are local files: otherwise,
+ * the inference is materialised on every load.
+ * </p>
+ *
+ * <p>
+ * The documents imported while inferring the closure are only known after
+ * the inference, so they are listed in a separate file for the digest above,
+ * and the contents of the listed imports are added to the key of the closure.
+ * If an imported document changes, the closure is inferred again. Closures
+ * which followed remote imports are not cached.
+ * </p>
+ */
+public class RDFClosureCache {
+
+	private static final String CLOSURE_PREFIX = "closure-";
+	private static final String IMPORTS_EXTENSION = ".imports";
+
+	/**
+	 * Computes the inferred model when there is no usable cached closure.
+	 */
+	@FunctionalInterface
+	public interface Inference {
+		Model infer() throws IOException;
+	}
+
+	private final Path directory;
+	private final RDFBinaryFormat format;
+	private List<String> importLocations = Collections.emptyList();
+
+	public RDFClosureCache(Path directory, RDFBinaryFormat format) {
+		this.directory = directory;
+		this.format = format;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	public RDFBinaryFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Returns the locations of the documents imported into the closure returned
+	 * by the last call to {@link #load}, whether it was inferred or read from
+	 * the cache.
+	 */
+	public List<String> getImportLocations() {
+		return importLocations;
+	}
+
+	/**
+	 * Copies all the statements in the (possibly inferred) model into a plain
+	 * in-memory model, which can be queried without running any rules.
+	 */
+	public static Model materialise(Model inferred) {
+		Model closure = ModelFactory.createDefaultModel();
+		closure.setNsPrefixes(inferred.getNsPrefixMap());
+		closure.add(inferred);
+		return closure;
+	}
+
+	/**
+	 * Returns the cached closure for the given settings and documents, or
+	 * materialises the result of the inference and caches it.
+	 *
+	 * @param settings
+	 *            Description of the reasoner and any other options that change
+	 *            the inferred statements (e.g. custom rules).
+	 * @param importLocations
+	 *            Provides the locations of the documents that were imported
+	 *            while running the inference (see
+	 *            {@link RDFImportResolver#getImportLocations()}).
+	 */
+	public Model load(String settings, Collection<String> schemaURIs, Collection<String> dataURIs,
+			Inference inference, Supplier<Collection<String>> importLocations) throws IOException {
+		String documentsKey = computeKey(settings, schemaURIs, dataURIs);
+		if (documentsKey == null) {
+			return materialise(inference.infer());
+		}
+
+		Path fImports = directory.resolve(CLOSURE_PREFIX + documentsKey + IMPORTS_EXTENSION);
+		if (Files.isRegularFile(fImports)) {
+			List<String> imports = Files.readAllLines(fImports, StandardCharsets.UTF_8);
+			String key = computeImportsKey(documentsKey, imports);
+			if (key != null) {
+				Model cached = RDFLoadCache.readBinary(getClosurePath(key), format);
+				if (cached != null) {
+					this.importLocations = imports;
+					return cached;
+				}
+			}
+		}
+
+		Model closure = materialise(inference.infer());
+		List<String> imports = new ArrayList<>(importLocations.get());
+		this.importLocations = imports;
+		String key = computeImportsKey(documentsKey, imports);
+		if (key != null) {
+			// The closure is written first, so the listed imports always lead to it
+			RDFLoadCache.writeBinary(getClosurePath(key), closure, format);
+			Files.write(fImports, imports, StandardCharsets.UTF_8);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns the digest that identifies the closure, or {@code null} if any of
+	 * the documents is not a local file.
+	 */
+	public String computeKey(String settings, Collection<String> schemaURIs, Collection<String> dataURIs) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append("jena=").append(Jena.VERSION).append('\n');
+		sb.append("settings=").append(settings).append('\n');
+		if (!appendDocumentHashes(sb, "schema", schemaURIs) || !appendDocumentHashes(sb, "data", dataURIs)) {
+			return null;
+		}
+		return RDFLoadCache.sha256(sb.toString());
+	}
+
+	/**
+	 * Returns the digest that identifies the closure with the given imports, or
+	 * {@code null} if any of the imports is a remote document. Imported local
+	 * files that could not be found are part of the key as well.
+	 */
+	protected String computeImportsKey(String documentsKey, Collection<String> importLocations) throws IOException {
+		if (importLocations.isEmpty()) {
+			return documentsKey;
+		}
+
+		StringBuilder sb = new StringBuilder(documentsKey).append('\n');
+		for (String location : importLocations) {
+			Path path = RDFLoadCache.toLocalPath(location);
+			if (path == null) {
+				return null;
+			}
+			sb.append("import=").append(location).append(' ');
+			sb.append(Files.isRegularFile(path) ? RDFLoadCache.sha256(path) : "missing").append('\n');
+		}
+		return RDFLoadCache.sha256(sb.toString());
+	}
+
+	protected Path getClosurePath(String key) {
+		return directory.resolve(CLOSURE_PREFIX + key + format.getExtension());
+	}
+
+	private static boolean appendDocumentHashes(StringBuilder sb, String role, Collection<String> uris) throws IOException {
+		for (String uri : uris) {
+			Path path = RDFLoadCache.toLocalPath(uri);
+			if (path == null || !Files.isRegularFile(path)) {
+				return false;
+			}
+			sb.append(role).append('=').append(RDFLoadCache.sha256(path)).append('\n');
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,302 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.Arrays;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+
+/**
+ * <p>
+ * Read-only in-memory graph which is built once and then only queried. Every
+ * term is stored once in a dictionary and referred to by an integer ID, and
+ * each triple is stored as three IDs. Triples are kept sorted in subject,
+ * predicate, object (SPO) order, and two permutations of them keep the POS and
+ * OSP orders, so any pattern can be answered with a binary search.
+ * </p>
+ *
+ * <p>
+ * This needs about 20 bytes per triple on top of the terms themselves, which
+ * is several times less than the indexes of a general-purpose mutable graph.
+ * Attempts to change the graph throw an
+ * {@link org.apache.jena.shared.AddDeniedException} or
+ * {@link org.apache.jena.shared.DeleteDeniedException}.
+ * </p>
+ */
+public final class RDFCompactGraph extends SortedTripleGraph {
+
+	/**
+	 * Collects the triples of a compact graph. The triples can be added in any
+	 * order, and duplicates are removed by {@link #build()}.
+	 */
+	public static final class Builder {
+		private final NodeTable nodes = new NodeTable();
+		private int[] subjects = new int[1024];
+		private int[] predicates = new int[1024];
+		private int[] objects = new int[1024];
+		private int size;
+
+		public Builder add(Triple t) {
+			return add(t.getSubject(), t.getPredicate(), t.getObject());
+		}
+
+		public Builder add(Node s, Node p, Node o) {
+			if (size == subjects.length) {
+				// Grow by half, without going over the maximum array length (or overflowing)
+				int newLength = size + Math.min(size >> 1, Integer.MAX_VALUE - 8 - size);
+				if (newLength == size) {
+					throw new IllegalStateException("A compact graph cannot have more than " + size + " triples");
+				}
+				subjects = Arrays.copyOf(subjects, newLength);
+				predicates = Arrays.copyOf(predicates, newLength);
+				objects = Arrays.copyOf(objects, newLength);
+			}
+			subjects[size] = nodes.intern(s);
+			predicates[size] = nodes.intern(p);
+			objects[size] = nodes.intern(o);
+			size++;
+			return this;
+		}
+
+		public Builder addAll(Graph graph) {
+			graph.find().forEachRemaining(this::add);
+			return this;
+		}
+
+		/**
+		 * Sorts the collected triples into a new graph. The builder should not be
+		 * used afterwards.
+		 */
+		public RDFCompactGraph build() {
+			nodes.trim();
+			int numNodes = nodes.size();
+
+			// Stable counting sorts from the least to the most significant column
+			int[] order = identity(size);
+			order = sortBy(objects, order, numNodes);
+			order = sortBy(predicates, order, numNodes);
+			order = sortBy(subjects, order, numNodes);
+
+			// Reorder the columns into SPO order, dropping duplicate triples
+			int[] s = new int[size], p = new int[size], o = new int[size];
+			int n = 0;
+			for (int i : order) {
+				if (n == 0 || s[n - 1] != subjects[i] || p[n - 1] != predicates[i] || o[n - 1] != objects[i]) {
+					s[n] = subjects[i];
+					p[n] = predicates[i];
+					o[n] = objects[i];
+					n++;
+				}
+			}
+			subjects = predicates = objects = null;
+			if (n < s.length) {
+				s = Arrays.copyOf(s, n);
+				p = Arrays.copyOf(p, n);
+				o = Arrays.copyOf(o, n);
+			}
+
+			/*
+			 * As the triples are already sorted by subject, sorting their positions
+			 * stably by object and then by predicate produces the POS order, and
+			 * sorting them stably by object produces the OSP order.
+			 */
+			int[] osp = sortBy(o, identity(n), numNodes);
+			int[] pos = sortBy(p, sortBy(o, identity(n), numNodes), numNodes);
+
+			return new RDFCompactGraph(nodes, s, p, o, pos, osp);
+		}
+
+		private static int[] identity(int n) {
+			int[] result = new int[n];
+			for (int i = 0; i < n; i++) {
+				result[i] = i;
+			}
+			return result;
+		}
+
+		private static int[] sortBy(int[] keys, int[] order, int numKeys) {
+			int[] starts = new int[numKeys + 1];
+			for (int i : order) {
+				starts[keys[i] + 1]++;
+			}
+			for (int k = 0; k < numKeys; k++) {
+				starts[k + 1] += starts[k];
+			}
+			int[] sorted = new int[order.length];
+			for (int i : order) {
+				sorted[starts[keys[i]]++] = i;
+			}
+			return sorted;
+		}
+	}
+
+	/**
+	 * Dictionary from terms to consecutive IDs, using open addressing over an
+	 * array of IDs rather than a map of boxed integers.
+	 */
+	static final class NodeTable {
+		private Node[] nodes;
+		private int[] slots;
+		private int size;
+
+		NodeTable() {
+			this(new Node[1024], 0);
+		}
+
+		NodeTable(Node[] nodes, int size) {
+			this.nodes = nodes;
+			this.size = size;
+			this.slots = new int[tableSizeFor(Math.max(size, 512))];
+			for (int id = 0; id < size; id++) {
+				insert(id);
+			}
+		}
+
+		int size() {
+			return size;
+		}
+
+		Node get(int id) {
+			return nodes[id];
+		}
+
+		/**
+		 * Returns the ID of the term, or -1 if it is not in the dictionary.
+		 */
+		int find(Node node) {
+			int mask = slots.length - 1;
+			for (int i = mix(node.hashCode()) & mask; slots[i] != 0; i = (i + 1) & mask) {
+				if (nodes[slots[i] - 1].equals(node)) {
+					return slots[i] - 1;
+				}
+			}
+			return -1;
+		}
+
+		int intern(Node node) {
+			int id = find(node);
+			if (id >= 0) {
+				return id;
+			}
+
+			if (size == nodes.length) {
+				nodes = Arrays.copyOf(nodes, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, nodes.length * 2L)));
+			}
+			id = size++;
+			nodes[id] = node;
+			if (size * 2 > slots.length) {
+				slots = new int[slots.length * 2];
+				for (int other = 0; other < size; other++) {
+					insert(other);
+				}
+			} else {
+				insert(id);
+			}
+			return id;
+		}
+
+		/**
+		 * Releases the unused capacity of the dictionary.
+		 */
+		void trim() {
+			nodes = Arrays.copyOf(nodes, size);
+		}
+
+		private void insert(int id) {
+			int mask = slots.length - 1;
+			int i = mix(nodes[id].hashCode()) & mask;
+			while (slots[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			slots[i] = id + 1;
+		}
+
+		private static int mix(int hash) {
+			return hash ^ (hash >>> 16);
+		}
+
+		private static int tableSizeFor(int entries) {
+			return Integer.highestOneBit(entries * 2 - 1) << 1;
+		}
+	}
+
+	private final NodeTable nodes;
+	private final int[] subjects, predicates, objects;
+	private final int[] pos, osp;
+
+	RDFCompactGraph(NodeTable nodes, int[] subjects, int[] predicates, int[] objects, int[] pos, int[] osp) {
+		this.nodes = nodes;
+		this.subjects = subjects;
+		this.predicates = predicates;
+		this.objects = objects;
+		this.pos = pos;
+		this.osp = osp;
+	}
+
+	/**
+	 * Returns a compact copy of the given graph, including its prefixes.
+	 */
+	public static RDFCompactGraph copyOf(Graph graph) {
+		RDFCompactGraph copy = new Builder().addAll(graph).build();
+		copy.getPrefixMapping().setNsPrefixes(graph.getPrefixMapping());
+		return copy;
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodes.size();
+	}
+
+	@Override
+	protected int findNodeId(Node node) {
+		return nodes.find(node);
+	}
+
+	@Override
+	protected Node getNode(int id) {
+		return nodes.get(id);
+	}
+
+	@Override
+	protected int getTripleCount() {
+		return subjects.length;
+	}
+
+	@Override
+	protected int getSubject(int i) {
+		return subjects[i];
+	}
+
+	@Override
+	protected int getPredicate(int i) {
+		return predicates[i];
+	}
+
+	@Override
+	protected int getObject(int i) {
+		return objects[i];
+	}
+
+	@Override
+	protected int getPOS(int i) {
+		return pos[i];
+	}
+
+	@Override
+	protected int getOSP(int i) {
+		return osp[i];
+	}
+
+}
@@ -0,0 +1,463 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.compose.MultiUnion;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.sparql.core.DatasetGraphFactory;
+
+/**
+ * <p>
+ * Loads RDF documents into a dataset with one named model per document, using
+ * the document URI as the name of the model. Documents are parsed into memory
+ * by Jena (going through the {@link RDFLoadCache} if one has been set), unless
+ * an {@link RDFGraphProvider} is available for them.
+ * </p>
+ *
+ * <p>
+ * Multiple documents are loaded concurrently, using up to
+ * {@link #getThreads()} threads (virtual threads if the JVM supports them).
+ * The chunks of a large N-Triples or N-Quads file are parsed in parallel by an
+ * {@link RDFChunkedParser}, within the same budget: when several documents are
+ * loaded at once, each gets an equal share of the threads for its chunks, so
+ * no more than {@link #getThreads()} threads are parsing at any time.
+ * </p>
+ *
+ * <p>
+ * If an {@link RDFSharedGraphCache} has been set, local documents are taken
+ * from it as read-only graphs shared with other models, and the loader keeps
+ * a lease on them until it is closed.
+ * </p>
+ */
+public class RDFDatasetLoader implements AutoCloseable {
+
+	/**
+	 * File extension of HDT documents. These need an {@link RDFGraphProvider}
+	 * (such as the one in the {@code org.eclipse.epsilon.rdf.loading.hdt}
+	 * fragment), as Jena cannot parse them on its own.
+	 */
+	public static final String HDT_EXTENSION = ".hdt";
+
+	private static final String THREAD_NAME_PREFIX = "rdf-loader-";
+
+	private static final List<RDFGraphProvider> PROVIDERS = new CopyOnWriteArrayList<>();
+	static {
+		for (RDFGraphProvider provider : ServiceLoader.load(RDFGraphProvider.class, RDFDatasetLoader.class.getClassLoader())) {
+			PROVIDERS.add(provider);
+		}
+	}
+
+	private RDFLoadCache loadCache;
+	private RDFSharedGraphCache sharedGraphCache;
+	private final List<RDFSharedGraphCache.Lease> leases = Collections.synchronizedList(new ArrayList<>());
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private long chunkSize = RDFChunkedParser.DEFAULT_CHUNK_SIZE;
+	private boolean compactGraphs;
+	private RDFGraphImplementation graphImplementation = RDFGraphImplementation.FAST;
+
+	public RDFLoadCache getLoadCache() {
+		return loadCache;
+	}
+
+	/**
+	 * Changes the cache of parsed documents to be used, or disables caching if
+	 * {@code null} is passed (the default).
+	 */
+	public void setLoadCache(RDFLoadCache loadCache) {
+		this.loadCache = loadCache;
+	}
+
+	public RDFSharedGraphCache getSharedGraphCache() {
+		return sharedGraphCache;
+	}
+
+	/**
+	 * Changes the cache of shared read-only graphs to be used, or disables
+	 * sharing if {@code null} is passed (the default). Only models that will
+	 * not be modified should be loaded from a shared cache.
+	 */
+	public void setSharedGraphCache(RDFSharedGraphCache sharedGraphCache) {
+		this.sharedGraphCache = sharedGraphCache;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Changes the maximum number of documents that will be loaded at the same
+	 * time. A value of 1 loads the documents one after another, from the calling
+	 * thread.
+	 */
+	public void setThreads(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("The number of loading threads must be at least 1");
+		}
+		this.threads = threads;
+	}
+
+	public long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Changes the size of the chunks in which large N-Triples and N-Quads files
+	 * are split for parsing in parallel. A value of 0 disables chunked parsing.
+	 */
+	public void setChunkSize(long chunkSize) {
+		if (chunkSize < 0 || chunkSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("The chunk size must be between 0 and " + Integer.MAX_VALUE + " bytes");
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Registers a graph provider. Providers registered later take precedence
+	 * over previous ones.
+	 */
+	public static void addProvider(RDFGraphProvider provider) {
+		PROVIDERS.add(0, provider);
+	}
+
+	public static void removeProvider(RDFGraphProvider provider) {
+		PROVIDERS.remove(provider);
+	}
+
+	/**
+	 * Returns the provider to be used for the document at the given URI, or
+	 * {@code null} if the document should be parsed by Jena.
+	 */
+	public static RDFGraphProvider findProvider(String uri) {
+		for (RDFGraphProvider provider : PROVIDERS) {
+			if (provider.canProvide(uri)) {
+				return provider;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns {@code true} if the document at the given URI is obtained from
+	 * an {@link RDFGraphProvider}, and should therefore not be written back.
+	 */
+	public static boolean isProvided(String uri) {
+		return findProvider(uri) != null;
+	}
+
+	/**
+	 * Creates a dataset with a named model for each of the given URIs. If any
+	 * document cannot be loaded, the error for the first such document in the
+	 * collection is thrown (regardless of the order in which the documents were
+	 * loaded), with the errors for the other documents as suppressed exceptions.
+	 */
+	public Dataset loadNamed(Collection<String> uris) throws IOException {
+		List<String> uriList = new ArrayList<>(uris);
+		List<Model> models = loadModels(uriList);
+
+		Dataset dataset = DatasetFactory.createGeneral();
+		for (int i = 0; i < uriList.size(); i++) {
+			dataset.addNamedModel(uriList.get(i), models.get(i));
+		}
+		return dataset;
+	}
+
+	/**
+	 * <p>
+	 * Creates a dataset with a named model for each of the given URIs, like
+	 * {@link #loadNamed(Collection)}, but merging the triples of all parsed
+	 * documents into a single {@link RDFMergedGraph}. The named models are views
+	 * of the merged graph which only have the triples of their own document, and
+	 * changes to them are reflected in the merged graph.
+	 * </p>
+	 *
+	 * <p>
+	 * The default model of the dataset is the union of all the documents. It
+	 * should be queried instead of {@link Dataset#getUnionModel()}, which would
+	 * go through each named model. Graphs from providers are not merged, but
+	 * are still part of the default model. If {@link #isCompactGraphs()} is
+	 * enabled, the merged graph is a read-only compact graph.
+	 * </p>
+	 */
+	public Dataset loadMerged(Collection<String> uris) throws IOException {
+		List<String> uriList = new ArrayList<>(uris);
+		List<Model> models = loadModels(uriList);
+
+		List<String> mergedURIs = new ArrayList<>();
+		List<Graph> mergedGraphs = new ArrayList<>();
+		List<Graph> providedGraphs = new ArrayList<>();
+		for (int i = 0; i < uriList.size(); i++) {
+			if (isProvided(uriList.get(i))) {
+				providedGraphs.add(models.get(i).getGraph());
+			} else {
+				mergedURIs.add(uriList.get(i));
+				mergedGraphs.add(models.get(i).getGraph());
+			}
+		}
+		RDFMergedGraph merged = compactGraphs
+			? RDFMergedGraph.mergeCompact(mergedURIs, mergedGraphs)
+			: RDFMergedGraph.merge(mergedURIs, mergedGraphs, graphImplementation);
+
+		Graph union = merged;
+		if (!providedGraphs.isEmpty()) {
+			MultiUnion multiUnion = new MultiUnion(new Graph[] { merged });
+			providedGraphs.forEach(multiUnion::addGraph);
+			union = multiUnion;
+		}
+
+		// The default graph must be linked rather than copied, so it sees changes to the named models
+		Dataset dataset = DatasetFactory.wrap(DatasetGraphFactory.createGeneral(union));
+		for (int i = 0; i < uriList.size(); i++) {
+			String uri = uriList.get(i);
+			if (isProvided(uri)) {
+				dataset.addNamedModel(uri, models.get(i));
+			} else {
+				dataset.addNamedModel(uri, ModelFactory.createModelForGraph(merged.getSourceGraph(uri)));
+			}
+		}
+		return dataset;
+	}
+
+	/**
+	 * Loads the documents at the given URIs, returning their models in the same
+	 * order as the URIs.
+	 */
+	public List<Model> loadModels(List<String> uris) throws IOException {
+		if (threads == 1 || uris.size() <= 1) {
+			List<Model> models = new ArrayList<>(uris.size());
+			for (String uri : uris) {
+				models.add(loadModel(uri));
+			}
+			return models;
+		}
+
+		final int workers = Math.min(threads, uris.size());
+		final int parseThreads = Math.max(1, threads / workers);
+		ExecutorService executor = Executors.newFixedThreadPool(workers, createThreadFactory());
+		try {
+			List<Future<Model>> futures = new ArrayList<>(uris.size());
+			for (String uri : uris) {
+				futures.add(executor.submit(() -> loadModel(uri, parseThreads)));
+			}
+
+			List<Model> models = new ArrayList<>(uris.size());
+			Throwable firstError = null;
+			for (Future<Model> future : futures) {
+				try {
+					models.add(future.get());
+				} catch (ExecutionException ex) {
+					if (firstError == null) {
+						firstError = ex.getCause();
+					} else {
+						firstError.addSuppressed(ex.getCause());
+					}
+				}
+			}
+
+			if (firstError != null) {
+				rethrow(firstError);
+			}
+			return models;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while loading RDF documents");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	public boolean isCompactGraphs() {
+		return compactGraphs;
+	}
+
+	/**
+	 * Changes whether parsed documents are converted into read-only
+	 * {@link RDFCompactGraph}s (disabled by default). Graphs from providers are
+	 * used as they are.
+	 */
+	public void setCompactGraphs(boolean compactGraphs) {
+		this.compactGraphs = compactGraphs;
+	}
+
+	public RDFGraphImplementation getGraphImplementation() {
+		return graphImplementation;
+	}
+
+	/**
+	 * Changes the in-memory graph implementation that documents are parsed
+	 * into ({@link RDFGraphImplementation#FAST} by default). Documents read
+	 * from the load cache use the implementation set in the cache instead.
+	 */
+	public void setGraphImplementation(RDFGraphImplementation graphImplementation) {
+		this.graphImplementation = graphImplementation;
+	}
+
+	/**
+	 * Describes the kind of graph that this loader reads documents into, so
+	 * the {@link RDFSharedGraphCache} only shares graphs between loaders that
+	 * would have produced the same kind of graph.
+	 */
+	public String getGraphVariant() {
+		return "graph=" + graphImplementation.getId() + ",compact=" + compactGraphs;
+	}
+
+	/**
+	 * Loads the document at the given URI. If a provider is available, its
+	 * graph is used directly instead of copying it into memory.
+	 */
+	public Model loadModel(String uri) throws IOException {
+		return loadModel(uri, threads);
+	}
+
+	/**
+	 * Loads the document at the given URI, using up to the given number of
+	 * threads to parse its chunks (see {@link #parseModel(String, int)}).
+	 */
+	protected Model loadModel(String uri, int parseThreads) throws IOException {
+		RDFGraphProvider provider = findProvider(uri);
+		if (provider != null) {
+			return ModelFactory.createModelForGraph(provider.provide(uri));
+		}
+
+		if (uri.toLowerCase(Locale.ROOT).endsWith(HDT_EXTENSION)) {
+			throw new IOException(String.format(
+				"Cannot load '%s': HDT documents require an RDFGraphProvider (e.g. the one in org.eclipse.epsilon.rdf.loading.hdt)", uri));
+		}
+		if (sharedGraphCache != null) {
+			RDFSharedGraphCache.Lease lease = sharedGraphCache.acquire(uri, getGraphVariant(), u -> readModel(u, parseThreads));
+			if (lease != null) {
+				leases.add(lease);
+				return ModelFactory.createModelForGraph(lease.getGraph());
+			}
+		}
+		return readModel(uri, parseThreads);
+	}
+
+	/**
+	 * Releases the leases on the shared graphs used by the models loaded so far.
+	 * The models can still be used, but their graphs may be evicted from the
+	 * shared cache.
+	 */
+	@Override
+	public void close() {
+		synchronized (leases) {
+			for (RDFSharedGraphCache.Lease lease : leases) {
+				lease.close();
+			}
+			leases.clear();
+		}
+	}
+
+	/**
+	 * Reads the document at the given URI from the load cache if one has been
+	 * set, or parses it otherwise. The result is converted into a compact graph
+	 * if {@link #isCompactGraphs()} is enabled.
+	 */
+	protected Model readModel(String uri) throws IOException {
+		return readModel(uri, threads);
+	}
+
+	/**
+	 * Variant of {@link #readModel(String)} which uses up to the given number
+	 * of threads to parse the chunks of the document.
+	 */
+	protected Model readModel(String uri, int parseThreads) throws IOException {
+		Model model = loadCache != null ? loadCache.load(uri, u -> parseModel(u, parseThreads)) : parseModel(uri, parseThreads);
+		if (compactGraphs) {
+			return ModelFactory.createModelForGraph(RDFCompactGraph.copyOf(model.getGraph()));
+		}
+		return model;
+	}
+
+	/**
+	 * Parses the document at the given URI with Jena, into a graph of the
+	 * implementation in {@link #getGraphImplementation()}. Local N-Triples and
+	 * N-Quads files larger than {@link #getChunkSize()} are split into chunks
+	 * which are parsed in parallel by up to {@code parseThreads} threads,
+	 * unless only one thread is allowed.
+	 */
+	protected Model parseModel(String uri, int parseThreads) throws IOException {
+		if (parseThreads > 1 && chunkSize > 0) {
+			Path path = RDFLoadCache.toLocalPath(uri);
+			Lang lang = path == null ? null : RDFChunkedParser.getLineBasedLang(path);
+			if (lang != null && Files.isRegularFile(path) && Files.size(path) > chunkSize) {
+				Model model = graphImplementation.createModel();
+				new RDFChunkedParser(parseThreads, chunkSize).parse(path, lang, StreamRDFLib.graph(model.getGraph()));
+				return model;
+			}
+		}
+		Model model = graphImplementation.createModel();
+		RDFDataMgr.read(model, uri);
+		return model;
+	}
+
+	/**
+	 * Rethrows an error raised while loading from another thread, wrapping it
+	 * into an {@link IOException} if it is a checked exception of another type.
+	 */
+	static void rethrow(Throwable error) throws IOException {
+		if (error instanceof IOException ioEx) {
+			throw ioEx;
+		} else if (error instanceof RuntimeException rtEx) {
+			throw rtEx;
+		} else if (error instanceof Error err) {
+			throw err;
+		}
+		throw new IOException(error);
+	}
+
+	/**
+	 * Returns a factory of virtual threads if they are available (Java 21+), or
+	 * a factory of daemon platform threads otherwise.
+	 */
+	static ThreadFactory createThreadFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException | RuntimeException ex) {
+			AtomicInteger count = new AtomicInteger();
+			return r -> {
+				Thread t = new Thread(r, THREAD_NAME_PREFIX + count.getAndIncrement());
+				t.setDaemon(true);
+				return t;
+			};
+		}
+	}
+
+}
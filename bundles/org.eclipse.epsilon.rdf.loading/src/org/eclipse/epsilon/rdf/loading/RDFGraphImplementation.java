@@ -0,0 +1,78 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.function.Supplier;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.mem2.GraphMem2Fast;
+import org.apache.jena.mem2.GraphMem2Legacy;
+import org.apache.jena.mem2.GraphMem2Roaring;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * In-memory graph implementations of Jena which documents can be parsed into.
+ * They trade memory for the speed of finding triples in different ways: the
+ * {@code GraphMemBenchmark} in the tests measures both for a given size.
+ */
+public enum RDFGraphImplementation {
+	/**
+	 * {@link GraphMem2Fast}, which is the default graph of Jena 5. It indexes
+	 * triples by subject, predicate and object in hash maps.
+	 */
+	FAST("fast", GraphMem2Fast::new),
+
+	/**
+	 * {@link GraphMem2Legacy}, which uses the same indexing as the in-memory
+	 * graph of Jena 4.
+	 */
+	LEGACY("legacy", GraphMem2Legacy::new),
+
+	/**
+	 * {@link GraphMem2Roaring}, which keeps a bitmap of the matching triples
+	 * for each term. Patterns with two or three concrete terms are found by
+	 * intersecting bitmaps, but patterns with many results are slower.
+	 */
+	ROARING("roaring", GraphMem2Roaring::new);
+
+	private final String id;
+	private final Supplier<Graph> factory;
+
+	RDFGraphImplementation(String id, Supplier<Graph> factory) {
+		this.id = id;
+		this.factory = factory;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Graph createGraph() {
+		return factory.get();
+	}
+
+	public Model createModel() {
+		return ModelFactory.createModelForGraph(createGraph());
+	}
+
+	public static RDFGraphImplementation fromString(String id) {
+		for (RDFGraphImplementation impl : RDFGraphImplementation.values()) {
+			if (impl.id.equalsIgnoreCase(id)) {
+				return impl;
+			}
+		}
+		throw new IllegalArgumentException("Graph implementation not found: " + id);
+	}
+
+}
@@ -0,0 +1,49 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+
+import org.apache.jena.graph.Graph;
+
+/**
+ * <p>
+ * Provides Jena graphs for documents which should not be parsed into memory,
+ * such as HDT files which can be memory-mapped and queried in place.
+ * </p>
+ *
+ * <p>
+ * Providers are found through {@link java.util.ServiceLoader}, or can be
+ * registered explicitly with {@link RDFDatasetLoader#addProvider}. Under OSGi,
+ * the {@link java.util.ServiceLoader} only sees the registrations in this
+ * bundle and its fragments (e.g. the HDT provider in the
+ * {@code org.eclipse.epsilon.rdf.loading.hdt} fragment): providers in other
+ * bundles must be registered explicitly. Graphs returned by providers are used
+ * as they are, and are treated as read-only: they are never written back when
+ * the model is stored.
+ * </p>
+ */
+public interface RDFGraphProvider {
+
+	/**
+	 * Returns {@code true} if this provider should be used to obtain the graph
+	 * for the document at the given URI.
+	 */
+	boolean canProvide(String uri);
+
+	/**
+	 * Returns the graph for the document at the given URI.
+	 */
+	Graph provide(String uri) throws IOException;
+
+}
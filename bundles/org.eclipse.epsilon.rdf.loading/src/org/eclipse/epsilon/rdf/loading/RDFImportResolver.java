@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.ontology.OntDocumentManager;
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.stream.JenaIOEnvironment;
+import org.apache.jena.riot.system.stream.LocationMapper;
+import org.apache.jena.util.FileManagerImpl;
+
+/**
+ * <p>
+ * Document manager which resolves the {@code owl:imports} of an ontology model
+ * without depending on the network, if so configured. Imported documents are
+ * loaded through an {@link RDFDatasetLoader}, so they benefit from its load
+ * cache and graph providers.
+ * </p>
+ *
+ * <p>
+ * Imports are first mapped through an optional catalog in the Jena location
+ * mapping format (see {@link #setCatalog(String)}), and then handled according
+ * to the {@link ImportMode}. If an import cache is set, local imports are taken
+ * from it as read-only graphs shared with other models, and the resolver keeps
+ * a lease on them until it is closed.
+ * </p>
+ */
+public class RDFImportResolver extends OntDocumentManager implements AutoCloseable {
+
+	/**
+	 * How the {@code owl:imports} of the ontology are processed.
+	 */
+	public enum ImportMode {
+		/**
+		 * Imports are loaded from their mapped location, fetching remote
+		 * documents if needed. This is Jena's default behaviour.
+		 */
+		FOLLOW("follow"),
+
+		/**
+		 * Only imports whose mapped location is a local file are loaded: other
+		 * imports are skipped without attempting to fetch them.
+		 */
+		OFFLINE("offline"),
+
+		/**
+		 * Imports are not processed at all.
+		 */
+		NONE("none");
+
+		private final String id;
+
+		ImportMode(String id) {
+			this.id = id;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public static ImportMode fromString(String id) {
+			for (ImportMode mode : ImportMode.values()) {
+				if (mode.id.equalsIgnoreCase(id)) {
+					return mode;
+				}
+			}
+			throw new IllegalArgumentException("Import mode not found: " + id);
+		}
+	}
+
+	private final ImportMode mode;
+	private final RDFDatasetLoader loader;
+	private LocationMapper catalog;
+	private URI catalogBase;
+	private RDFSharedGraphCache importCache;
+
+	// Jena asks for the same import more than once while processing imports
+	private final Map<String, Model> loaded = new HashMap<>();
+	private final Set<String> importLocations = new LinkedHashSet<>();
+	private final List<RDFSharedGraphCache.Lease> leases = new ArrayList<>();
+
+	public RDFImportResolver(ImportMode mode, RDFDatasetLoader loader) {
+		/*
+		 * Use a private file manager without any locators or location mappings,
+		 * so imported models are not cached globally by Jena: it is never used
+		 * to read documents, as getModel always loads them through our loader.
+		 */
+		super(new FileManagerImpl() {}, (String) null);
+		this.mode = mode;
+		this.loader = loader;
+		setProcessImports(mode != ImportMode.NONE);
+		setCacheModels(false);
+	}
+
+	public ImportMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Reads the catalog of alternative locations for imported documents, in the
+	 * Jena location mapping format ({@code lm:mapping} entries with
+	 * {@code lm:name}/{@code lm:altName} or {@code lm:prefix}/{@code lm:altPrefix}
+	 * pairs). Relative alternative locations are resolved against the location
+	 * of the catalog. Passing {@code null} removes the catalog (the default).
+	 */
+	public void setCatalog(String catalogLocation) throws IOException {
+		if (catalogLocation == null) {
+			this.catalog = null;
+			this.catalogBase = null;
+			return;
+		}
+
+		Path path = RDFLoadCache.toLocalPath(catalogLocation);
+		if (path == null || !Files.isRegularFile(path)) {
+			throw new IOException(String.format("Import catalog '%s' is not a local file", catalogLocation));
+		}
+		this.catalogBase = path.toAbsolutePath().toUri();
+		this.catalog = JenaIOEnvironment.processConfig(RDFDataMgr.loadModel(catalogBase.toString()));
+	}
+
+	public RDFSharedGraphCache getImportCache() {
+		return importCache;
+	}
+
+	/**
+	 * Changes the cache of shared read-only graphs for imported local documents,
+	 * or disables it if {@code null} is passed (the default).
+	 */
+	public void setImportCache(RDFSharedGraphCache importCache) {
+		this.importCache = importCache;
+	}
+
+	/**
+	 * Returns a copy of the specification which uses this resolver for its
+	 * imports.
+	 */
+	public OntModelSpec createSpec(OntModelSpec spec) {
+		OntModelSpec copy = new OntModelSpec(spec);
+		copy.setDocumentManager(this);
+		return copy;
+	}
+
+	/**
+	 * Returns the location from which an imported document will be loaded,
+	 * after applying the catalog.
+	 */
+	public String mapLocation(String uri) {
+		if (catalog == null) {
+			return uri;
+		}
+		String mapped = catalog.altMapping(uri, null);
+		if (mapped == null) {
+			return uri;
+		}
+		return catalogBase.resolve(mapped).toString();
+	}
+
+	/**
+	 * Returns the imported document with the given URI, loading it on first
+	 * use. Jena only falls back to its own loading if this returns {@code null},
+	 * which never happens: failed and skipped imports produce an empty model
+	 * instead, and a warning.
+	 */
+	@Override
+	public synchronized Model getModel(String uri) {
+		return loaded.computeIfAbsent(uri, this::loadImport);
+	}
+
+	private Model loadImport(String uri) {
+		String location = mapLocation(uri);
+		Path path = RDFLoadCache.toLocalPath(location);
+		boolean isLocal = path != null && Files.isRegularFile(path);
+		if (!isLocal && mode == ImportMode.OFFLINE) {
+			System.err.printf("Skipping import of %s: it is not available as a local file%n", uri);
+			return ModelFactory.createDefaultModel();
+		}
+
+		importLocations.add(location);
+		try {
+			if (isLocal && importCache != null) {
+				RDFSharedGraphCache.Lease lease = importCache.acquire(location, loader.getGraphVariant(), loader::readModel);
+				if (lease != null) {
+					leases.add(lease);
+					return ModelFactory.createModelForGraph(lease.getGraph());
+				}
+			}
+			return loader.loadModel(location);
+		} catch (IOException | RuntimeException ex) {
+			System.err.printf("Failed to import %s from %s: %s%n", uri, location, ex.getMessage());
+			return ModelFactory.createDefaultModel();
+		}
+	}
+
+	/**
+	 * Returns the locations (after applying the catalog) of the documents that
+	 * have been imported so far, in the order they were first imported. This
+	 * includes local documents that could not be read, but not the remote
+	 * documents skipped in {@link ImportMode#OFFLINE} mode.
+	 */
+	public synchronized List<String> getImportLocations() {
+		return new ArrayList<>(importLocations);
+	}
+
+	/**
+	 * Releases the leases on the shared graphs of the imports loaded so far.
+	 * The models that imported them can still be used.
+	 */
+	@Override
+	public synchronized void close() {
+		loaded.clear();
+		for (RDFSharedGraphCache.Lease lease : leases) {
+			lease.close();
+		}
+		leases.clear();
+	}
+
+}
@@ -0,0 +1,322 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+
+/**
+ * <p>
+ * Cache of parsed RDF documents, kept in a binary RDF format which is much
+ * faster to read than Turtle or RDF/XML.
+ * </p>
+ *
+ * <p>
+ * Only local files are cached. Each file has a metadata entry in the cache
+ * folder (named after a hash of its absolute path) which records the size,
+ * modification time and SHA-256 hash of the file when it was parsed. The
+ * cached copy is used while the size and modification time are unchanged, or
+ * if the file was touched without changing its contents. Otherwise, the file
+ * is parsed again and the cached copy is replaced.
+ * </p>
+ */
+public class RDFLoadCache {
+
+	private static final String METADATA_EXTENSION = ".properties";
+
+	private static final String KEY_PATH = "path";
+	private static final String KEY_SIZE = "size";
+	private static final String KEY_MODIFIED = "modified";
+	private static final String KEY_HASH = "sha256";
+
+	private final Path directory;
+	private final RDFBinaryFormat format;
+	private RDFGraphImplementation graphImplementation = RDFGraphImplementation.FAST;
+
+	public RDFLoadCache(Path directory, RDFBinaryFormat format) {
+		this.directory = directory;
+		this.format = format;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	public RDFBinaryFormat getFormat() {
+		return format;
+	}
+
+	public RDFGraphImplementation getGraphImplementation() {
+		return graphImplementation;
+	}
+
+	/**
+	 * Changes the in-memory graph implementation that cached copies are read
+	 * into ({@link RDFGraphImplementation#FAST} by default).
+	 */
+	public void setGraphImplementation(RDFGraphImplementation graphImplementation) {
+		this.graphImplementation = graphImplementation;
+	}
+
+	/**
+	 * Parses a document when there is no usable cached copy.
+	 */
+	@FunctionalInterface
+	public interface Parser {
+		Model parse(String uri) throws IOException;
+	}
+
+	/**
+	 * Loads the document at the given URI, from the cache if possible.
+	 */
+	public Model load(String uri) throws IOException {
+		return load(uri, u -> {
+			Model model = graphImplementation.createModel();
+			RDFDataMgr.read(model, u);
+			return model;
+		});
+	}
+
+	/**
+	 * Loads the document at the given URI, from the cache if possible, or with
+	 * the given parser otherwise.
+	 */
+	public Model load(String uri, Parser parser) throws IOException {
+		Path source = toLocalPath(uri);
+		if (source == null || !Files.isRegularFile(source)) {
+			return parser.parse(uri);
+		}
+		source = source.toAbsolutePath().normalize();
+
+		String pathKey = sha256(source.toString());
+		Path fMetadata = directory.resolve(pathKey + METADATA_EXTENSION);
+		BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+
+		String contentHash = null;
+		Properties metadata = readMetadata(fMetadata);
+		if (metadata != null && source.toString().equals(metadata.getProperty(KEY_PATH))) {
+			String cachedHash = metadata.getProperty(KEY_HASH);
+			Path fBinary = getBinaryPath(pathKey, cachedHash);
+
+			if (isSameFileVersion(metadata, attrs)) {
+				Model cached = readBinary(fBinary);
+				if (cached != null) {
+					return cached;
+				}
+			} else {
+				contentHash = sha256(source);
+				if (cachedHash.equals(contentHash)) {
+					// Touched, but not changed: refresh the size and modification time
+					Model cached = readBinary(fBinary);
+					if (cached != null) {
+						writeMetadata(fMetadata, source, attrs, cachedHash);
+						return cached;
+					}
+				}
+			}
+		}
+
+		if (contentHash == null) {
+			contentHash = sha256(source);
+		}
+		Model model = parser.parse(uri);
+
+		// Only cache the document if it did not change while we were parsing it
+		BasicFileAttributes attrsAfter = Files.readAttributes(source, BasicFileAttributes.class);
+		if (attrs.size() == attrsAfter.size() && attrs.lastModifiedTime().equals(attrsAfter.lastModifiedTime())) {
+			writeBinary(getBinaryPath(pathKey, contentHash), model);
+			writeMetadata(fMetadata, source, attrs, contentHash);
+			if (metadata != null && !contentHash.equals(metadata.getProperty(KEY_HASH))) {
+				Files.deleteIfExists(getBinaryPath(pathKey, metadata.getProperty(KEY_HASH)));
+			}
+		}
+
+		return model;
+	}
+
+	/**
+	 * Cached copies are immutable: they are named after both the path and the
+	 * contents of the original file, so a reader never sees a partially replaced
+	 * copy.
+	 */
+	protected Path getBinaryPath(String pathKey, String contentHash) {
+		return directory.resolve(pathKey + "-" + contentHash + format.getExtension());
+	}
+
+	protected boolean isSameFileVersion(Properties metadata, BasicFileAttributes attrs) {
+		return String.valueOf(attrs.size()).equals(metadata.getProperty(KEY_SIZE))
+			&& String.valueOf(attrs.lastModifiedTime().toMillis()).equals(metadata.getProperty(KEY_MODIFIED));
+	}
+
+	protected Model readBinary(Path fBinary) {
+		return readBinary(fBinary, format, graphImplementation);
+	}
+
+	protected void writeBinary(Path fBinary, Model model) throws IOException {
+		writeBinary(fBinary, model, format);
+	}
+
+	/**
+	 * Reads a model in the given binary format, returning {@code null} if the
+	 * file does not exist or cannot be read.
+	 */
+	static Model readBinary(Path fBinary, RDFBinaryFormat format) {
+		return readBinary(fBinary, format, RDFGraphImplementation.FAST);
+	}
+
+	/**
+	 * Reads a model in the given binary format into a graph of the given
+	 * implementation, returning {@code null} if the file does not exist or
+	 * cannot be read.
+	 */
+	static Model readBinary(Path fBinary, RDFBinaryFormat format, RDFGraphImplementation graphImplementation) {
+		if (!Files.isRegularFile(fBinary)) {
+			return null;
+		}
+
+		Model model = graphImplementation.createModel();
+		try (InputStream is = new BufferedInputStream(Files.newInputStream(fBinary))) {
+			RDFDataMgr.read(model, is, format.getLang());
+			return model;
+		} catch (IOException | RiotException ex) {
+			// Unreadable copy: the document will be parsed and cached again
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a model in the given binary format through a temporary file, so
+	 * readers never see a partially written file. Existing files are kept.
+	 */
+	static void writeBinary(Path fBinary, Model model, RDFBinaryFormat format) throws IOException {
+		if (Files.isRegularFile(fBinary)) {
+			return;
+		}
+		Path directory = fBinary.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path fTemp = Files.createTempFile(directory, fBinary.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(fTemp))) {
+				RDFDataMgr.write(os, model, format.getLang());
+			}
+			Files.move(fTemp, fBinary, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(fTemp);
+		}
+	}
+
+	protected Properties readMetadata(Path fMetadata) {
+		if (!Files.isRegularFile(fMetadata)) {
+			return null;
+		}
+
+		Properties metadata = new Properties();
+		try (InputStream is = Files.newInputStream(fMetadata)) {
+			metadata.load(is);
+		} catch (IOException | IllegalArgumentException ex) {
+			return null;
+		}
+
+		for (String key : new String[] { KEY_PATH, KEY_SIZE, KEY_MODIFIED, KEY_HASH }) {
+			if (metadata.getProperty(key) == null) {
+				return null;
+			}
+		}
+		return metadata;
+	}
+
+	protected void writeMetadata(Path fMetadata, Path source, BasicFileAttributes attrs, String contentHash) throws IOException {
+		Properties metadata = new Properties();
+		metadata.setProperty(KEY_PATH, source.toString());
+		metadata.setProperty(KEY_SIZE, String.valueOf(attrs.size()));
+		metadata.setProperty(KEY_MODIFIED, String.valueOf(attrs.lastModifiedTime().toMillis()));
+		metadata.setProperty(KEY_HASH, contentHash);
+
+		Files.createDirectories(directory);
+		Path fTemp = Files.createTempFile(directory, fMetadata.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream os = Files.newOutputStream(fTemp)) {
+				metadata.store(os, null);
+			}
+			Files.move(fTemp, fMetadata, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(fTemp);
+		}
+	}
+
+	/**
+	 * Returns the local path for a {@code file:} URI or a plain file path, or
+	 * {@code null} if the URI refers to a remote document.
+	 */
+	public static Path toLocalPath(String uri) {
+		try {
+			URI parsed = new URI(uri);
+			if ("file".equalsIgnoreCase(parsed.getScheme())) {
+				return Paths.get(parsed);
+			} else if (parsed.getScheme() != null && parsed.getScheme().length() > 1) {
+				// Single-letter schemes are Windows drive letters
+				return null;
+			}
+		} catch (URISyntaxException | IllegalArgumentException ex) {
+			// Not a valid URI: treat as a file path
+		}
+
+		try {
+			return Paths.get(uri);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	static String sha256(String text) {
+		return HexFormat.of().formatHex(createDigest().digest(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	static String sha256(Path file) throws IOException {
+		MessageDigest digest = createDigest();
+		try (InputStream is = new DigestInputStream(Files.newInputStream(file), digest)) {
+			is.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * <p>
+ * Read-only graph with the triples of several source graphs, merged into a
+ * single graph with its own indexes. Querying the merged graph costs the same
+ * as querying one source graph of the same size, whereas a union of the
+ * sources has to query each of them and remove the duplicate results.
+ * </p>
+ *
+ * <p>
+ * A {@link TripleSourceIndex} records which sources each triple came from, so
+ * the original sources are still available as views from
+ * {@link #getSourceGraph(String)}, with their own prefixes. There is no index
+ * when there is only one source, as its view has all the triples. Triples added to
+ * or deleted from a view are added to or deleted from the merged graph as
+ * needed. The views are read-only if the merged graph was built by
+ * {@link #mergeCompact(List, List)}.
+ * </p>
+ *
+ * <p>
+ * Like the in-memory graphs of Jena, this graph and its views are not
+ * thread-safe.
+ * </p>
+ */
+public class RDFMergedGraph extends GraphBase {
+
+	private final Graph merged;
+	private final boolean readOnly;
+	private final List<String> sourceNames;
+	// Null if there is only one source
+	private final TripleSourceIndex index;
+	private final List<SourceGraph> sourceGraphs = new ArrayList<>();
+
+	private RDFMergedGraph(Graph merged, boolean readOnly, List<String> sourceNames, List<Graph> sources, TripleSourceIndex index) {
+		this.merged = merged;
+		this.readOnly = readOnly;
+		this.sourceNames = Collections.unmodifiableList(new ArrayList<>(sourceNames));
+		this.index = index;
+
+		for (int i = 0; i < sources.size(); i++) {
+			SourceGraph sourceGraph = new SourceGraph(i);
+			sourceGraph.getPrefixMapping().setNsPrefixes(sources.get(i).getPrefixMapping());
+			sourceGraphs.add(sourceGraph);
+
+			// The first source to use a prefix decides its namespace in the merged graph
+			for (Map.Entry<String, String> entry : sources.get(i).getPrefixMapping().getNsPrefixMap().entrySet()) {
+				if (merged.getPrefixMapping().getNsPrefixURI(entry.getKey()) == null) {
+					merged.getPrefixMapping().setNsPrefix(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges the given graphs into a new graph of the given implementation.
+	 * The names identify the source graphs, and must be in the same order.
+	 */
+	public static RDFMergedGraph merge(List<String> sourceNames, List<Graph> sources, RDFGraphImplementation implementation) {
+		checkSources(sourceNames, sources);
+		Graph merged = implementation.createGraph();
+		if (sources.size() == 1) {
+			sources.get(0).find().forEachRemaining(merged::add);
+			return new RDFMergedGraph(merged, false, sourceNames, sources, null);
+		}
+
+		TripleSourceIndex index = new TripleSourceIndex.Hashed(sources.size(), countTriples(sources));
+		for (int i = 0; i < sources.size(); i++) {
+			final int source = i;
+			sources.get(i).find().forEachRemaining(t -> {
+				if (index.addSource(t, source)) {
+					merged.add(t);
+				}
+			});
+		}
+		return new RDFMergedGraph(merged, false, sourceNames, sources, index);
+	}
+
+	/**
+	 * Merges the given graphs into a new read-only {@link RDFCompactGraph}. The
+	 * names identify the source graphs, and must be in the same order.
+	 */
+	public static RDFMergedGraph mergeCompact(List<String> sourceNames, List<Graph> sources) {
+		checkSources(sourceNames, sources);
+		RDFCompactGraph.Builder builder = new RDFCompactGraph.Builder();
+		for (Graph source : sources) {
+			builder.addAll(source);
+		}
+		RDFCompactGraph merged = builder.build();
+		if (sources.size() == 1) {
+			return new RDFMergedGraph(merged, true, sourceNames, sources, null);
+		}
+
+		/*
+		 * The builder drops the duplicate triples, so the sources are indexed by
+		 * the positions of their triples in the merged graph rather than by the
+		 * triples themselves.
+		 */
+		TripleSourceIndex index = new TripleSourceIndex.Positional(sources.size(), merged);
+		for (int i = 0; i < sources.size(); i++) {
+			final int source = i;
+			sources.get(i).find().forEachRemaining(t -> index.addSource(t, source));
+		}
+		return new RDFMergedGraph(merged, true, sourceNames, sources, index);
+	}
+
+	private static void checkSources(List<String> sourceNames, List<Graph> sources) {
+		if (sourceNames.size() != sources.size()) {
+			throw new IllegalArgumentException(String.format(
+				"Expected %d source names, but got %d", sources.size(), sourceNames.size()));
+		}
+	}
+
+	private static int countTriples(List<Graph> sources) {
+		long count = 0;
+		for (Graph source : sources) {
+			count += source.size();
+		}
+		return (int) Math.min(Integer.MAX_VALUE, count);
+	}
+
+	/**
+	 * Returns the names of the source graphs, in the order they were merged.
+	 */
+	public List<String> getSourceNames() {
+		return sourceNames;
+	}
+
+	/**
+	 * Returns a view of the source graph with the given name, or {@code null}
+	 * if there is no such source.
+	 */
+	public Graph getSourceGraph(String name) {
+		int source = sourceNames.indexOf(name);
+		return source < 0 ? null : sourceGraphs.get(source);
+	}
+
+	/**
+	 * Returns the names of the sources which have a triple mentioning the given
+	 * node in any position.
+	 */
+	public List<String> getSourceNamesContaining(Node node) {
+		BitSet found = new BitSet(sourceNames.size());
+		collectSources(merged.find(node, Node.ANY, Node.ANY), found);
+		collectSources(merged.find(Node.ANY, node, Node.ANY), found);
+		collectSources(merged.find(Node.ANY, Node.ANY, node), found);
+
+		List<String> names = new ArrayList<>(found.cardinality());
+		for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+			names.add(sourceNames.get(i));
+		}
+		return names;
+	}
+
+	private void collectSources(ExtendedIterator<Triple> it, BitSet found) {
+		try {
+			if (index == null) {
+				if (it.hasNext()) {
+					found.set(0);
+				}
+				return;
+			}
+			while (found.cardinality() < sourceNames.size() && it.hasNext()) {
+				BitSet sources = index.getSources(it.next());
+				if (sources != null) {
+					found.or(sources);
+				}
+			}
+		} finally {
+			it.close();
+		}
+	}
+
+	@Override
+	protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+		return merged.find(triplePattern);
+	}
+
+	@Override
+	protected boolean graphBaseContains(Triple t) {
+		return merged.contains(t);
+	}
+
+	@Override
+	protected int graphBaseSize() {
+		return merged.size();
+	}
+
+	@Override
+	protected PrefixMapping createPrefixMapping() {
+		return merged.getPrefixMapping();
+	}
+
+	/**
+	 * View of the triples of the merged graph which came from one source.
+	 */
+	private class SourceGraph extends GraphBase {
+		private final int source;
+
+		SourceGraph(int source) {
+			this.source = source;
+		}
+
+		@Override
+		protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+			if (index == null) {
+				return merged.find(triplePattern);
+			}
+			return merged.find(triplePattern).filterKeep(t -> index.hasSource(t, source));
+		}
+
+		@Override
+		protected boolean graphBaseContains(Triple t) {
+			if (index == null) {
+				return merged.contains(t);
+			} else if (t.isConcrete()) {
+				return index.hasSource(t, source);
+			}
+			return super.graphBaseContains(t);
+		}
+
+		@Override
+		protected int graphBaseSize() {
+			if (index == null) {
+				return merged.size();
+			}
+			return (int) Math.min(Integer.MAX_VALUE, index.getSourceSize(source));
+		}
+
+		@Override
+		public void performAdd(Triple t) {
+			if (readOnly) {
+				super.performAdd(t);
+			} else if (index == null) {
+				merged.add(t);
+			} else if (index.addSource(t, source)) {
+				merged.add(t);
+			}
+		}
+
+		@Override
+		public void performDelete(Triple t) {
+			if (readOnly) {
+				super.performDelete(t);
+			} else if (index == null) {
+				merged.delete(t);
+			} else if (index.removeSource(t, source) && index.getSources(t) == null) {
+				merged.delete(t);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.List;
+
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.ReasonerRegistry;
+import org.apache.jena.reasoner.rulesys.GenericRuleReasoner;
+import org.apache.jena.reasoner.rulesys.Rule;
+
+/**
+ * Reasoners that can be selected through the {@code reasoner} option of both
+ * drivers. These match the reasoners available through Jena's
+ * {@link ReasonerRegistry}, plus a generic rule reasoner for custom rules.
+ * The same IDs are accepted by both drivers.
+ */
+public enum RDFReasonerType {
+	NONE("none") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return null;
+		}
+	},
+	RDFS("rdfs") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return ReasonerRegistry.getRDFSReasoner();
+		}
+	},
+	OWL_MICRO("owl-micro") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return ReasonerRegistry.getOWLMicroReasoner();
+		}
+	},
+	OWL_MINI("owl-mini") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return ReasonerRegistry.getOWLMiniReasoner();
+		}
+	},
+	TRANSITIVE("transitive") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return ReasonerRegistry.getTransitiveReasoner();
+		}
+	},
+	/**
+	 * Jena's full OWL rule reasoner. It is also accepted as {@code owl}, which
+	 * was its ID in the {@code .rdfres} files of the EMF driver.
+	 */
+	OWL_FULL("owl-full", "owl") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			return ReasonerRegistry.getOWLReasoner();
+		}
+	},
+	CUSTOM("custom") {
+		@Override
+		public Reasoner getReasoner(List<Rule> customRules) {
+			if (customRules.isEmpty()) {
+				throw new IllegalArgumentException("The custom reasoner requires at least one rule");
+			}
+			return new GenericRuleReasoner(customRules);
+		}
+	};
+
+	private final String id;
+	private final String[] aliases;
+
+	RDFReasonerType(String id, String... aliases) {
+		this.id = id;
+		this.aliases = aliases;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the Jena reasoner to be used, or {@code null} if no inference
+	 * should be performed. The custom rules are only used by {@link #CUSTOM}.
+	 */
+	public abstract Reasoner getReasoner(List<Rule> customRules);
+
+	public static RDFReasonerType fromString(String id) {
+		for (RDFReasonerType type : RDFReasonerType.values()) {
+			if (type.id.equalsIgnoreCase(id)) {
+				return type;
+			}
+			for (String alias : type.aliases) {
+				if (alias.equalsIgnoreCase(id)) {
+					return type;
+				}
+			}
+		}
+		throw new IllegalArgumentException("Reasoner type not found: " + id);
+	}
+
+}
@@ -0,0 +1,289 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.reasoner.Reasoner;
+
+/**
+ * <p>
+ * JVM-wide cache of reasoners bound to a set of schema documents through
+ * {@link Reasoner#bindSchema(org.apache.jena.rdf.model.Model)}. Binding a
+ * schema computes its closure once, which is then reused by every data model
+ * loaded with the same reasoner settings and schema documents.
+ * </p>
+ *
+ * <p>
+ * An entry is replaced when the size or modification time of any of its schema
+ * documents changes. Schemas are only cached if all their documents are local
+ * files: otherwise, they are loaded and bound on every call.
+ * </p>
+ *
+ * <p>
+ * Schemas are loaded and bound outside the lock on the cache, so binding one
+ * schema does not hold up callers which use other schemas: only callers with
+ * the same settings and schema documents wait for it. The cache keeps up to
+ * {@link #getMaxEntries()} bindings, evicting the least recently used ones.
+ * </p>
+ *
+ * <p>
+ * Each cached binding keeps the {@link RDFDatasetLoader} that loaded its
+ * schema documents, and closes it when the binding is evicted or replaced.
+ * This keeps the leases on any schema graphs taken from the
+ * {@link RDFSharedGraphCache} for as long as the binding uses them.
+ * </p>
+ */
+public final class RDFSchemaReasonerCache {
+
+	/**
+	 * System property with the default maximum number of cached bindings. If
+	 * not set, {@link #DEFAULT_MAX_ENTRIES} is used.
+	 */
+	public static final String PROPERTY_MAX_ENTRIES = "org.eclipse.epsilon.rdf.schemaReasonerCache.maxEntries";
+
+	public static final int DEFAULT_MAX_ENTRIES = 16;
+
+	/**
+	 * Schema documents and the reasoner bound to the union of their models.
+	 * Callers should close it once they no longer use it: this only releases
+	 * the schema documents if the binding was not cached, as cached bindings
+	 * are released by the cache itself.
+	 */
+	public static final class BoundSchema implements AutoCloseable {
+		private final Dataset schema;
+		private final Reasoner reasoner;
+		private final RDFDatasetLoader owner;
+
+		BoundSchema(Dataset schema, Reasoner reasoner, RDFDatasetLoader owner) {
+			this.schema = schema;
+			this.reasoner = reasoner;
+			this.owner = owner;
+		}
+
+		public Dataset getSchema() {
+			return schema;
+		}
+
+		public Reasoner getReasoner() {
+			return reasoner;
+		}
+
+		@Override
+		public void close() {
+			if (owner != null) {
+				owner.close();
+			}
+		}
+	}
+
+	private static final class Entry {
+		private final List<String> stamps;
+		private BoundSchema bound;
+		private RDFDatasetLoader loader;
+		private boolean removed;
+
+		Entry(List<String> stamps) {
+			this.stamps = stamps;
+		}
+
+		// Must be called while holding the lock on ENTRIES
+		void release() {
+			removed = true;
+			if (loader != null) {
+				loader.close();
+				loader = null;
+			}
+		}
+	}
+
+	// Access order: iteration starts from the least recently used entry
+	private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			if (size() > maxEntries) {
+				eldest.getValue().release();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private static int maxEntries = getDefaultMaxEntries();
+
+	private RDFSchemaReasonerCache() {
+		// Static utility class
+	}
+
+	/**
+	 * Returns the reasoner bound to the given schema documents, reusing the one
+	 * from a previous call with the same settings and unchanged documents.
+	 *
+	 * @param settings
+	 *            Description of the reasoner and any other options that change
+	 *            the inferred statements (e.g. custom rules).
+	 * @param reasoner
+	 *            Unbound reasoner, used if there is no cached binding.
+	 * @param loader
+	 *            Loader for the schema documents, used if there is no cached
+	 *            binding. The cache takes over the loader: it is closed when
+	 *            the binding is evicted (or when the returned binding is closed,
+	 *            if it could not be cached), or right away if it is not needed.
+	 */
+	public static BoundSchema bind(String settings, List<String> schemaURIs, Reasoner reasoner, RDFDatasetLoader loader) throws IOException {
+		List<String> stamps = computeStamps(schemaURIs);
+		if (stamps == null) {
+			try {
+				return bindSchema(schemaURIs, reasoner, loader, loader);
+			} catch (IOException | RuntimeException | Error ex) {
+				loader.close();
+				throw ex;
+			}
+		}
+
+		String key = settings + "\n" + String.join("\n", schemaURIs);
+		Entry entry;
+		synchronized (ENTRIES) {
+			entry = ENTRIES.get(key);
+			if (entry == null || !entry.stamps.equals(stamps)) {
+				if (entry != null) {
+					entry.release();
+				}
+				entry = new Entry(stamps);
+				ENTRIES.put(key, entry);
+			}
+		}
+
+		// Callers using the same schema wait for the first one to bind it
+		boolean keepLoader = false;
+		try {
+			synchronized (entry) {
+				if (entry.bound == null) {
+					keepLoader = true;
+					entry.bound = bindSchema(schemaURIs, reasoner, loader, null);
+					synchronized (ENTRIES) {
+						if (entry.removed) {
+							// Evicted while binding: the cache does not keep its schema graphs
+							keepLoader = false;
+						} else {
+							entry.loader = loader;
+						}
+					}
+				}
+				return entry.bound;
+			}
+		} catch (IOException | RuntimeException | Error ex) {
+			keepLoader = false;
+			synchronized (ENTRIES) {
+				if (ENTRIES.get(key) == entry && entry.bound == null) {
+					ENTRIES.remove(key);
+				}
+			}
+			throw ex;
+		} finally {
+			if (!keepLoader) {
+				loader.close();
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached bindings, releasing their schema models.
+	 */
+	public static void clear() {
+		synchronized (ENTRIES) {
+			for (Entry entry : ENTRIES.values()) {
+				entry.release();
+			}
+			ENTRIES.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of cached bindings (including those being bound).
+	 */
+	public static int size() {
+		synchronized (ENTRIES) {
+			return ENTRIES.size();
+		}
+	}
+
+	public static int getMaxEntries() {
+		synchronized (ENTRIES) {
+			return maxEntries;
+		}
+	}
+
+	/**
+	 * Changes the maximum number of cached bindings, evicting the least
+	 * recently used ones if needed.
+	 */
+	public static void setMaxEntries(int maxEntries) {
+		if (maxEntries < 0) {
+			throw new IllegalArgumentException("The maximum number of entries cannot be negative");
+		}
+		synchronized (ENTRIES) {
+			RDFSchemaReasonerCache.maxEntries = maxEntries;
+			for (Iterator<Entry> it = ENTRIES.values().iterator(); ENTRIES.size() > maxEntries && it.hasNext(); ) {
+				it.next().release();
+				it.remove();
+			}
+		}
+	}
+
+	private static BoundSchema bindSchema(List<String> schemaURIs, Reasoner reasoner, RDFDatasetLoader loader, RDFDatasetLoader owner) throws IOException {
+		Dataset schema = loader.loadNamed(schemaURIs);
+		return new BoundSchema(schema, reasoner.bindSchema(schema.getUnionModel()), owner);
+	}
+
+	private static int getDefaultMaxEntries() {
+		String sMaxEntries = System.getProperty(PROPERTY_MAX_ENTRIES);
+		if (sMaxEntries != null) {
+			try {
+				return Integer.parseInt(sMaxEntries.strip());
+			} catch (NumberFormatException ex) {
+				// Fall back to the default limit
+			}
+		}
+		return DEFAULT_MAX_ENTRIES;
+	}
+
+	/**
+	 * Returns the size and modification time of each document, or {@code null}
+	 * if any of them is not a local file.
+	 */
+	private static List<String> computeStamps(List<String> uris) throws IOException {
+		List<String> stamps = new ArrayList<>(uris.size());
+		for (String uri : uris) {
+			Path path = RDFLoadCache.toLocalPath(uri);
+			if (path == null || !Files.isRegularFile(path)) {
+				return null;
+			}
+			BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+			stamps.add(attrs.size() + "@" + attrs.lastModifiedTime().toMillis());
+		}
+		return stamps;
+	}
+
+}
@@ -0,0 +1,249 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+
+/**
+ * <p>
+ * JVM-wide cache of parsed documents, shared as read-only graphs by all the
+ * models that load the same local file into the same kind of graph. Entries are
+ * keyed by the absolute path of the file and a description of the kind of graph
+ * (see {@link RDFDatasetLoader#getGraphVariant()}), and are replaced when the
+ * size or modification time of the file changes.
+ * </p>
+ *
+ * <p>
+ * Each model that uses a graph holds a {@link Lease} on it until the model is
+ * disposed. Graphs without leases are evicted in least recently used order when
+ * their estimated memory use exceeds the memory budget. Graphs with leases are
+ * never evicted, so the budget may be exceeded while they are in use.
+ * </p>
+ */
+public final class RDFSharedGraphCache {
+
+	/**
+	 * System property with the default memory budget in bytes. If not set, a
+	 * quarter of the maximum heap size is used.
+	 */
+	public static final String PROPERTY_MEMORY_BUDGET = "org.eclipse.epsilon.rdf.sharedGraphCache.budget";
+
+	/**
+	 * Rough memory use of a triple in an in-memory Jena graph, used to estimate
+	 * the memory use of each graph.
+	 */
+	public static final long ESTIMATED_BYTES_PER_TRIPLE = 200;
+
+	private static final RDFSharedGraphCache INSTANCE = new RDFSharedGraphCache(getDefaultMemoryBudget());
+
+	/**
+	 * Reference to a shared graph, which should be released once the graph is
+	 * no longer used. The graph itself remains usable after being released.
+	 */
+	public final class Lease implements AutoCloseable {
+		private final Entry entry;
+		private boolean released;
+
+		private Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		public Graph getGraph() {
+			return entry.graph;
+		}
+
+		@Override
+		public void close() {
+			synchronized (RDFSharedGraphCache.this) {
+				if (!released) {
+					released = true;
+					entry.references--;
+					evict();
+				}
+			}
+		}
+	}
+
+	private static final class Entry {
+		private final String key;
+		private final String stamp;
+		private Graph graph;
+		private long estimatedSize;
+		private int references;
+
+		Entry(String key, String stamp) {
+			this.key = key;
+			this.stamp = stamp;
+		}
+	}
+
+	// Access order: iteration starts from the least recently used entry
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long memoryBudget;
+	private long estimatedMemoryUse;
+
+	public RDFSharedGraphCache(long memoryBudget) {
+		setMemoryBudget(memoryBudget);
+	}
+
+	public static RDFSharedGraphCache getInstance() {
+		return INSTANCE;
+	}
+
+	public synchronized long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Changes the memory budget in bytes, evicting unused graphs if needed.
+	 */
+	public synchronized void setMemoryBudget(long memoryBudget) {
+		if (memoryBudget < 0) {
+			throw new IllegalArgumentException("The memory budget cannot be negative");
+		}
+		this.memoryBudget = memoryBudget;
+		evict();
+	}
+
+	/**
+	 * Returns the estimated memory use of the graphs in the cache, in bytes.
+	 */
+	public synchronized long getEstimatedMemoryUse() {
+		return estimatedMemoryUse;
+	}
+
+	/**
+	 * Returns the number of graphs in the cache (including those being parsed).
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all graphs from the cache. Models using them are not affected.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		estimatedMemoryUse = 0;
+	}
+
+	/**
+	 * Returns a lease on the shared graph for the document at the given URI,
+	 * for parsers which do not need to be told apart by their graph variant.
+	 *
+	 * @see #acquire(String, String, RDFLoadCache.Parser)
+	 */
+	public Lease acquire(String uri, RDFLoadCache.Parser parser) throws IOException {
+		return acquire(uri, "", parser);
+	}
+
+	/**
+	 * Returns a lease on the shared graph for the document at the given URI,
+	 * using the parser if the document is not in the cache yet or has changed.
+	 * Returns {@code null} if the URI does not refer to a local file, as these
+	 * documents are not shared.
+	 *
+	 * @param variant
+	 *            Description of the kind of graph produced by the parser (e.g.
+	 *            its graph implementation): graphs are only shared between
+	 *            parsers with the same variant.
+	 */
+	public Lease acquire(String uri, String variant, RDFLoadCache.Parser parser) throws IOException {
+		Path path = RDFLoadCache.toLocalPath(uri);
+		if (path == null || !Files.isRegularFile(path)) {
+			return null;
+		}
+		path = path.toAbsolutePath().normalize();
+		BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+		String key = variant.isEmpty() ? path.toString() : path + "|" + variant;
+		String stamp = attrs.size() + "@" + attrs.lastModifiedTime().toMillis();
+
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+			if (entry == null || !entry.stamp.equals(stamp)) {
+				if (entry != null) {
+					removeEntry(entry);
+				}
+				entry = new Entry(key, stamp);
+				entries.put(key, entry);
+			}
+			entry.references++;
+		}
+
+		// Models loading the same document wait for the first one to parse it
+		try {
+			synchronized (entry) {
+				if (entry.graph == null) {
+					Graph graph = new GraphReadOnly(parser.parse(uri).getGraph());
+					synchronized (this) {
+						entry.graph = graph;
+						entry.estimatedSize = graph.size() * ESTIMATED_BYTES_PER_TRIPLE;
+						if (entries.get(key) == entry) {
+							estimatedMemoryUse += entry.estimatedSize;
+							evict();
+						}
+					}
+				}
+			}
+		} catch (IOException | RuntimeException | Error ex) {
+			synchronized (this) {
+				entry.references--;
+				if (entry.graph == null && entries.get(key) == entry) {
+					entries.remove(key);
+				}
+			}
+			throw ex;
+		}
+
+		return new Lease(entry);
+	}
+
+	private void removeEntry(Entry entry) {
+		if (entries.remove(entry.key) != null && entry.graph != null) {
+			estimatedMemoryUse -= entry.estimatedSize;
+		}
+	}
+
+	private void evict() {
+		for (Iterator<Entry> it = entries.values().iterator(); estimatedMemoryUse > memoryBudget && it.hasNext(); ) {
+			Entry entry = it.next();
+			if (entry.references == 0 && entry.graph != null) {
+				it.remove();
+				estimatedMemoryUse -= entry.estimatedSize;
+			}
+		}
+	}
+
+	private static long getDefaultMemoryBudget() {
+		String sBudget = System.getProperty(PROPERTY_MEMORY_BUDGET);
+		if (sBudget != null) {
+			try {
+				return Long.parseLong(sBudget.strip());
+			} catch (NumberFormatException ex) {
+				// Fall back to the default budget
+			}
+		}
+		return Runtime.getRuntime().maxMemory() / 4;
+	}
+
+}
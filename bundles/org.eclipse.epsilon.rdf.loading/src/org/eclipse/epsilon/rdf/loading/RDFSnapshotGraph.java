@@ -0,0 +1,436 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.TextDirection;
+
+/**
+ * <p>
+ * Read-only graph which is memory-mapped from a snapshot file, instead of being
+ * parsed. The snapshot has the same layout as an {@link RDFCompactGraph}: a
+ * dictionary of encoded terms with a hash index, and the sorted columns of term
+ * IDs. Opening a snapshot only reads its header, and terms are decoded as they
+ * are needed, so the heap used by the graph does not grow with its size. The
+ * pages of the file are kept in the page cache of the operating system, which
+ * shares them between all the processes that map the same snapshot.
+ * </p>
+ *
+ * <p>
+ * Snapshots are written with {@link #write(Graph, Path, String)}, which can
+ * store a label describing what they were created from (e.g. to tell if they
+ * are out of date). They can hold IRIs, blank nodes and literals, but not
+ * quoted triples.
+ * </p>
+ */
+public final class RDFSnapshotGraph extends SortedTripleGraph {
+
+	private static final byte[] MAGIC = "EPSRDFS1".getBytes(StandardCharsets.US_ASCII);
+
+	// Files are mapped in segments, as a single buffer cannot be larger than 2 GiB
+	private static final int SEGMENT_SIZE = 1 << 30;
+
+	// Kinds of encoded terms
+	private static final byte KIND_URI = 1, KIND_BLANK = 2, KIND_TYPED = 3, KIND_LANG = 4, KIND_DIRLANG = 5;
+
+	// Recently decoded terms, indexed by the lowest bits of their IDs
+	private static final int DECODED_CACHE_SIZE = 1 << 12;
+
+	private static final class DecodedNode {
+		private final int id;
+		private final Node node;
+
+		DecodedNode(int id, Node node) {
+			this.id = id;
+			this.node = node;
+		}
+	}
+
+	private final Path file;
+	private final ByteBuffer[] segments;
+	private final String label;
+	private final int nodeCount, tripleCount, hashSize;
+	private final long offsetsStart, hashStart, termsStart;
+	private final long subjectsStart, predicatesStart, objectsStart, posStart, ospStart;
+	private final DecodedNode[] decoded = new DecodedNode[DECODED_CACHE_SIZE];
+
+	private RDFSnapshotGraph(Path file, ByteBuffer[] segments, long size) throws IOException {
+		this.file = file;
+		this.segments = segments;
+
+		try {
+			ByteBuffer header = segments[0].duplicate();
+			byte[] magic = new byte[MAGIC.length];
+			header.get(magic);
+			if (!Arrays.equals(MAGIC, magic)) {
+				throw new IOException(String.format("%s is not a snapshot", file));
+			}
+			this.nodeCount = header.getInt();
+			this.tripleCount = header.getInt();
+			this.hashSize = header.getInt();
+			if (nodeCount < 0 || tripleCount < 0 || Integer.bitCount(hashSize) != 1) {
+				throw new IOException(String.format("Snapshot %s has an invalid header", file));
+			}
+			this.label = readString(header);
+			for (int i = header.getInt(); i > 0; i--) {
+				getPrefixMapping().setNsPrefix(readString(header), readString(header));
+			}
+
+			this.offsetsStart = align(header.position());
+			this.hashStart = offsetsStart + 8L * (nodeCount + 1);
+			this.subjectsStart = hashStart + 4L * hashSize;
+			this.predicatesStart = subjectsStart + 4L * tripleCount;
+			this.objectsStart = predicatesStart + 4L * tripleCount;
+			this.posStart = objectsStart + 4L * tripleCount;
+			this.ospStart = posStart + 4L * tripleCount;
+			this.termsStart = ospStart + 4L * tripleCount;
+		} catch (BufferUnderflowException | ArrayIndexOutOfBoundsException | IllegalArgumentException ex) {
+			throw new IOException(String.format("%s is not a snapshot", file), ex);
+		}
+
+		if (termsStart > size || termsStart + readLong(offsetsStart + 8L * nodeCount) != size) {
+			throw new IOException(String.format("Snapshot %s is truncated", file));
+		}
+	}
+
+	/**
+	 * Maps the snapshot in the given file. The mapping is kept until the graph
+	 * is garbage collected.
+	 */
+	public static RDFSnapshotGraph open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			ByteBuffer[] segments = new ByteBuffer[(int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+			for (int i = 0; i < segments.length; i++) {
+				long start = (long) i * SEGMENT_SIZE;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+			}
+			return new RDFSnapshotGraph(file, segments, size);
+		}
+	}
+
+	/**
+	 * Writes the graph and its prefixes into a snapshot file, through a
+	 * temporary file so processes that have mapped the previous snapshot are not
+	 * disturbed. Graphs which are not compact are copied into an
+	 * {@link RDFCompactGraph} first.
+	 *
+	 * @param label
+	 *            Text stored with the snapshot, which can be read back with
+	 *            {@link #getLabel()}.
+	 */
+	public static void write(Graph graph, Path file, String label) throws IOException {
+		SortedTripleGraph sorted = graph instanceof SortedTripleGraph
+			? (SortedTripleGraph) graph : RDFCompactGraph.copyOf(graph);
+		int nodeCount = sorted.getNodeCount();
+		int tripleCount = sorted.getTripleCount();
+
+		// Work out the position of each term in the dictionary and its hash index
+		long[] offsets = new long[nodeCount + 1];
+		int[] hashTable = new int[Integer.highestOneBit(Math.max(nodeCount, 1) * 2 - 1) << 1];
+		int mask = hashTable.length - 1;
+		for (int id = 0; id < nodeCount; id++) {
+			byte[] encoded = encodeForWriting(sorted.getNode(id));
+			offsets[id + 1] = offsets[id] + encoded.length;
+			int i = hash(encoded) & mask;
+			while (hashTable[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			hashTable[i] = id + 1;
+		}
+
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path fTemp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fTemp), 1 << 16))) {
+				os.write(MAGIC);
+				os.writeInt(nodeCount);
+				os.writeInt(tripleCount);
+				os.writeInt(hashTable.length);
+				writeString(os, label == null ? "" : label);
+				Map<String, String> prefixes = sorted.getPrefixMapping().getNsPrefixMap();
+				os.writeInt(prefixes.size());
+				for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+					writeString(os, entry.getKey());
+					writeString(os, entry.getValue());
+				}
+				os.write(new byte[(int) (align(os.size()) - os.size())]);
+
+				for (long offset : offsets) {
+					os.writeLong(offset);
+				}
+				for (int slot : hashTable) {
+					os.writeInt(slot);
+				}
+				for (int i = 0; i < tripleCount; i++) {
+					os.writeInt(sorted.getSubject(i));
+				}
+				for (int i = 0; i < tripleCount; i++) {
+					os.writeInt(sorted.getPredicate(i));
+				}
+				for (int i = 0; i < tripleCount; i++) {
+					os.writeInt(sorted.getObject(i));
+				}
+				for (int i = 0; i < tripleCount; i++) {
+					os.writeInt(sorted.getPOS(i));
+				}
+				for (int i = 0; i < tripleCount; i++) {
+					os.writeInt(sorted.getOSP(i));
+				}
+				for (int id = 0; id < nodeCount; id++) {
+					os.write(encodeForWriting(sorted.getNode(id)));
+				}
+			}
+			Files.move(fTemp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(fTemp);
+		}
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the label that was stored when the snapshot was written.
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	@Override
+	protected int findNodeId(Node node) {
+		byte[] encoded = encode(node);
+		if (encoded == null) {
+			return -1;
+		}
+
+		int mask = hashSize - 1;
+		for (int i = hash(encoded) & mask; ; i = (i + 1) & mask) {
+			int slot = readInt(hashStart + 4L * i);
+			if (slot == 0) {
+				return -1;
+			}
+			int id = slot - 1;
+			long start = readLong(offsetsStart + 8L * id);
+			long end = readLong(offsetsStart + 8L * (id + 1));
+			if (end - start == encoded.length && Arrays.equals(encoded, readBytes(termsStart + start, encoded.length))) {
+				return id;
+			}
+		}
+	}
+
+	@Override
+	protected Node getNode(int id) {
+		int index = id & (DECODED_CACHE_SIZE - 1);
+		DecodedNode cached = decoded[index];
+		if (cached != null && cached.id == id) {
+			return cached.node;
+		}
+
+		long start = readLong(offsetsStart + 8L * id);
+		long end = readLong(offsetsStart + 8L * (id + 1));
+		Node node = decode(readBytes(termsStart + start, (int) (end - start)));
+		decoded[index] = new DecodedNode(id, node);
+		return node;
+	}
+
+	@Override
+	protected int getTripleCount() {
+		return tripleCount;
+	}
+
+	@Override
+	protected int getSubject(int i) {
+		return readInt(subjectsStart + 4L * i);
+	}
+
+	@Override
+	protected int getPredicate(int i) {
+		return readInt(predicatesStart + 4L * i);
+	}
+
+	@Override
+	protected int getObject(int i) {
+		return readInt(objectsStart + 4L * i);
+	}
+
+	@Override
+	protected int getPOS(int i) {
+		return readInt(posStart + 4L * i);
+	}
+
+	@Override
+	protected int getOSP(int i) {
+		return readInt(ospStart + 4L * i);
+	}
+
+	/*
+	 * Numbers are aligned to their size, so they never span two segments.
+	 */
+
+	private int readInt(long position) {
+		return segments[(int) (position / SEGMENT_SIZE)].getInt((int) (position % SEGMENT_SIZE));
+	}
+
+	private long readLong(long position) {
+		return segments[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+	}
+
+	private byte[] readBytes(long position, int length) {
+		byte[] bytes = new byte[length];
+		int done = 0;
+		while (done < length) {
+			ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)];
+			int offset = (int) (position % SEGMENT_SIZE);
+			int chunk = Math.min(length - done, segment.limit() - offset);
+			segment.get(offset, bytes, done, chunk);
+			done += chunk;
+			position += chunk;
+		}
+		return bytes;
+	}
+
+	private Node decode(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		byte kind = buffer.get();
+		switch (kind) {
+		case KIND_URI:
+			return NodeFactory.createURI(readRest(buffer));
+		case KIND_BLANK:
+			return NodeFactory.createBlankNode(readRest(buffer));
+		case KIND_TYPED: {
+			String lexicalForm = readString(buffer);
+			return NodeFactory.createLiteralDT(lexicalForm, TypeMapper.getInstance().getSafeTypeByName(readRest(buffer)));
+		}
+		case KIND_LANG: {
+			String lexicalForm = readString(buffer);
+			return NodeFactory.createLiteralLang(lexicalForm, readRest(buffer));
+		}
+		case KIND_DIRLANG: {
+			String lexicalForm = readString(buffer);
+			String language = readString(buffer);
+			return NodeFactory.createLiteralDirLang(lexicalForm, language, readRest(buffer));
+		}
+		default:
+			throw new IllegalStateException(String.format("Unknown kind of term %d in snapshot %s", kind, file));
+		}
+	}
+
+	/**
+	 * Encodes the term as a kind byte followed by its parts, with all parts
+	 * but the last one prefixed by their length. Returns {@code null} for
+	 * terms which cannot be stored in a snapshot.
+	 */
+	private static byte[] encode(Node node) {
+		if (node.isURI()) {
+			return encode(KIND_URI, node.getURI());
+		} else if (node.isBlank()) {
+			return encode(KIND_BLANK, node.getBlankNodeLabel());
+		} else if (node.isLiteral()) {
+			String language = node.getLiteralLanguage();
+			if (language == null || language.isEmpty()) {
+				return encode(KIND_TYPED, node.getLiteralLexicalForm(), node.getLiteralDatatypeURI());
+			}
+			TextDirection direction = node.getLiteralTextDirection();
+			if (direction == null) {
+				return encode(KIND_LANG, node.getLiteralLexicalForm(), language);
+			}
+			return encode(KIND_DIRLANG, node.getLiteralLexicalForm(), language, direction.direction());
+		}
+		return null;
+	}
+
+	private static byte[] encodeForWriting(Node node) {
+		byte[] encoded = encode(node);
+		if (encoded == null) {
+			throw new IllegalArgumentException(String.format("Term %s cannot be stored in a snapshot", node));
+		}
+		return encoded;
+	}
+
+	private static byte[] encode(byte kind, String... parts) {
+		byte[][] encodedParts = new byte[parts.length][];
+		int length = 1;
+		for (int i = 0; i < parts.length; i++) {
+			encodedParts[i] = parts[i].getBytes(StandardCharsets.UTF_8);
+			length += encodedParts[i].length + (i < parts.length - 1 ? 4 : 0);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		buffer.put(kind);
+		for (int i = 0; i < parts.length; i++) {
+			if (i < parts.length - 1) {
+				buffer.putInt(encodedParts[i].length);
+			}
+			buffer.put(encodedParts[i]);
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * FNV-1a hash of the encoded term, which (unlike {@link Node#hashCode()})
+	 * does not change between Jena versions.
+	 */
+	private static int hash(byte[] encoded) {
+		int hash = 0x811c9dc5;
+		for (byte b : encoded) {
+			hash = (hash ^ (b & 0xff)) * 0x01000193;
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static long align(long position) {
+		return (position + 7) & ~7L;
+	}
+
+	private static void writeString(DataOutputStream os, String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		os.writeInt(bytes.length);
+		os.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static String readRest(ByteBuffer buffer) {
+		return new String(buffer.array(), buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+	}
+
+}
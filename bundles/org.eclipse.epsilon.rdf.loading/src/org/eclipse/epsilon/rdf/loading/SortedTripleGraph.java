@@ -0,0 +1,217 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+/**
+ * Read-only graph whose triples are stored as term IDs in three columns sorted
+ * in subject, predicate, object (SPO) order, with two permutations of their
+ * positions which keep the POS and OSP orders. Subclasses decide where the
+ * terms and columns are kept: this class answers any pattern with a binary
+ * search over them.
+ */
+abstract class SortedTripleGraph extends GraphBase {
+
+	// Pattern IDs for wildcards, and for concrete terms which are not in the graph
+	private static final int ANY = -1;
+	private static final int NOT_FOUND = -2;
+
+	// Columns of a triple
+	private static final int SUBJECT = 0, PREDICATE = 1, OBJECT = 2;
+
+	// Orders in which the triples can be visited
+	private static final int SPO = 0, POS = 1, OSP = 2;
+
+	/**
+	 * Returns the ID of the term, or a negative value if it is not in the graph.
+	 */
+	protected abstract int findNodeId(Node node);
+
+	protected abstract Node getNode(int id);
+
+	/**
+	 * Returns the number of distinct terms in the graph.
+	 */
+	public abstract int getNodeCount();
+
+	protected abstract int getTripleCount();
+
+	protected abstract int getSubject(int i);
+
+	protected abstract int getPredicate(int i);
+
+	protected abstract int getObject(int i);
+
+	/**
+	 * Returns the SPO position of the {@code i}-th triple in POS order.
+	 */
+	protected abstract int getPOS(int i);
+
+	/**
+	 * Returns the SPO position of the {@code i}-th triple in OSP order.
+	 */
+	protected abstract int getOSP(int i);
+
+	@Override
+	protected ExtendedIterator<Triple> graphBaseFind(Triple pattern) {
+		int s = lookup(pattern.getMatchSubject());
+		int p = lookup(pattern.getMatchPredicate());
+		int o = lookup(pattern.getMatchObject());
+		if (s == NOT_FOUND || p == NOT_FOUND || o == NOT_FOUND) {
+			return NiceIterator.emptyIterator();
+		}
+
+		int lo = 0, hi = getTripleCount();
+		if (s != ANY && (p != ANY || o == ANY)) {
+			// S??, SP? and SPO: SPO order
+			lo = lowerBound(SUBJECT, SPO, lo, hi, s);
+			hi = lowerBound(SUBJECT, SPO, lo, hi, s + 1);
+			if (p != ANY) {
+				lo = lowerBound(PREDICATE, SPO, lo, hi, p);
+				hi = lowerBound(PREDICATE, SPO, lo, hi, p + 1);
+				if (o != ANY) {
+					lo = lowerBound(OBJECT, SPO, lo, hi, o);
+					hi = lowerBound(OBJECT, SPO, lo, hi, o + 1);
+				}
+			}
+			return new RangeIterator(SPO, lo, hi);
+		} else if (p != ANY) {
+			// ?P? and ?PO: POS order
+			lo = lowerBound(PREDICATE, POS, lo, hi, p);
+			hi = lowerBound(PREDICATE, POS, lo, hi, p + 1);
+			if (o != ANY) {
+				lo = lowerBound(OBJECT, POS, lo, hi, o);
+				hi = lowerBound(OBJECT, POS, lo, hi, o + 1);
+			}
+			return new RangeIterator(POS, lo, hi);
+		} else if (o != ANY) {
+			// ??O and S?O: OSP order
+			lo = lowerBound(OBJECT, OSP, lo, hi, o);
+			hi = lowerBound(OBJECT, OSP, lo, hi, o + 1);
+			if (s != ANY) {
+				lo = lowerBound(SUBJECT, OSP, lo, hi, s);
+				hi = lowerBound(SUBJECT, OSP, lo, hi, s + 1);
+			}
+			return new RangeIterator(OSP, lo, hi);
+		} else {
+			return new RangeIterator(SPO, lo, hi);
+		}
+	}
+
+	@Override
+	protected boolean graphBaseContains(Triple t) {
+		return graphBaseFind(t).hasNext();
+	}
+
+	@Override
+	protected int graphBaseSize() {
+		return getTripleCount();
+	}
+
+	/**
+	 * Returns the SPO position of the concrete triple, or -1 if it is not in
+	 * the graph.
+	 */
+	int indexOf(Triple t) {
+		int s = findNodeId(t.getSubject());
+		int p = findNodeId(t.getPredicate());
+		int o = findNodeId(t.getObject());
+		if (s < 0 || p < 0 || o < 0) {
+			return -1;
+		}
+
+		int n = getTripleCount();
+		int lo = lowerBound(SUBJECT, SPO, 0, n, s);
+		int hi = lowerBound(SUBJECT, SPO, lo, n, s + 1);
+		lo = lowerBound(PREDICATE, SPO, lo, hi, p);
+		hi = lowerBound(PREDICATE, SPO, lo, hi, p + 1);
+		lo = lowerBound(OBJECT, SPO, lo, hi, o);
+		return lo < hi && getObject(lo) == o ? lo : -1;
+	}
+
+	private int lookup(Node node) {
+		if (node == null) {
+			return ANY;
+		}
+		int id = findNodeId(node);
+		return id < 0 ? NOT_FOUND : id;
+	}
+
+	private int getRow(int order, int i) {
+		switch (order) {
+		case POS: return getPOS(i);
+		case OSP: return getOSP(i);
+		default: return i;
+		}
+	}
+
+	private int getValue(int column, int row) {
+		switch (column) {
+		case SUBJECT: return getSubject(row);
+		case PREDICATE: return getPredicate(row);
+		default: return getObject(row);
+		}
+	}
+
+	/**
+	 * Returns the first position in {@code [lo, hi)} whose value in the column
+	 * is at least {@code key}, or {@code hi} if there is none. The column must
+	 * be sorted in that range when visited in the given order.
+	 */
+	private int lowerBound(int column, int order, int lo, int hi, int key) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (getValue(column, getRow(order, mid)) < key) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private final class RangeIterator extends NiceIterator<Triple> {
+		private final int order;
+		private final int hi;
+		private int next;
+
+		RangeIterator(int order, int lo, int hi) {
+			this.order = order;
+			this.next = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < hi;
+		}
+
+		@Override
+		public Triple next() {
+			if (next >= hi) {
+				throw new NoSuchElementException();
+			}
+			int i = getRow(order, next);
+			next++;
+			return Triple.create(getNode(getSubject(i)), getNode(getPredicate(i)), getNode(getObject(i)));
+		}
+	}
+
+}
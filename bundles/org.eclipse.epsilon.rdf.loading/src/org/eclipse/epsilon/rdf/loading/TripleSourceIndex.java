@@ -0,0 +1,333 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.loading;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Triple;
+
+/**
+ * <p>
+ * Records which sources (numbered from 0) each triple of an
+ * {@link RDFMergedGraph} came from. Each triple has a slot which holds the ID
+ * of its set of sources. Sets of sources are interned, so the cost per triple
+ * is that of the slot: subclasses decide how triples are mapped to slots.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+abstract class TripleSourceIndex {
+
+	// Source set ID of the slots without a triple
+	protected static final int NO_SOURCES = -1;
+
+	private final List<BitSet> sourceSets = new ArrayList<>();
+	private final Map<BitSet, Integer> sourceSetIdsBySet = new HashMap<>();
+	private final long[] sourceSizes;
+
+	protected TripleSourceIndex(int sourceCount) {
+		this.sourceSizes = new long[sourceCount];
+
+		// The first IDs are for the sets with a single source, which are the most common
+		for (int i = 0; i < sourceCount; i++) {
+			BitSet single = new BitSet(sourceCount);
+			single.set(i);
+			internSourceSet(single);
+		}
+	}
+
+	/**
+	 * Returns the number of distinct triples in the index.
+	 */
+	abstract int size();
+
+	/**
+	 * Returns the slot of the triple, or -1 if the index has no slot for it.
+	 */
+	protected abstract int findSlot(Triple t);
+
+	/**
+	 * Returns the source set ID in the slot, or {@link #NO_SOURCES}.
+	 */
+	protected abstract int getSourceSetId(int slot);
+
+	/**
+	 * Puts the source set ID of the triple in its slot. {@link #NO_SOURCES}
+	 * removes the triple from the index.
+	 */
+	protected abstract void setSourceSetId(int slot, Triple t, int id);
+
+	/**
+	 * Returns the number of triples from the given source.
+	 */
+	long getSourceSize(int source) {
+		return sourceSizes[source];
+	}
+
+	/**
+	 * Records that the triple is in the given source. Returns {@code true} if
+	 * it was not recorded there before.
+	 */
+	boolean addSource(Triple t, int source) {
+		int slot = findSlot(t);
+		if (slot < 0) {
+			throw new IllegalArgumentException("Cannot index triple " + t);
+		}
+
+		int id = getSourceSetId(slot);
+		if (id == NO_SOURCES) {
+			setSourceSetId(slot, t, source);
+			sourceSizes[source]++;
+			return true;
+		}
+
+		BitSet sources = sourceSets.get(id);
+		if (sources.get(source)) {
+			return false;
+		}
+		BitSet newSources = (BitSet) sources.clone();
+		newSources.set(source);
+		setSourceSetId(slot, t, internSourceSet(newSources));
+		sourceSizes[source]++;
+		return true;
+	}
+
+	/**
+	 * Records that the triple is no longer in the given source. Returns
+	 * {@code true} if it was recorded there before.
+	 */
+	boolean removeSource(Triple t, int source) {
+		int slot = findSlot(t);
+		int id = slot < 0 ? NO_SOURCES : getSourceSetId(slot);
+		if (id == NO_SOURCES) {
+			return false;
+		}
+
+		BitSet sources = sourceSets.get(id);
+		if (!sources.get(source)) {
+			return false;
+		}
+		sourceSizes[source]--;
+		if (sources.cardinality() == 1) {
+			setSourceSetId(slot, t, NO_SOURCES);
+		} else {
+			BitSet newSources = (BitSet) sources.clone();
+			newSources.clear(source);
+			setSourceSetId(slot, t, internSourceSet(newSources));
+		}
+		return true;
+	}
+
+	boolean hasSource(Triple t, int source) {
+		BitSet sources = getSources(t);
+		return sources != null && sources.get(source);
+	}
+
+	/**
+	 * Returns the sources of the triple, or {@code null} if it has none. The
+	 * set is shared with other triples, and must not be modified.
+	 */
+	BitSet getSources(Triple t) {
+		int slot = findSlot(t);
+		int id = slot < 0 ? NO_SOURCES : getSourceSetId(slot);
+		return id == NO_SOURCES ? null : sourceSets.get(id);
+	}
+
+	private int internSourceSet(BitSet sources) {
+		Integer id = sourceSetIdsBySet.get(sources);
+		if (id == null) {
+			id = sourceSets.size();
+			sourceSets.add(sources);
+			sourceSetIdsBySet.put(sources, id);
+		}
+		return id;
+	}
+
+	/**
+	 * <p>
+	 * Index for triples in any graph. Triples are kept in an open addressing
+	 * hash table with linear probing, next to the ID of their set of sources.
+	 * </p>
+	 *
+	 * <p>
+	 * Each slot has a reference and an integer, and the table is kept between
+	 * 3/8 and 3/4 full, so it needs about 11-22 bytes per triple with
+	 * compressed references (about 16-32 bytes without them). The table also
+	 * keeps the triples themselves alive, which costs nothing more when they
+	 * are shared with the merged graph (as they are in Jena's in-memory
+	 * graphs).
+	 * </p>
+	 */
+	static final class Hashed extends TripleSourceIndex {
+
+		private static final int MIN_CAPACITY = 16;
+
+		private Triple[] triples;
+		private int[] sourceSetIds;
+		private int size;
+
+		Hashed(int sourceCount, int expectedTriples) {
+			super(sourceCount);
+
+			int capacity = MIN_CAPACITY;
+			while (capacity < Integer.highestOneBit(Integer.MAX_VALUE) && capacity * 3L / 4 < expectedTriples) {
+				capacity <<= 1;
+			}
+			this.triples = new Triple[capacity];
+			this.sourceSetIds = new int[capacity];
+		}
+
+		@Override
+		int size() {
+			return size;
+		}
+
+		/**
+		 * Returns the slot with the triple, or the empty slot where it would go.
+		 */
+		@Override
+		protected int findSlot(Triple t) {
+			int mask = triples.length - 1;
+			int slot = homeSlot(t, mask);
+			while (triples[slot] != null && !triples[slot].equals(t)) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		@Override
+		protected int getSourceSetId(int slot) {
+			return triples[slot] == null ? NO_SOURCES : sourceSetIds[slot];
+		}
+
+		@Override
+		protected void setSourceSetId(int slot, Triple t, int id) {
+			if (id == NO_SOURCES) {
+				removeAt(slot);
+			} else if (triples[slot] == null) {
+				triples[slot] = t;
+				sourceSetIds[slot] = id;
+				if (++size > triples.length * 3L / 4) {
+					grow();
+				}
+			} else {
+				sourceSetIds[slot] = id;
+			}
+		}
+
+		private static int homeSlot(Triple t, int mask) {
+			int h = t.hashCode();
+			return (h ^ (h >>> 16)) & mask;
+		}
+
+		/**
+		 * Empties the slot, moving back the following triples in the same run if
+		 * their home slot is not between the emptied slot and their current one.
+		 */
+		private void removeAt(int slot) {
+			int mask = triples.length - 1;
+			triples[slot] = null;
+			size--;
+
+			int empty = slot;
+			for (int i = (slot + 1) & mask; triples[i] != null; i = (i + 1) & mask) {
+				int home = homeSlot(triples[i], mask);
+				boolean reachable = empty <= i
+					? empty < home && home <= i
+					: empty < home || home <= i;
+				if (!reachable) {
+					triples[empty] = triples[i];
+					sourceSetIds[empty] = sourceSetIds[i];
+					triples[i] = null;
+					empty = i;
+				}
+			}
+		}
+
+		private void grow() {
+			if (triples.length == Integer.highestOneBit(Integer.MAX_VALUE)) {
+				throw new IllegalStateException("Cannot index more than " + size + " triples");
+			}
+
+			Triple[] oldTriples = triples;
+			int[] oldSourceSetIds = sourceSetIds;
+			triples = new Triple[oldTriples.length << 1];
+			sourceSetIds = new int[triples.length];
+
+			int mask = triples.length - 1;
+			for (int i = 0; i < oldTriples.length; i++) {
+				if (oldTriples[i] != null) {
+					int slot = homeSlot(oldTriples[i], mask);
+					while (triples[slot] != null) {
+						slot = (slot + 1) & mask;
+					}
+					triples[slot] = oldTriples[i];
+					sourceSetIds[slot] = oldSourceSetIds[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Index for the triples of a {@link SortedTripleGraph}, whose slots are the
+	 * SPO positions of the triples in the graph. It only needs an integer per
+	 * triple (4 bytes), and does not keep any triples alive, but it can only
+	 * index the triples which are in the graph.
+	 */
+	static final class Positional extends TripleSourceIndex {
+
+		private final SortedTripleGraph graph;
+		private final int[] sourceSetIds;
+		private int size;
+
+		Positional(int sourceCount, SortedTripleGraph graph) {
+			super(sourceCount);
+			this.graph = graph;
+			this.sourceSetIds = new int[graph.getTripleCount()];
+			Arrays.fill(sourceSetIds, NO_SOURCES);
+		}
+
+		@Override
+		int size() {
+			return size;
+		}
+
+		@Override
+		protected int findSlot(Triple t) {
+			return graph.indexOf(t);
+		}
+
+		@Override
+		protected int getSourceSetId(int slot) {
+			return sourceSetIds[slot];
+		}
+
+		@Override
+		protected void setSourceSetId(int slot, Triple t, int id) {
+			boolean had = sourceSetIds[slot] != NO_SOURCES;
+			boolean has = id != NO_SOURCES;
+			if (had != has) {
+				size += has ? 1 : -1;
+			}
+			sourceSetIds[slot] = id;
+		}
+	}
+
+}
@@ -13,7 +13,10 @@
 package org.eclipse.epsilon.rdf.validation;
 
 import java.util.Iterator;
+import java.util.List;
 
+import org.apache.jena.graph.compose.MultiUnion;
+import org.apache.jena.reasoner.InfGraph;
 import org.apache.jena.reasoner.ValidityReport;
 import org.apache.jena.reasoner.ValidityReport.Report;
 import org.apache.jena.ontology.OntModel;
@@ -31,7 +34,10 @@ public class RDFValidation {
 		JENA_VALID("jena-valid") {
 			@Override
 			public RDFModelValidationReport validate(OntModel modelToValidate) {
-				ValidityReport jenaValidationReport = modelToValidate.validate(); // Calls Jena's Validation API
+				ValidityReport jenaValidationReport = getJenaValidityReport(modelToValidate); // Calls Jena's Validation API
+				if (jenaValidationReport == null) {
+					return createNoReasonerReport();
+				}
 				String reportText = getJenaValidityModelString(jenaValidationReport);
 				if (jenaValidationReport.isValid() && jenaValidationReport.getReports().hasNext()) {
 					System.err.println(reportText); // Send warning messages
@@ -42,7 +48,10 @@ public class RDFValidation {
 		JENA_CLEAN("jena-clean") {
 			@Override
 			public RDFModelValidationReport validate(OntModel modelToValidate) {
-				ValidityReport jenaValidationReport = modelToValidate.validate(); // Calls Jena's Validation API
+				ValidityReport jenaValidationReport = getJenaValidityReport(modelToValidate); // Calls Jena's Validation API
+				if (jenaValidationReport == null) {
+					return createNoReasonerReport();
+				}
 				return new RDFModelValidationReport(jenaValidationReport.isClean(),
 						getJenaValidityModelString(jenaValidationReport));
 			}
@@ -88,6 +97,39 @@ public class RDFValidation {
 			throw new IllegalArgumentException("Validation mode not found: " + newId);
 		}
 
+		/*
+		 * Ontology models without a reasoner do not have an inference graph to
+		 * validate against: in that case, we use the inference model underneath
+		 * it (if any). Otherwise, there is no configured reasoner to check the
+		 * model with, and null is returned. We do not create a reasoner just for
+		 * validation, as running it over the whole model is as expensive as
+		 * the inference that was not requested.
+		 */
+		protected static ValidityReport getJenaValidityReport(OntModel modelToValidate) {
+			ValidityReport report = modelToValidate.validate();
+			if (report == null && modelToValidate.getBaseModel().getGraph() instanceof InfGraph infGraph) {
+				List<OntModel> imports = modelToValidate.listSubModels(true).toList();
+				if (imports.isEmpty()) {
+					report = infGraph.validate();
+				} else {
+					// The inference graph does not see the imports: bind its reasoner to the raw data and the imports
+					MultiUnion union = new MultiUnion();
+					union.addGraph(infGraph.getRawGraph());
+					for (OntModel imported : imports) {
+						union.addGraph(imported.getBaseModel().getGraph());
+					}
+					report = infGraph.getReasoner().bind(union).validate();
+				}
+			}
+			return report;
+		}
+
+		// Models without a reasoner cannot be checked, so they do not pass validation
+		protected RDFModelValidationReport createNoReasonerReport() {
+			return new RDFModelValidationReport(false,
+				"The loaded model cannot be validated, as no reasoner has been configured");
+		}
+
 		// Format Jena's Validation report to a String
 		protected String getJenaValidityModelString(ValidityReport modelValidityReport) {
 			StringBuilder sb = new StringBuilder("The loaded model is ");
@@ -14,6 +14,7 @@ package org.eclipse.epsilon.emc.rdf;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -22,8 +23,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelElementTypeNotFoundException;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.eol.execute.context.EolContext;
@@ -96,6 +103,82 @@ public class CommonQueryTest<T extends RDFModel> {
 		assertTrue("allContents should produce at least one element for the Green Goblin and Spiderman ", model.allContents().size() >= 2);
 	}
 
+	@Test
+	public void allContentsFetchesTriplesOnDemand() throws Exception {
+		final AtomicInteger fetched = new AtomicInteger();
+		final AtomicInteger open = new AtomicInteger();
+		RDFModel countingModel = new RDFModel() {
+			@Override
+			protected ExtendedIterator<Triple> findTriples(Node predicate, Node object) {
+				final ExtendedIterator<Triple> it = super.findTriples(predicate, object);
+				open.incrementAndGet();
+				return new NiceIterator<Triple>() {
+					@Override
+					public boolean hasNext() {
+						return it.hasNext();
+					}
+
+					@Override
+					public Triple next() {
+						fetched.incrementAndGet();
+						return it.next();
+					}
+
+					@Override
+					public void close() {
+						open.decrementAndGet();
+						it.close();
+					}
+				};
+			}
+		};
+
+		try {
+			countingModel.setDataUri("resources/spiderman.ttl");
+			countingModel.load();
+			// Graph.size() is only an estimate for inference graphs
+			final int totalTriples = countingModel.getOntModel().getGraph().find().toList().size();
+
+			Collection<RDFModelElement> contents = countingModel.allContents();
+			fetched.set(0);
+			assertFalse(contents.isEmpty());
+			assertTrue("Checking for emptiness should fetch at most one triple", fetched.get() <= 1);
+			assertEquals("Checking for emptiness should close the triple iterator", 0, open.get());
+
+			fetched.set(0);
+			ExtendedIterator<RDFModelElement> itFirst = (ExtendedIterator<RDFModelElement>) contents.iterator();
+			itFirst.next();
+			assertEquals("Producing the first element should fetch a single triple", 1, fetched.get());
+			itFirst.close();
+			assertEquals("Closing an iteration early should close the triple iterator", 0, open.get());
+
+			fetched.set(0);
+			int iterated = 0;
+			for (Iterator<RDFModelElement> it = contents.iterator(); it.hasNext(); it.next()) {
+				iterated++;
+			}
+			assertEquals("A full iteration should fetch every triple once", totalTriples, fetched.get());
+			assertEquals("Exhausting an iteration should close the triple iterator", 0, open.get());
+			assertTrue("Subjects should not be repeated", iterated < totalTriples);
+			assertEquals("The size should match the number of iterated elements", iterated, contents.size());
+
+			fetched.set(0);
+			RDFResource spiderman = countingModel.getElementById(SPIDERMAN_URI);
+			assertTrue("allContents should contain Spiderman", contents.contains(spiderman));
+			assertFalse("allContents should not contain unrelated objects", contents.contains("spiderman"));
+
+			Collection<RDFModelElement> people = countingModel.getAllOfType("foaf:Person");
+			assertTrue("The people should include Spiderman", people.contains(spiderman));
+			assertFalse("The people should not include the type itself",
+				people.contains(countingModel.getElementById("http://xmlns.com/foaf/0.1/Person")));
+			assertEquals("Membership checks should not fetch triples", 0, fetched.get());
+			assertEquals(2, people.size());
+			assertEquals("Only the rdf:type triples of the people should be fetched", 2, fetched.get());
+		} finally {
+			countingModel.dispose();
+		}
+	}
+
 	@Test
 	public void getNamesWithoutPrefix() throws Exception {
 		Set<String> names = new HashSet<>();
@@ -196,6 +279,26 @@ public class CommonQueryTest<T extends RDFModel> {
 		assertFalse("The model should deny that it knows the foaf:SomethingElse type", model.hasType("foaf:SomethingElse"));
 	}
 
+	@Test
+	public void knownTypesWithoutPrefix() {
+		assertTrue("The model should confirm that it knows the Person type", model.hasType("Person"));
+		assertFalse("The model should deny that it knows the SomethingElse type", model.hasType("SomethingElse"));
+	}
+
+	@Test
+	public void knownTypesAfterReload() throws Exception {
+		assertTrue("The model should confirm that it knows the Person type", model.hasType("Person"));
+
+		model.dispose();
+		model.setDataUri("resources/OWL/owlDemoData.ttl");
+		model.load();
+
+		assertFalse("Types from the previous load should be forgotten", model.hasType("Person"));
+		assertTrue("Types from the new load should be known", model.hasType("eg:Computer"));
+		assertEquals("Instances of the new types should be found",
+			model.getAllOfType("Computer").size(), model.getAllOfType("eg:Computer").size());
+	}
+
 	@Test
 	public void getPersonInformation() throws Exception {
 		RDFModelElement firstPerson = model.getAllOfType("foaf:Person").iterator().next();
@@ -210,4 +313,36 @@ public class CommonQueryTest<T extends RDFModel> {
 				new HashSet<>(model.getAllTypeNamesOf(firstPerson)));		
 	}
 
+	@Test
+	public void getPersonInformationSingleInferenceLayer() throws Exception {
+		model.dispose();
+		model.setSingleInferenceLayer(true);
+		model.load();
+
+		RDFModelElement firstPerson = model.getAllOfType("foaf:Person").iterator().next();
+		assertEquals("Without running the OWL rules again, only the foaf Person should be reported",
+				new HashSet<>(Arrays.asList("foaf:Person")),
+				new HashSet<>(model.getAllTypeNamesOf(firstPerson)));
+	}
+
+	@Test
+	public void resourcesAreCanonical() throws Exception {
+		RDFResource spiderman = model.getElementById(SPIDERMAN_URI);
+		assertSame("The same resource should be represented by the same element",
+			spiderman, model.getElementById(SPIDERMAN_URI));
+		assertSame("Elements from allContents should be the same as the ones by ID",
+			spiderman, model.allContents().stream().filter(e -> e == spiderman).findFirst().orElse(null));
+		assertEquals("The model-specific element class should be used",
+			model instanceof MOF2RDFModel ? MOF2RDFResource.class : RDFResource.class, spiderman.getClass());
+
+		RDFResource greenGoblin = model.getElementById(GREEN_GOBLIN_URI);
+		Collection<RDFResource> enemies = (Collection<RDFResource>) pGetter.invoke(spiderman, "rel:enemyOf", context);
+		assertSame("Property values should be canonical elements", greenGoblin, enemies.iterator().next());
+
+		assertSame("The types should be computed only once", spiderman.getTypes(), spiderman.getTypes());
+		assertSame("Types should be canonical elements",
+			model.getElementById("http://xmlns.com/foaf/0.1/Person"),
+			spiderman.getTypes().stream().filter(t -> t.getUri().endsWith("Person")).findFirst().orElse(null));
+	}
+
 }
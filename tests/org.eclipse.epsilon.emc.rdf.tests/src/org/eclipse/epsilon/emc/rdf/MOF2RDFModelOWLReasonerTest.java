@@ -12,6 +12,8 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -20,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 
+import org.apache.jena.ontology.MaxCardinalityRestriction;
 import org.eclipse.epsilon.common.util.StringProperties;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.eol.execute.context.EolContext;
@@ -103,6 +106,21 @@ public class MOF2RDFModelOWLReasonerTest {
 			sErrors.contains("has a max cardinality 1, raw property values list contained"));
 	}
 
+	@Test
+	public void maxCardinalityTableMatchesUncachedLookup() {
+		loadModelDefaults();
+		context.setWarningStream(new PrintStream(new ByteArrayOutputStream()));
+
+		RDFQualifiedName pName = RDFQualifiedName.from("eg:motherBoard", model::getNamespaceURI);
+		for (String uri : new String[] { URI_WHITEBOX, URI_BIGNAME42, URI_ALIENBOX51 }) {
+			RDFResource element = model.getElementById(uri);
+			MaxCardinalityRestriction cached = model.getMaxCardinalityRestriction(pName, element, context);
+			MaxCardinalityRestriction uncached = RDFPropertyProcesses.getPropertyStatementMaxCardinalityRestriction(pName, element.getResource(), context);
+			assertEquals("The table should give the same restriction as the uncached lookup for " + uri, uncached, cached);
+		}
+		assertFalse("The table should have been filled in", model.maxCardinalityTable.isEmpty());
+	}
+
 	// Functions not tests
 
 	protected void loadModel(String dataModelUri, String schemaModelUri, String languagePreference) throws EolModelLoadingException {
@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.sparql.core.DatasetGraph;
+import org.eclipse.epsilon.rdf.loading.RDFChunkedParser;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFChunkedParserTest {
+
+	private static final int PEOPLE = 200;
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@Test
+	public void chunkedTriplesMatchSequential() throws IOException {
+		Path file = writePeople("people.nt", "");
+		Model chunked = ModelFactory.createDefaultModel();
+		new RDFChunkedParser(4, 100).parse(file, Lang.NTRIPLES, StreamRDFLib.graph(chunked.getGraph()));
+
+		Model sequential = RDFDataMgr.loadModel(file.toString());
+		assertEquals(3 * PEOPLE, chunked.size());
+		assertTrue(chunked.isIsomorphicWith(sequential));
+	}
+
+	@Test
+	public void blankNodesAreSharedAcrossChunks() throws IOException {
+		Path file = writePeople("people.nt", "");
+		Model chunked = ModelFactory.createDefaultModel();
+		new RDFChunkedParser(4, 100).parse(file, Lang.NTRIPLES, StreamRDFLib.graph(chunked.getGraph()));
+
+		// Each "_:personN" label appears in three lines, which end up in different chunks
+		assertEquals(PEOPLE, chunked.listSubjects().toList().size());
+		for (Triple t : chunked.getGraph().find().toList()) {
+			assertTrue(t.getSubject().isBlank());
+		}
+	}
+
+	@Test
+	public void chunkedQuadsMatchSequential() throws IOException {
+		Path file = writePeople("people.nq", " <http://example.org/graph>");
+		DatasetGraph chunked = DatasetFactory.createGeneral().asDatasetGraph();
+		new RDFChunkedParser(3, 150).parse(file, Lang.NQUADS, StreamRDFLib.dataset(chunked));
+
+		Dataset sequential = RDFDataMgr.loadDataset(file.toString());
+		Node graph = chunked.listGraphNodes().next();
+		assertEquals(3 * PEOPLE, chunked.getGraph(graph).size());
+		assertTrue(chunked.getGraph(graph).isIsomorphicWith(
+			sequential.getNamedModel("http://example.org/graph").getGraph()));
+	}
+
+	@Test
+	public void loaderUsesChunksForLargeFiles() throws IOException {
+		Path file = writePeople("people.nt", "");
+		RDFDatasetLoader loader = new RDFDatasetLoader();
+		loader.setThreads(4);
+		loader.setChunkSize(256);
+
+		Model loaded = loader.loadModel(file.toUri().toString());
+		assertTrue(loaded.isIsomorphicWith(RDFDataMgr.loadModel(file.toString())));
+	}
+
+	@Test
+	public void documentsShareTheThreadBudget() throws IOException {
+		List<Integer> parseThreads = Collections.synchronizedList(new ArrayList<>());
+		RDFDatasetLoader loader = new RDFDatasetLoader() {
+			@Override
+			protected Model parseModel(String uri, int threads) throws IOException {
+				parseThreads.add(threads);
+				return super.parseModel(uri, threads);
+			}
+		};
+		loader.setThreads(4);
+		loader.setChunkSize(256);
+
+		List<String> uris = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			uris.add(writePeople("people" + i + ".nt", "").toUri().toString());
+		}
+		for (int[] expected : new int[][] { { 1, 4 }, { 2, 2 }, { 8, 1 } }) {
+			parseThreads.clear();
+			loader.loadModels(uris.subList(0, expected[0]));
+			assertEquals(Collections.nCopies(expected[0], expected[1]), parseThreads);
+		}
+	}
+
+	@Test
+	public void errorReportsChunkOffset() throws IOException {
+		Path file = scratch.getRoot().toPath().resolve("broken.nt");
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < PEOPLE; i++) {
+			sb.append(String.format("<http://example.org/p%d> <http://xmlns.com/foaf/0.1/age> \"%d\" .\n", i, i));
+		}
+		sb.append("this is not N-Triples\n");
+		Files.writeString(file, sb);
+
+		try {
+			new RDFChunkedParser(4, 100).parse(file, Lang.NTRIPLES, StreamRDFLib.graph(ModelFactory.createDefaultModel().getGraph()));
+			fail("A RiotException should have been thrown for the last line");
+		} catch (RiotException ex) {
+			assertTrue(ex.getMessage(), ex.getMessage().contains("in the chunk starting at byte"));
+		}
+	}
+
+	@Test
+	public void lineBasedLanguages() {
+		assertEquals(Lang.NTRIPLES, RDFChunkedParser.getLineBasedLang(Path.of("dump.NT")));
+		assertEquals(Lang.NQUADS, RDFChunkedParser.getLineBasedLang(Path.of("dump.nq")));
+		assertEquals(null, RDFChunkedParser.getLineBasedLang(Path.of("dump.nt.gz")));
+		assertEquals(null, RDFChunkedParser.getLineBasedLang(Path.of("dump.ttl")));
+	}
+
+	/**
+	 * Writes three lines per blank node, spread over the file so the lines for
+	 * the same node fall into different chunks.
+	 */
+	private Path writePeople(String fileName, String graphSuffix) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (String property : List.of("name", "age", "nick")) {
+			for (int i = 0; i < PEOPLE; i++) {
+				sb.append(String.format("_:person%d <http://xmlns.com/foaf/0.1/%s> \"%s %d\"%s .\n",
+					i, property, property, i, graphSuffix));
+			}
+		}
+		Path file = scratch.getRoot().toPath().resolve(fileName);
+		Files.writeString(file, sb);
+		return file;
+	}
+
+}
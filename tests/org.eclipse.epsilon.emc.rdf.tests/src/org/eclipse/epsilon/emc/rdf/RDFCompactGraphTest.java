@@ -0,0 +1,146 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.shared.DeleteDeniedException;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.StorageType;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFCompactGraph;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Test;
+
+public class RDFCompactGraphTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final Set<String> ALL_NAMES = Set.of("Green Goblin", "Spiderman", "Человек-паук");
+
+	@Test
+	public void findMatchesDefaultGraph() {
+		Graph reference = createRandomGraph(new Random(42), 2_000);
+		RDFCompactGraph compact = RDFCompactGraph.copyOf(reference);
+		assertEquals(reference.size(), compact.size());
+		assertTrue(compact.isIsomorphicWith(reference));
+
+		// Try every combination of concrete and wildcard positions for a sample of triples
+		List<Triple> triples = reference.find().toList();
+		Random random = new Random(7);
+		for (int i = 0; i < 200; i++) {
+			Triple t = triples.get(random.nextInt(triples.size()));
+			for (int mask = 0; mask < 8; mask++) {
+				Node s = (mask & 4) != 0 ? t.getSubject() : Node.ANY;
+				Node p = (mask & 2) != 0 ? t.getPredicate() : Node.ANY;
+				Node o = (mask & 1) != 0 ? t.getObject() : Node.ANY;
+				assertEquals(s + " " + p + " " + o, toSet(reference.find(s, p, o).toList()), toSet(compact.find(s, p, o).toList()));
+			}
+		}
+	}
+
+	@Test
+	public void unknownTermsMatchNothing() {
+		RDFCompactGraph compact = RDFCompactGraph.copyOf(RDFDataMgr.loadGraph(SPIDERMAN_TTL));
+		Node unknown = NodeFactory.createURI("urn:x-test:unknown");
+		assertFalse(compact.find(unknown, Node.ANY, Node.ANY).hasNext());
+		assertFalse(compact.find(Node.ANY, Node.ANY, unknown).hasNext());
+		assertFalse(compact.contains(unknown, unknown, unknown));
+	}
+
+	@Test
+	public void duplicatesAreRemoved() {
+		Node s = NodeFactory.createBlankNode(), p = NodeFactory.createURI("urn:x-test:p");
+		Node o = NodeFactory.createLiteralLang("hello", "en");
+		RDFCompactGraph compact = new RDFCompactGraph.Builder()
+			.add(s, p, o)
+			.add(s, p, o)
+			.add(s, p, NodeFactory.createLiteralString("hello"))
+			.build();
+		assertEquals(2, compact.size());
+		assertEquals("Literals with and without a language tag are different terms", 4, compact.getNodeCount());
+		assertTrue(compact.contains(s, p, o));
+	}
+
+	@Test
+	public void graphIsReadOnly() {
+		Graph source = RDFDataMgr.loadGraph(SPIDERMAN_TTL);
+		RDFCompactGraph compact = RDFCompactGraph.copyOf(source);
+		Triple t = compact.find().next();
+		assertThrows(AddDeniedException.class, () -> compact.add(Triple.create(t.getSubject(), t.getPredicate(), t.getSubject())));
+		assertThrows(DeleteDeniedException.class, () -> compact.delete(t));
+		assertEquals(source.getPrefixMapping().getNsPrefixMap(), compact.getPrefixMapping().getNsPrefixMap());
+	}
+
+	@Test
+	public void compactStorage() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL);
+			props.put(RDFModel.PROPERTY_STORAGE, StorageType.COMPACT.getId());
+			props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+			model.load(props);
+
+			assertTrue(model.dataModelSet.getNamedModel(SPIDERMAN_TTL).getGraph() instanceof RDFCompactGraph);
+			EolContext context = new EolContext();
+			Set<Object> names = new HashSet<>();
+			for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+				names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+			}
+			assertEquals(ALL_NAMES, names);
+		}
+	}
+
+	private Graph createRandomGraph(Random random, int size) {
+		List<Node> subjects = new ArrayList<>(), predicates = new ArrayList<>(), objects = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			subjects.add(i % 10 == 0 ? NodeFactory.createBlankNode() : NodeFactory.createURI("urn:x-test:s" + i));
+			objects.add(i % 2 == 0 ? subjects.get(i) : NodeFactory.createLiteralString("v" + i));
+		}
+		for (int i = 0; i < 8; i++) {
+			predicates.add(NodeFactory.createURI("urn:x-test:p" + i));
+		}
+
+		Graph graph = GraphFactory.createDefaultGraph();
+		for (int i = 0; i < size; i++) {
+			graph.add(Triple.create(
+				subjects.get(random.nextInt(subjects.size())),
+				predicates.get(random.nextInt(predicates.size())),
+				objects.get(random.nextInt(objects.size()))));
+		}
+		return graph;
+	}
+
+	private static Set<Triple> toSet(List<Triple> triples) {
+		Set<Triple> set = new HashSet<>(triples);
+		assertEquals("Find should not return duplicates", triples.size(), set.size());
+		return set;
+	}
+
+}
@@ -13,12 +13,19 @@
 package org.eclipse.epsilon.emc.rdf;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.vocabulary.OWL;
 
 import org.eclipse.epsilon.eol.execute.context.EolContext;
 import org.eclipse.epsilon.eol.execute.introspection.IPropertyGetter;
@@ -27,6 +34,7 @@ import org.junit.Test;
 public class RDFModelAmbiguousPropertyTest {
 
 	private static final String TTL = "resources/ambiguous-name.ttl";
+	private static final String TTL_INFERRED = "resources/ambiguous-inferred.ttl";
 
 	@Test
 	public void nameIsAmbiguous() throws Exception {
@@ -55,4 +63,49 @@ public class RDFModelAmbiguousPropertyTest {
 		}
 	}
 
+	@Test
+	public void inferredNameIsAmbiguous() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			model.setDataUri(TTL_INFERRED);
+			model.load();
+			assertFalse("The OWL reasoner may infer predicates missing from the index", model.isPredicateIndexComplete());
+
+			RDFResource elem = model.getElementById("http://example.org/#green-goblin");
+			IPropertyGetter pGetter = model.getPropertyGetter();
+
+			EolContext context = new EolContext();
+			ByteArrayOutputStream bOS = new ByteArrayOutputStream();
+			context.setWarningStream(new PrintStream(bOS));
+			Collection<?> values = (Collection<?>) pGetter.invoke(elem, "sameAs", context);
+
+			// The indexed se:sameAs should not hide the inferred owl:sameAs
+			assertTrue("The asserted value should be reported", values.contains("Norman Osborn"));
+			assertTrue("The inferred value should be reported", values.contains(elem));
+
+			String warningText = bOS.toString(StandardCharsets.UTF_8);
+			assertTrue("The OWL prefix should be mentioned in the ambiguity warning",
+				warningText.contains(OWL.getURI()));
+			assertTrue("The example prefix should be mentioned in the ambiguity warning",
+				warningText.contains("http://example.org/somethingElse/"));
+		}
+	}
+
+	@Test
+	public void ambiguousPredicatesAreIndexed() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			model.setDataUri(TTL);
+			model.load();
+
+			Set<String> uris = new HashSet<>();
+			for (Property p : model.getPredicatesByLocalName("name")) {
+				uris.add(p.getURI());
+			}
+			assertEquals("Both predicates named 'name' should be indexed",
+				new HashSet<>(Arrays.asList("http://xmlns.com/foaf/0.1/name", "http://example.org/somethingElse/name")),
+				uris);
+			assertTrue("Unknown local names should not match any predicates",
+				model.getPredicatesByLocalName("missing").isEmpty());
+		}
+	}
+
 }
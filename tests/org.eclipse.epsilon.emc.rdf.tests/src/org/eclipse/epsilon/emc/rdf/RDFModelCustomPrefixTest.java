@@ -79,6 +79,29 @@ public class RDFModelCustomPrefixTest {
 		}
 	}
 
+	@Test
+	public void customPrefixChangedAfterAccess() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			model.setDataUri(SPIDERMAN_TTL);
+			model.load();
+
+			RDFModelElement element = model.getElementById("http://example.org/#green-goblin");
+			IPropertyGetter pGetter = model.getPropertyGetter();
+			assertEquals("foaf:Person", model.getTypeNameOf(element));
+
+			model.getCustomPrefixesMap().put("f", "http://xmlns.com/foaf/0.1/");
+			assertEquals("The name should be found through the custom prefix",
+				1, ((Collection<?>) pGetter.invoke(element, "f:name", context)).size());
+			assertEquals("Type names should use the new custom prefix", "f:Person", model.getTypeNameOf(element));
+
+			model.getCustomPrefixesMap().put("f", "http://www.perceive.net/schemas/relationship/");
+			assertEquals("Accessors should be resolved again after the custom prefix is redefined",
+				0, ((Collection<?>) pGetter.invoke(element, "f:name", context)).size());
+			assertEquals("Accessors should be resolved again after the custom prefix is redefined",
+				1, ((Collection<?>) pGetter.invoke(element, "f:enemyOf", context)).size());
+		}
+	}
+
 	@Test(expected=IllegalArgumentException.class)
 	public void missingEquals() throws Exception {
 		try (RDFModel model = new RDFModel()) {
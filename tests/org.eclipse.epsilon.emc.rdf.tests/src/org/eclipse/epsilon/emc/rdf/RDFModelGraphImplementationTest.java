@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.mem2.GraphMem2Fast;
+import org.apache.jena.mem2.GraphMem2Legacy;
+import org.apache.jena.mem2.GraphMem2Roaring;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelGraphImplementationTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final Set<String> ALL_NAMES = Set.of("Green Goblin", "Spiderman", "Человек-паук");
+
+	private static final Map<RDFGraphImplementation, Class<? extends Graph>> GRAPH_CLASSES = Map.of(
+		RDFGraphImplementation.FAST, GraphMem2Fast.class,
+		RDFGraphImplementation.LEGACY, GraphMem2Legacy.class,
+		RDFGraphImplementation.ROARING, GraphMem2Roaring.class);
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@Test
+	public void documentsAreParsedIntoSelectedGraph() throws Exception {
+		for (RDFGraphImplementation impl : RDFGraphImplementation.values()) {
+			try (RDFModel model = loadModel(impl.getId(), null)) {
+				assertEquals(impl, model.getGraphImplementation());
+				assertEquals(GRAPH_CLASSES.get(impl), getDataGraph(model).getClass());
+				assertEquals(ALL_NAMES, getNames(model));
+			}
+		}
+	}
+
+	@Test
+	public void loadCacheUsesSelectedGraph() throws Exception {
+		Path cacheFolder = scratch.newFolder("cache").toPath();
+		loadModel(RDFGraphImplementation.FAST.getId(), cacheFolder).close();
+
+		// The second load reads the cached copy into the selected graph
+		try (RDFModel model = loadModel(RDFGraphImplementation.ROARING.getId(), cacheFolder)) {
+			assertEquals(GraphMem2Roaring.class, getDataGraph(model).getClass());
+			assertEquals(ALL_NAMES, getNames(model));
+		}
+	}
+
+	@Test
+	public void unknownImplementationIsRejected() {
+		assertThrows(EolModelLoadingException.class, () -> loadModel("rubbish", null));
+	}
+
+	private RDFModel loadModel(String graphImplementation, Path loadCache) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL);
+		props.put(RDFModel.PROPERTY_GRAPH_IMPLEMENTATION, graphImplementation);
+		if (loadCache != null) {
+			props.put(RDFModel.PROPERTY_LOAD_CACHE, loadCache.toString());
+		}
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private Graph getDataGraph(RDFModel model) {
+		return model.dataModelSet.getNamedModel(SPIDERMAN_TTL).getGraph();
+	}
+
+	private Set<Object> getNames(RDFModel model) throws Exception {
+		EolContext context = new EolContext();
+		Set<Object> names = new HashSet<>();
+		for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+			names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+		}
+		return names;
+	}
+
+}
@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFGraphProvider;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks that documents which cannot be parsed by Jena (such as HDT files) are
+ * taken from an {@link RDFGraphProvider} without copying them into memory, and
+ * that explicitly registered providers take precedence over those found through
+ * the {@link java.util.ServiceLoader} (such as the bundled HDT provider).
+ */
+public class RDFModelGraphProviderTest {
+
+	private static final String HDT_URI = "resources/spiderman.hdt";
+	private static final Set<Object> ALL_NAMES = new HashSet<>(Arrays.asList("Green Goblin", "Spiderman", "Человек-паук"));
+
+	private final Graph providedGraph = new GraphReadOnly(RDFDataMgr.loadGraph("resources/spiderman.ttl"));
+
+	private final RDFGraphProvider provider = new RDFGraphProvider() {
+		@Override
+		public boolean canProvide(String uri) {
+			return uri.endsWith(RDFDatasetLoader.HDT_EXTENSION);
+		}
+
+		@Override
+		public Graph provide(String uri) {
+			return providedGraph;
+		}
+	};
+
+	@After
+	public void removeProvider() {
+		RDFDatasetLoader.removeProvider(provider);
+	}
+
+	@Test
+	public void missingHDTDocument() {
+		try (RDFModel model = loadModel()) {
+			fail("Loading a missing HDT document should fail");
+		} catch (EolModelLoadingException ex) {
+			assertTrue(ex.getMessage().contains("the HDT file does not exist"));
+		}
+	}
+
+	@Test
+	public void hdtWithProvider() throws Exception {
+		RDFDatasetLoader.addProvider(provider);
+		try (RDFModel model = loadModel()) {
+			assertSame("The provided graph should be used without copying it",
+				providedGraph, model.dataModelSet.getNamedModel(HDT_URI).getGraph());
+
+			EolContext context = new EolContext();
+			Set<Object> names = new HashSet<>();
+			for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+				names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+			}
+			assertEquals(ALL_NAMES, names);
+
+			assertTrue("Provided graphs are read-only, and should be skipped when storing", model.store());
+		}
+	}
+
+	private RDFModel loadModel() throws EolModelLoadingException {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, HDT_URI);
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+}
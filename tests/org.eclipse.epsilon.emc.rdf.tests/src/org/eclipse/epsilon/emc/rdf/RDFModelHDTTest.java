@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.hdt.RDFHDTGraph;
+import org.eclipse.epsilon.rdf.loading.hdt.RDFHDTGraphProvider;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rdfhdt.hdt.hdt.HDT;
+import org.rdfhdt.hdt.hdt.HDTManager;
+import org.rdfhdt.hdt.options.HDTOptions;
+
+/**
+ * Tests for loading HDT documents through the HDT graph provider, which is
+ * found through the {@link java.util.ServiceLoader}.
+ */
+public class RDFModelHDTTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final Set<Object> ALL_NAMES = Set.of("Green Goblin", "Spiderman", "Человек-паук");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@Test
+	public void providerIsFound() throws Exception {
+		File fHDT = createHDT(SPIDERMAN_TTL);
+		assertTrue(RDFDatasetLoader.findProvider(fHDT.getPath()) instanceof RDFHDTGraphProvider);
+		assertTrue(RDFDatasetLoader.findProvider(fHDT.toURI().toString()) instanceof RDFHDTGraphProvider);
+	}
+
+	@Test
+	public void queryHDT() throws Exception {
+		File fHDT = createHDT(SPIDERMAN_TTL);
+		try (RDFModel model = loadModel(fHDT.getPath())) {
+			Graph graph = model.dataModelSet.getNamedModel(fHDT.getPath()).getGraph();
+			assertTrue("The HDT file should be queried in place", graph instanceof RDFHDTGraph);
+			assertEquals(RDFDataMgr.loadGraph(SPIDERMAN_TTL).size(), graph.size());
+
+			EolContext context = new EolContext();
+			Set<Object> names = new HashSet<>();
+			for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+				names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+			}
+			assertEquals(ALL_NAMES, names);
+		}
+	}
+
+	@Test
+	public void isomorphicToParsedGraph() throws Exception {
+		File fHDT = createHDT(SPIDERMAN_TTL);
+		try (HDT hdt = HDTManager.mapIndexedHDT(fHDT.getPath())) {
+			assertTrue(new RDFHDTGraph(hdt).isIsomorphicWith(RDFDataMgr.loadGraph(SPIDERMAN_TTL)));
+		}
+	}
+
+	@Test
+	public void nodeRoundTrip() {
+		for (Node node : List.of(
+			NodeFactory.createURI("http://example.org/#spiderman"),
+			NodeFactory.createBlankNode("b0"),
+			NodeFactory.createLiteralString("Peter \"Spidey\" Parker"),
+			NodeFactory.createLiteralLang("Человек-паук", "ru"),
+			NodeFactory.createLiteralDT("42", XSDDatatype.XSDint)
+		)) {
+			assertEquals(node, RDFHDTGraph.toNode(RDFHDTGraph.toHDTString(node)));
+		}
+		assertEquals("", RDFHDTGraph.toHDTString(Node.ANY));
+	}
+
+	private File createHDT(String ttlPath) throws Exception {
+		Graph source = RDFDataMgr.loadGraph(ttlPath);
+		File fHDT = scratch.newFile("spiderman" + RDFDatasetLoader.HDT_EXTENSION);
+		try (HDT hdt = HDTManager.generateHDT(
+				source.find().mapWith(RDFHDTGraph::toTripleString),
+				"http://example.org/", HDTOptions.of(), null)) {
+			hdt.saveToHDT(fHDT.getPath(), null);
+		}
+		return fHDT;
+	}
+
+	private RDFModel loadModel(String dataUri) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, dataUri);
+		// HDT documents do not keep the prefixes of the original document
+		props.put(RDFModel.PROPERTY_PREFIXES, "foaf=http://xmlns.com/foaf/0.1/");
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+}
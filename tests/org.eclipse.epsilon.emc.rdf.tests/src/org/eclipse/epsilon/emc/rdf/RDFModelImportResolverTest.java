@@ -0,0 +1,163 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.util.FileManager;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelImportResolverTest {
+
+	/*
+	 * The .invalid TLD is reserved: fetching this import would fail (after a DNS
+	 * lookup), so it can only be loaded through the catalog.
+	 */
+	private static final String IMPORTED_URI = "http://example.invalid/ontologies/people.ttl";
+
+	private static final String URI_ALICE = "urn:x-test:alice";
+	private static final String URI_BOB = "urn:x-test:bob";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path mainFile;
+	private Path catalogFile;
+
+	@Before
+	public void setup() throws IOException {
+		RDFSharedGraphCache.getInstance().clear();
+
+		mainFile = scratch.newFile("main.ttl").toPath();
+		Files.writeString(mainFile, String.join("\n",
+			"@prefix owl: <http://www.w3.org/2002/07/owl#> .",
+			"@prefix ex: <urn:x-test:> .",
+			"ex:main a owl:Ontology ; owl:imports <" + IMPORTED_URI + "> .",
+			"ex:alice a ex:Person ."));
+
+		Path peopleFile = scratch.newFolder("imports").toPath().resolve("people.ttl");
+		Files.writeString(peopleFile, String.join("\n",
+			"@prefix ex: <urn:x-test:> .",
+			"ex:bob a ex:Person ."));
+
+		catalogFile = scratch.newFile("catalog.ttl").toPath();
+		Files.writeString(catalogFile, String.join("\n",
+			"@prefix lm: <http://jena.hpl.hp.com/2004/08/location-mapping#> .",
+			"[] lm:mapping [ lm:name \"" + IMPORTED_URI + "\" ; lm:altName \"imports/people.ttl\" ] ."));
+	}
+
+	@After
+	public void teardown() {
+		RDFSharedGraphCache.getInstance().clear();
+	}
+
+	@Test
+	public void catalogMapsImportsToLocalFiles() throws Exception {
+		try (RDFModel model = loadModel(ImportMode.OFFLINE, catalogFile, false)) {
+			assertEquals(Set.of(URI_ALICE, URI_BOB), getPersonURIs(model));
+		}
+	}
+
+	@Test
+	public void offlineModeSkipsUnmappedImports() throws Exception {
+		try (RDFModel model = loadModel(ImportMode.OFFLINE, null, false)) {
+			assertEquals(Set.of(URI_ALICE), getPersonURIs(model));
+		}
+	}
+
+	@Test
+	public void noneModeIgnoresImports() throws Exception {
+		try (RDFModel model = loadModel(ImportMode.NONE, catalogFile, false)) {
+			assertEquals(Set.of(URI_ALICE), getPersonURIs(model));
+		}
+	}
+
+	@Test
+	public void importCacheSharesImportedGraphs() throws Exception {
+		try (RDFModel first = loadModel(ImportMode.OFFLINE, catalogFile, true);
+			 RDFModel second = loadModel(ImportMode.OFFLINE, catalogFile, true)) {
+			assertEquals(getPersonURIs(first), getPersonURIs(second));
+			assertEquals("Only the imported document should be in the cache", 1, RDFSharedGraphCache.getInstance().size());
+		}
+	}
+
+	@Test
+	public void resolverReusesCachedGraphs() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		try (RDFImportResolver first = createResolver(cache);
+			 RDFImportResolver second = createResolver(cache)) {
+			Model firstModel = first.getModel(IMPORTED_URI);
+			Model secondModel = second.getModel(IMPORTED_URI);
+			assertTrue(firstModel.contains(firstModel.createResource(URI_BOB), null));
+			assertSame(firstModel.getGraph(), secondModel.getGraph());
+		}
+	}
+
+	@Test
+	public void fileManagerIsPrivate() throws IOException {
+		try (RDFImportResolver resolver = createResolver(null)) {
+			assertNotSame(FileManager.getInternal(), resolver.getFileManager());
+			assertFalse("Imports are only read through the loader", resolver.getFileManager().locators().hasNext());
+		}
+	}
+
+	private RDFImportResolver createResolver(RDFSharedGraphCache cache) throws IOException {
+		RDFImportResolver resolver = new RDFImportResolver(ImportMode.OFFLINE, new RDFDatasetLoader());
+		resolver.setCatalog(catalogFile.toString());
+		resolver.setImportCache(cache);
+		return resolver;
+	}
+
+	private RDFModel loadModel(ImportMode mode, Path catalog, boolean importCache) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, mainFile.toString());
+		props.put(RDFModel.PROPERTY_IMPORT_MODE, mode.getId());
+		if (catalog != null) {
+			props.put(RDFModel.PROPERTY_IMPORT_CATALOG, catalog.toString());
+		}
+		props.put(RDFModel.PROPERTY_IMPORT_CACHE, importCache + "");
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private Set<String> getPersonURIs(RDFModel model) throws Exception {
+		return model.getAllOfType("Person").stream()
+			.map(e -> ((RDFResource) e).getUri())
+			.collect(Collectors.toSet());
+	}
+
+}
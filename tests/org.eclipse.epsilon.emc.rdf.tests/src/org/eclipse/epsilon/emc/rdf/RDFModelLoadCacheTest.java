@@ -0,0 +1,161 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFLoadCache;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelLoadCacheTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final Set<Object> ALL_NAMES = Set.of("Green Goblin", "Spiderman", "Человек-паук");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path source;
+	private Path cacheFolder;
+
+	@Before
+	public void setup() throws IOException {
+		source = scratch.newFile("spiderman.ttl").toPath();
+		Files.copy(new File(SPIDERMAN_TTL).toPath(), source, StandardCopyOption.REPLACE_EXISTING);
+		cacheFolder = scratch.getRoot().toPath().resolve("cache");
+	}
+
+	@Test
+	public void modelUsesCache() throws Exception {
+		try (RDFModel model = loadModel(RDFBinaryFormat.THRIFT)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+		assertEquals(1, listCacheFiles(RDFBinaryFormat.THRIFT.getExtension()).size());
+
+		// Cached copies keep the prefixes, so prefixed names still work
+		try (RDFModel model = loadModel(RDFBinaryFormat.THRIFT)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+	}
+
+	@Test
+	public void protobufFormat() throws Exception {
+		try (RDFModel model = loadModel(RDFBinaryFormat.PROTOBUF)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+		assertEquals(1, listCacheFiles(RDFBinaryFormat.PROTOBUF.getExtension()).size());
+		try (RDFModel model = loadModel(RDFBinaryFormat.PROTOBUF)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+	}
+
+	@Test
+	public void unchangedFileReadsCachedCopy() throws Exception {
+		RDFLoadCache cache = new RDFLoadCache(cacheFolder, RDFBinaryFormat.THRIFT);
+		Model original = cache.load(source.toString());
+		Path fBinary = listCacheFiles(RDFBinaryFormat.THRIFT.getExtension()).get(0);
+
+		// Replace the cached copy: if it is read, we will see the change
+		Model marker = RDFDataMgr.loadModel("resources/OWL/owlDemoSchema.ttl");
+		try (OutputStream os = Files.newOutputStream(fBinary)) {
+			RDFDataMgr.write(os, marker, RDFBinaryFormat.THRIFT.getLang());
+		}
+		assertTrue(cache.load(source.toString()).isIsomorphicWith(marker));
+		assertFalse(original.isIsomorphicWith(marker));
+	}
+
+	@Test
+	public void touchedFileReusesCachedCopy() throws Exception {
+		RDFLoadCache cache = new RDFLoadCache(cacheFolder, RDFBinaryFormat.THRIFT);
+		Model original = cache.load(source.toString());
+		Path fBinary = listCacheFiles(RDFBinaryFormat.THRIFT.getExtension()).get(0);
+		FileTime binaryTime = Files.getLastModifiedTime(fBinary);
+
+		Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+		assertTrue(cache.load(source.toString()).isIsomorphicWith(original));
+		assertEquals("The contents did not change, so the copy should not be rewritten",
+			List.of(fBinary), listCacheFiles(RDFBinaryFormat.THRIFT.getExtension()));
+		assertEquals(binaryTime, Files.getLastModifiedTime(fBinary));
+	}
+
+	@Test
+	public void changedFileIsParsedAgain() throws Exception {
+		RDFLoadCache cache = new RDFLoadCache(cacheFolder, RDFBinaryFormat.THRIFT);
+		cache.load(source.toString());
+		Path fOldBinary = listCacheFiles(RDFBinaryFormat.THRIFT.getExtension()).get(0);
+
+		Files.writeString(source, "<http://example.org/#spiderman> <http://xmlns.com/foaf/0.1/name> \"Peter Parker\" .\n");
+		Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+		Model changed = cache.load(source.toString());
+		assertEquals(1, changed.size());
+
+		List<Path> binaries = listCacheFiles(RDFBinaryFormat.THRIFT.getExtension());
+		assertEquals(1, binaries.size());
+		assertFalse("The outdated copy should have been removed", binaries.contains(fOldBinary));
+		assertTrue(cache.load(source.toString()).isIsomorphicWith(changed));
+	}
+
+	private RDFModel loadModel(RDFBinaryFormat format) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, source.toString());
+		props.put(RDFModel.PROPERTY_LOAD_CACHE, cacheFolder.toString());
+		props.put(RDFModel.PROPERTY_LOAD_CACHE_FORMAT, format.getId());
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private List<Path> listCacheFiles(String extension) throws IOException {
+		try (Stream<Path> files = Files.list(cacheFolder)) {
+			return files.filter(p -> p.toString().endsWith(extension)).collect(Collectors.toList());
+		}
+	}
+
+	private Set<Object> getAllPersonNames(RDFModel model) throws Exception {
+		EolContext context = new EolContext();
+		Set<Object> names = new HashSet<>();
+		for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+			names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+		}
+		return names;
+	}
+
+}
@@ -0,0 +1,225 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.reasoner.InfGraph;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelMaterialisedInferenceTest {
+
+	private static final String OWL_DEMO_DATAMODEL = "resources/OWL/owlDemoData.ttl";
+	private static final String OWL_DEMO_VALID_DATAMODEL = "resources/OWL/owlDemoData_valid.ttl";
+	private static final String OWL_DEMO_SCHEMAMODEL = "resources/OWL/owlDemoSchema.ttl";
+
+	private static final String URI_BIGNAME42 = "urn:x-hp:eg/bigName42";
+	private static final String URI_NFORCE = "urn:x-hp:eg/nForce";
+	private static final String URI_MOTHERBOARD = "urn:x-hp:eg/MotherBoard";
+	private static final String URI_MARKER = "urn:x-hp:eg/Marker";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path dataFile;
+	private Path schemaFile;
+	private Path closureFolder;
+
+	@Before
+	public void setup() throws IOException {
+		dataFile = scratch.newFile("data.ttl").toPath();
+		schemaFile = scratch.newFile("schema.ttl").toPath();
+		Files.copy(new File(OWL_DEMO_DATAMODEL).toPath(), dataFile, StandardCopyOption.REPLACE_EXISTING);
+		Files.copy(new File(OWL_DEMO_SCHEMAMODEL).toPath(), schemaFile, StandardCopyOption.REPLACE_EXISTING);
+		closureFolder = scratch.getRoot().toPath().resolve("closures");
+	}
+
+	@Test
+	public void materialisedMatchesOnDemand() throws Exception {
+		try (RDFModel onDemand = loadModel(ReasonerType.OWL_FULL, false, false);
+			 RDFModel materialised = loadModel(ReasonerType.OWL_FULL, true, false)) {
+			assertTrue(onDemand.model.getBaseModel().getGraph() instanceof InfGraph);
+			assertFalse("The materialised closure should be a plain model",
+				materialised.model.getBaseModel().getGraph() instanceof InfGraph);
+
+			assertTrue(getTypeURIs(materialised, URI_NFORCE).contains(URI_MOTHERBOARD));
+			assertEquals(getTypeURIs(onDemand, URI_NFORCE), getTypeURIs(materialised, URI_NFORCE));
+			assertEquals(getMotherBoardCount(onDemand), getMotherBoardCount(materialised));
+		}
+	}
+
+	@Test
+	public void noReasonerIgnoresMaterialisation() throws Exception {
+		try (RDFModel model = loadModel(ReasonerType.NONE, true, true)) {
+			assertFalse(getTypeURIs(model, URI_NFORCE).contains(URI_MOTHERBOARD));
+		}
+		assertFalse(Files.exists(closureFolder));
+	}
+
+	@Test
+	public void closureIsCached() throws Exception {
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MOTHERBOARD));
+		}
+		List<Path> closures = listClosures();
+		assertEquals(1, closures.size());
+
+		// Add a marker to the cached closure: if it is read, we will see it
+		Model closure = RDFDataMgr.loadModel(closures.get(0).toString(), RDFBinaryFormat.THRIFT.getLang());
+		closure.add(closure.createResource(URI_NFORCE), RDF.type, closure.createResource(URI_MARKER));
+		try (OutputStream os = Files.newOutputStream(closures.get(0))) {
+			RDFDataMgr.write(os, closure, RDFBinaryFormat.THRIFT.getLang());
+		}
+
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MARKER));
+		}
+	}
+
+	@Test
+	public void changesInvalidateClosure() throws Exception {
+		loadModel(ReasonerType.RDFS, true, true).close();
+		assertEquals(1, listClosures().size());
+
+		// A different reasoner has a different closure
+		loadModel(ReasonerType.OWL_MICRO, true, true).close();
+		assertEquals(2, listClosures().size());
+
+		// So does different data
+		Files.writeString(dataFile, "\n<urn:x-hp:eg/extra> a <urn:x-hp:eg/Computer> .\n", StandardOpenOption.APPEND);
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			assertTrue(model.getElementById("urn:x-hp:eg/extra") != null);
+		}
+		assertEquals(3, listClosures().size());
+
+		// Imports are part of the closure, and the validation mode decides if it can be cached
+		loadModel(ReasonerType.RDFS, true, true, ImportMode.NONE, ValidationMode.NONE).close();
+		assertEquals(4, listClosures().size());
+		loadModel(ReasonerType.RDFS, true, true, ImportMode.FOLLOW, ValidationMode.JENA_VALID).close();
+		assertEquals(5, listClosures().size());
+	}
+
+	@Test
+	public void changedImportsInvalidateClosure() throws Exception {
+		Path importedFile = scratch.newFile("imported.ttl").toPath();
+		Files.writeString(importedFile, "<" + URI_NFORCE + "> a <" + URI_MARKER + "> .\n");
+		Files.writeString(dataFile, String.format("%n<urn:x-hp:eg/data> a <http://www.w3.org/2002/07/owl#Ontology> ;"
+			+ " <http://www.w3.org/2002/07/owl#imports> <%s> .%n", importedFile.toUri()), StandardOpenOption.APPEND);
+
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MARKER));
+		}
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			assertTrue("The closure with the import should be reused", getTypeURIs(model, URI_NFORCE).contains(URI_MARKER));
+		}
+		assertEquals(1, listClosures().size());
+
+		// The data and schema are the same, but the closure is out of date
+		Files.writeString(importedFile, "<" + URI_NFORCE + "> a <" + URI_MARKER + "2> .\n");
+		try (RDFModel model = loadModel(ReasonerType.RDFS, true, true)) {
+			Set<String> types = getTypeURIs(model, URI_NFORCE);
+			assertFalse("The stale closure should not be used", types.contains(URI_MARKER));
+			assertTrue(types.contains(URI_MARKER + "2"));
+		}
+		assertEquals(2, listClosures().size());
+	}
+
+	@Test
+	public void cachedClosureIsNotValidatedAgain() throws Exception {
+		Files.copy(new File(OWL_DEMO_VALID_DATAMODEL).toPath(), dataFile, StandardCopyOption.REPLACE_EXISTING);
+		try (RDFModel model = loadModel(ReasonerType.OWL_FULL, true, true, ImportMode.FOLLOW, ValidationMode.JENA_VALID)) {
+			assertTrue(model.getReportForLastValidation(), model.getReportForLastValidation().contains("The loaded model is valid"));
+		}
+		assertEquals(1, listClosures().size());
+
+		try (RDFModel model = loadModel(ReasonerType.OWL_FULL, true, true, ImportMode.FOLLOW, ValidationMode.JENA_VALID)) {
+			assertTrue(model.getReportForLastValidation(), model.getReportForLastValidation().contains("passed validation when it was cached"));
+		}
+		assertEquals(1, listClosures().size());
+	}
+
+	@Test
+	public void invalidClosureIsNotCached() throws Exception {
+		// The demo data has a known issue which is reported by the OWL reasoner
+		assertThrows(EolModelLoadingException.class,
+			() -> loadModel(ReasonerType.OWL_FULL, true, true, ImportMode.FOLLOW, ValidationMode.JENA_CLEAN));
+		assertFalse(Files.exists(closureFolder) && !listClosures().isEmpty());
+	}
+
+	private RDFModel loadModel(ReasonerType reasoner, boolean materialise, boolean useCache) throws Exception {
+		// There is a known issue in the model required for tests
+		return loadModel(reasoner, materialise, useCache, ImportMode.FOLLOW, ValidationMode.NONE);
+	}
+
+	private RDFModel loadModel(ReasonerType reasoner, boolean materialise, boolean useCache, ImportMode importMode, ValidationMode validation) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, dataFile.toString());
+		props.put(RDFModel.PROPERTY_SCHEMA_URIS, schemaFile.toString());
+		props.put(RDFModel.PROPERTY_REASONER, reasoner.getId());
+		props.put(RDFModel.PROPERTY_MATERIALISE_INFERENCE, materialise + "");
+		if (useCache) {
+			props.put(RDFModel.PROPERTY_CLOSURE_CACHE, closureFolder.toString());
+		}
+		props.put(RDFModel.PROPERTY_IMPORT_MODE, importMode.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, validation.getId());
+		model.load(props);
+		return model;
+	}
+
+	private List<Path> listClosures() throws IOException {
+		try (Stream<Path> files = Files.list(closureFolder)) {
+			return files.filter(p -> p.toString().endsWith(RDFBinaryFormat.THRIFT.getExtension())).collect(Collectors.toList());
+		}
+	}
+
+	private Set<String> getTypeURIs(RDFModel model, String elementURI) {
+		return model.getElementById(elementURI).getTypes().stream()
+			.map(RDFResource::getUri)
+			.collect(Collectors.toSet());
+	}
+
+	private int getMotherBoardCount(RDFModel model) {
+		return ((Collection<?>) model.getElementById(URI_BIGNAME42).getProperty("eg:motherBoard", new EolContext())).size();
+	}
+
+}
@@ -0,0 +1,199 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.StorageType;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.loading.RDFMergedGraph;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelMergeDataModelsTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final String FOAF_RDFXML = "resources/foaf.rdf";
+	private static final String OWL_DEMO_DATA = "resources/OWL/owlDemoData.ttl";
+
+	private static final Triple T_SHARED = triple("urn:x-test:a", "urn:x-test:p", "urn:x-test:b");
+	private static final Triple T_FIRST = triple("urn:x-test:a", "urn:x-test:p", "urn:x-test:c");
+	private static final Triple T_NEW = triple("urn:x-test:d", "urn:x-test:p", "urn:x-test:a");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@Test
+	public void mergedMatchesNamed() throws Exception {
+		List<String> uris = Arrays.asList(
+			getAbsoluteURI(SPIDERMAN_TTL), getAbsoluteURI(FOAF_RDFXML), getAbsoluteURI(OWL_DEMO_DATA));
+
+		Dataset expected = new RDFDatasetLoader().loadNamed(uris);
+		Dataset actual = new RDFDatasetLoader().loadMerged(uris);
+
+		assertTrue(actual.getDefaultModel().getGraph() instanceof RDFMergedGraph);
+		assertTrue(expected.getUnionModel().isIsomorphicWith(actual.getDefaultModel()));
+		for (String uri : uris) {
+			Model expectedModel = expected.getNamedModel(uri);
+			Model actualModel = actual.getNamedModel(uri);
+			assertTrue("The model for " + uri + " should be the same", expectedModel.isIsomorphicWith(actualModel));
+			assertEquals(expectedModel.size(), actualModel.size());
+			assertEquals(expectedModel.getNsPrefixMap(), actualModel.getNsPrefixMap());
+		}
+	}
+
+	@Test
+	public void sourceGraphChanges() {
+		Graph first = GraphFactory.createDefaultGraph();
+		first.add(T_SHARED);
+		first.add(T_FIRST);
+		Graph second = GraphFactory.createDefaultGraph();
+		second.add(T_SHARED);
+
+		RDFMergedGraph merged = RDFMergedGraph.merge(
+			Arrays.asList("first", "second"), Arrays.asList(first, second), RDFGraphImplementation.FAST);
+		Graph firstView = merged.getSourceGraph("first");
+		Graph secondView = merged.getSourceGraph("second");
+		assertEquals(2, merged.size());
+		assertEquals(2, firstView.size());
+		assertEquals(1, secondView.size());
+		assertEquals(Arrays.asList("first", "second"), merged.getSourceNamesContaining(T_SHARED.getObject()));
+		assertEquals(Arrays.asList("first"), merged.getSourceNamesContaining(T_FIRST.getObject()));
+
+		// The shared triple stays in the merged graph while any source has it
+		firstView.delete(T_SHARED);
+		assertTrue(merged.contains(T_SHARED));
+		assertFalse(firstView.contains(T_SHARED));
+		assertTrue(secondView.contains(T_SHARED));
+		secondView.delete(T_SHARED);
+		assertFalse(merged.contains(T_SHARED));
+
+		secondView.add(T_NEW);
+		assertTrue(merged.contains(T_NEW));
+		assertFalse(firstView.contains(T_NEW));
+		assertEquals(Arrays.asList(T_NEW), secondView.find().toList());
+		assertEquals(Arrays.asList("first", "second"), merged.getSourceNamesContaining(T_FIRST.getSubject()));
+	}
+
+	@Test
+	public void compactSourceGraphs() {
+		Graph first = GraphFactory.createDefaultGraph();
+		first.add(T_SHARED);
+		first.add(T_FIRST);
+		Graph second = GraphFactory.createDefaultGraph();
+		second.add(T_SHARED);
+		second.add(T_NEW);
+
+		RDFMergedGraph merged = RDFMergedGraph.mergeCompact(
+			Arrays.asList("first", "second"), Arrays.asList(first, second));
+		Graph firstView = merged.getSourceGraph("first");
+		Graph secondView = merged.getSourceGraph("second");
+		assertEquals(3, merged.size());
+		assertEquals(2, firstView.size());
+		assertEquals(2, secondView.size());
+		assertTrue(firstView.contains(T_FIRST));
+		assertFalse(firstView.contains(T_NEW));
+		assertTrue(secondView.contains(T_SHARED));
+		assertEquals(Arrays.asList(T_NEW), secondView.find(T_NEW.getSubject(), T_NEW.getPredicate(), null).toList());
+		assertEquals(Arrays.asList("first", "second"), merged.getSourceNamesContaining(T_SHARED.getObject()));
+		assertEquals(Arrays.asList("second"), merged.getSourceNamesContaining(T_NEW.getSubject()));
+	}
+
+	@Test
+	public void singleSourceGraph() {
+		Graph first = GraphFactory.createDefaultGraph();
+		first.add(T_FIRST);
+
+		RDFMergedGraph merged = RDFMergedGraph.merge(
+			Arrays.asList("first"), Arrays.asList(first), RDFGraphImplementation.FAST);
+		Graph firstView = merged.getSourceGraph("first");
+		assertEquals(Arrays.asList(T_FIRST), firstView.find().toList());
+		assertEquals(Arrays.asList("first"), merged.getSourceNamesContaining(T_FIRST.getObject()));
+		assertEquals(Arrays.asList(), merged.getSourceNamesContaining(T_NEW.getSubject()));
+
+		firstView.add(T_NEW);
+		firstView.delete(T_FIRST);
+		assertEquals(Arrays.asList(T_NEW), merged.find().toList());
+		assertEquals(1, firstView.size());
+	}
+
+	@Test
+	public void compactSourceGraphsAreReadOnly() {
+		Graph first = GraphFactory.createDefaultGraph();
+		first.add(T_FIRST);
+
+		RDFMergedGraph merged = RDFMergedGraph.mergeCompact(Arrays.asList("first"), Arrays.asList(first));
+		assertTrue(merged.contains(T_FIRST));
+		assertThrows(AddDeniedException.class, () -> merged.getSourceGraph("first").add(T_NEW));
+	}
+
+	@Test
+	public void queryAndStore() throws Exception {
+		for (StorageType storage : Arrays.asList(StorageType.MEMORY, StorageType.COMPACT)) {
+			try (RDFModel model = loadModel(storage, true)) {
+				assertTrue(model.isMergeDataModels());
+				assertEquals(2, model.getAllOfType("foaf:Person").size());
+				try (RDFModel unmerged = loadModel(storage, false)) {
+					assertEquals(unmerged.allContents().size(), model.allContents().size());
+				}
+
+				// Each document should be stored with only its own triples
+				Path folder = scratch.newFolder(storage.getId()).toPath();
+				assertTrue(model.store(folder.toString()));
+				assertTrue(RDFDataMgr.loadModel(SPIDERMAN_TTL).isIsomorphicWith(
+					RDFDataMgr.loadModel(folder.resolve("spiderman.ttl").toString())));
+				assertTrue(RDFDataMgr.loadModel(OWL_DEMO_DATA).isIsomorphicWith(
+					RDFDataMgr.loadModel(folder.resolve("owlDemoData.ttl").toString())));
+			}
+		}
+	}
+
+	private RDFModel loadModel(StorageType storage, boolean merge) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL + "," + OWL_DEMO_DATA);
+		props.put(RDFModel.PROPERTY_MERGE_DATA_MODELS, merge + "");
+		props.put(RDFModel.PROPERTY_STORAGE, storage.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private static Triple triple(String s, String p, String o) {
+		return Triple.create(NodeFactory.createURI(s), NodeFactory.createURI(p), NodeFactory.createURI(o));
+	}
+
+	private String getAbsoluteURI(String path) {
+		return new File(path).getAbsoluteFile().toURI().toString();
+	}
+}
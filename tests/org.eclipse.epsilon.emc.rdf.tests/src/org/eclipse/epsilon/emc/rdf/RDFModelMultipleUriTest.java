@@ -12,16 +12,28 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.List;
 
+import org.apache.jena.query.Dataset;
+import org.apache.jena.riot.RiotNotFoundException;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 import org.junit.Test;
 
 public class RDFModelMultipleUriTest {
 
 	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
 	private static final String FOAF_RDFXML = "resources/foaf.rdf";
+	private static final String OWL_DEMO_DATA = "resources/OWL/owlDemoData.ttl";
+	private static final String OWL_DEMO_SCHEMA = "resources/OWL/owlDemoSchema.ttl";
 
 	@Test
 	public void ttlThenRDFXML() throws Exception {
@@ -47,6 +59,70 @@ public class RDFModelMultipleUriTest {
 		}
 	}
 
+	@Test
+	public void parallelLoadMatchesSequential() throws Exception {
+		List<String> uris = Arrays.asList(
+			getAbsoluteURI(SPIDERMAN_TTL), getAbsoluteURI(FOAF_RDFXML),
+			getAbsoluteURI(OWL_DEMO_DATA), getAbsoluteURI(OWL_DEMO_SCHEMA));
+
+		RDFDatasetLoader sequential = new RDFDatasetLoader();
+		sequential.setThreads(1);
+		Dataset expected = sequential.loadNamed(uris);
+
+		RDFDatasetLoader parallel = new RDFDatasetLoader();
+		parallel.setThreads(4);
+		Dataset actual = parallel.loadNamed(uris);
+
+		for (String uri : uris) {
+			assertTrue("The model for " + uri + " should be the same",
+				expected.getNamedModel(uri).isIsomorphicWith(actual.getNamedModel(uri)));
+		}
+	}
+
+	@Test
+	public void parallelLoadReportsFirstFailure() throws Exception {
+		List<String> uris = Arrays.asList(
+			getAbsoluteURI(SPIDERMAN_TTL), getAbsoluteURI("resources/missing1.ttl"),
+			getAbsoluteURI(FOAF_RDFXML), getAbsoluteURI("resources/missing2.ttl"));
+
+		RDFDatasetLoader parallel = new RDFDatasetLoader();
+		parallel.setThreads(4);
+		try {
+			parallel.loadNamed(uris);
+			fail("Loading missing documents should fail");
+		} catch (RiotNotFoundException ex) {
+			assertTrue("The first missing document in the list should be reported",
+				ex.getMessage().contains("missing1.ttl"));
+			assertEquals(1, ex.getSuppressed().length);
+			assertTrue(ex.getSuppressed()[0].getMessage().contains("missing2.ttl"));
+		}
+	}
+
+	@Test
+	public void loadThreadsProperty() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, getAbsoluteURI(SPIDERMAN_TTL) + "," + getAbsoluteURI(FOAF_RDFXML));
+			props.put(RDFModel.PROPERTY_LOAD_THREADS, "2");
+			props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+			model.load(props);
+
+			assertEquals(2, model.getLoadThreads());
+			assertTrue("The FOAF vocabulary has at least 13 classes (more are inferred)",
+				model.getAllOfType("Class").size() >= 13);
+		}
+	}
+
+	@Test(expected = EolModelLoadingException.class)
+	public void negativeLoadThreads() throws Exception {
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, getAbsoluteURI(SPIDERMAN_TTL));
+			props.put(RDFModel.PROPERTY_LOAD_THREADS, "-1");
+			model.load(props);
+		}
+	}
+
 	private String getAbsoluteURI(String path) {
 		return new File(path).getAbsoluteFile().toURI().toString();
 	}
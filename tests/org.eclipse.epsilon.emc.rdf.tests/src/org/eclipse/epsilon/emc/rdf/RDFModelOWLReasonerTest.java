@@ -12,17 +12,24 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.jena.vocabulary.RDFS;
 import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.loading.RDFReasonerType;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
 import org.junit.After;
 import org.junit.Test;
@@ -36,6 +43,8 @@ public class RDFModelOWLReasonerTest {
 	private static final String URI_BIGNAME42 = "urn:x-hp:eg/bigName42";
 	private static final String URI_ALIENBOX51 = "urn:x-hp:eg/alienBox51";
 	private static final String URI_WHITEBOX = "urn:x-hp:eg/whiteBoxZX";
+	private static final String URI_NFORCE = "urn:x-hp:eg/nForce";
+	private static final String URI_MOTHERBOARD = "urn:x-hp:eg/MotherBoard";
 
 	private RDFModel model;
 	private EolContext context;
@@ -94,14 +103,105 @@ public class RDFModelOWLReasonerTest {
 		}
 	}
 
+	@Test
+	public void reasonerDefaultsToOWL() {
+		loadModelDefaults();
+		assertEquals(ReasonerType.OWL_FULL, model.getReasonerType());
+		assertTrue("The default reasoner should use the range of eg:motherBoard to infer types",
+			getTypeURIs(URI_NFORCE).contains(URI_MOTHERBOARD));
+	}
+
+	@Test
+	public void reasonerAcceptsEMFDriverIDs() throws EolModelLoadingException {
+		loadModel(OWL_DEMO_DATAMODEL, OWL_DEMO_SCHEMAMODEL, LANGUAGE_PREFERENCE_EN_STRING, "owl");
+		assertEquals(ReasonerType.OWL_FULL, model.getReasonerType());
+
+		EolModelLoadingException ex = assertThrows(EolModelLoadingException.class, () -> loadModel(
+			OWL_DEMO_DATAMODEL, OWL_DEMO_SCHEMAMODEL, LANGUAGE_PREFERENCE_EN_STRING, RDFReasonerType.CUSTOM.getId()));
+		assertTrue("The custom rule reasoner should be rejected", ex.getMessage().contains("not supported by RDFModel"));
+	}
+
+	@Test
+	public void reasonerDefaultInfersOWLTypes() {
+		loadModelDefaults();
+		assertTrue("The default reasoner should infer rdfs:Resource types",
+			getTypeURIs(URI_NFORCE).contains(RDFS.Resource.getURI()));
+	}
+
+	@Test
+	public void singleInferenceLayerSkipsOWLTypes() throws EolModelLoadingException {
+		this.model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, OWL_DEMO_DATAMODEL);
+		props.put(RDFModel.PROPERTY_SCHEMA_URIS, OWL_DEMO_SCHEMAMODEL);
+		props.put(RDFModel.PROPERTY_SINGLE_INFERENCE_LAYER, "true");
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+
+		assertTrue(model.isSingleInferenceLayer());
+		assertTrue("A single inference layer should still infer types from the range of eg:motherBoard",
+			getTypeURIs(URI_NFORCE).contains(URI_MOTHERBOARD));
+	}
+
+	@Test
+	public void unprefixedInferredPredicates() {
+		loadModelDefaults();
+		assertTrue("Properties declared in the schema should be indexed",
+			model.getPredicatesByLocalName("hasComponent").stream().anyMatch(p -> p.getURI().equals("urn:x-hp:eg/hasComponent")));
+
+		RDFResource element = model.getElementById(URI_WHITEBOX);
+		Collection<?> components = (Collection<?>) element.getProperty("hasComponent", context);
+		assertTrue("Values of the super-property should be inferred from eg:motherBoard",
+			components.containsAll((Collection<?>) element.getProperty("motherBoard", context)));
+
+		assertTrue("sameAs is only used in inferred statements", model.getPredicatesByLocalName("sameAs").isEmpty());
+		Collection<?> sameAs = (Collection<?>) element.getProperty("sameAs", context);
+		assertFalse("Predicates only used in inferred statements should still be found", sameAs.isEmpty());
+	}
+
+	@Test
+	public void reasonerNoneDoesNotInferTypes() throws EolModelLoadingException {
+		loadModel(OWL_DEMO_DATAMODEL, OWL_DEMO_SCHEMAMODEL, LANGUAGE_PREFERENCE_EN_STRING, ReasonerType.NONE.getId());
+		assertEquals(ReasonerType.NONE, model.getReasonerType());
+		assertFalse("Without a reasoner, the range of eg:motherBoard should not be used to infer types",
+			getTypeURIs(URI_NFORCE).contains(URI_MOTHERBOARD));
+	}
+
+	@Test
+	public void reasonerRDFSInfersTypesFromRange() throws EolModelLoadingException {
+		loadModel(OWL_DEMO_DATAMODEL, OWL_DEMO_SCHEMAMODEL, LANGUAGE_PREFERENCE_EN_STRING, ReasonerType.RDFS.getId());
+		assertEquals(ReasonerType.RDFS, model.getReasonerType());
+		assertTrue("The RDFS reasoner should use the range of eg:motherBoard to infer types",
+			getTypeURIs(URI_NFORCE).contains(URI_MOTHERBOARD));
+	}
+
+	@Test
+	public void reasonerUnknownFailsLoading() {
+		assertThrows(EolModelLoadingException.class,
+			() -> loadModel(OWL_DEMO_DATAMODEL, OWL_DEMO_SCHEMAMODEL, LANGUAGE_PREFERENCE_EN_STRING, "unknown"));
+	}
+
 	// Functions not tests
 
+	protected Set<String> getTypeURIs(String elementURI) {
+		return model.getElementById(elementURI).getTypes().stream()
+			.map(RDFResource::getUri)
+			.collect(Collectors.toSet());
+	}
+
 	protected void loadModel(String dataModelUri, String schemaModelUri, String languagePreference) throws EolModelLoadingException {
+		loadModel(dataModelUri, schemaModelUri, languagePreference, null);
+	}
+
+	protected void loadModel(String dataModelUri, String schemaModelUri, String languagePreference, String reasoner) throws EolModelLoadingException {
 		this.model = new RDFModel();
 		StringProperties props = new StringProperties();
 		props.put(RDFModel.PROPERTY_DATA_URIS, dataModelUri);
 		props.put(RDFModel.PROPERTY_SCHEMA_URIS, schemaModelUri);
 		props.put(RDFModel.PROPERTY_LANGUAGE_PREFERENCE, languagePreference);
+		if (reasoner != null) {
+			props.put(RDFModel.PROPERTY_REASONER, reasoner);
+		}
 
 		// There is a known issue in the model required for tests
 		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
@@ -157,6 +157,36 @@ public class RDFModelPreferredLanguagesTest {
 		assertEquals("Should return untagged when language preference can't be matched",Collections.singleton(SPIDERMAN_NAME), names);
 	}
 
+	@Test
+	public void getSingleNameIsSingleValue() throws Exception {
+		setupModel(LANGUAGE_PREFERENCE_JA_STRING);
+		RDFResource res = (RDFResource) model.getElementById(SPIDERMAN_URI);
+		Collection<String> names = (Collection<String>) pGetter.invoke(res, "name", context);
+		assertEquals(Collections.singletonList(SPIDERMAN_NAME_JA), names);
+	}
+
+	@Test
+	public void changingPreferredLanguagesUpdatesValues() throws Exception {
+		setupModel(LANGUAGE_PREFERENCE_JA_STRING);
+		RDFResource res = (RDFResource) model.getElementById(SPIDERMAN_URI);
+		assertEquals(Collections.singletonList(SPIDERMAN_NAME_JA), pGetter.invoke(res, "name", context));
+
+		model.getLanguagePreference().clear();
+		model.getLanguagePreference().add("ru");
+		assertEquals(Collections.singletonList(SPIDERMAN_NAME_RU), pGetter.invoke(res, "name", context));
+
+		model.getLanguagePreference().clear();
+		assertEquals(SPIDERMAN_NAMES, new HashSet<>((Collection<String>) pGetter.invoke(res, "name", context)));
+	}
+
+	@Test
+	public void getResourcesIgnoresPreferredLanguage() throws Exception {
+		setupModel(LANGUAGE_PREFERENCE_JA_STRING);
+		RDFResource res = (RDFResource) model.getElementById(SPIDERMAN_URI);
+		Collection<RDFResource> enemies = (Collection<RDFResource>) pGetter.invoke(res, "enemyOf", context);
+		assertEquals("Resources should not be filtered out by the language preference", 1, enemies.size());
+	}
+
 	// JA preferred and available
 
 	@Test
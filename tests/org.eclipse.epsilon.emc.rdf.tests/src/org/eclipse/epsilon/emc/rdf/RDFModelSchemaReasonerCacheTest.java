@@ -0,0 +1,232 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.jena.query.Dataset;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache.BoundSchema;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelSchemaReasonerCacheTest {
+
+	private static final String OWL_DEMO_DATAMODEL = "resources/OWL/owlDemoData.ttl";
+	private static final String OWL_DEMO_SCHEMAMODEL = "resources/OWL/owlDemoSchema.ttl";
+
+	private static final String URI_NFORCE = "urn:x-hp:eg/nForce";
+	private static final String URI_MOTHERBOARD = "urn:x-hp:eg/MotherBoard";
+	private static final String URI_MARKER = "urn:x-hp:eg/Marker";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path schemaFile;
+
+	@Before
+	public void setup() throws IOException {
+		RDFSchemaReasonerCache.clear();
+		schemaFile = scratch.newFile("schema.ttl").toPath();
+		Files.copy(new File(OWL_DEMO_SCHEMAMODEL).toPath(), schemaFile, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@After
+	public void teardown() {
+		RDFSchemaReasonerCache.setMaxEntries(RDFSchemaReasonerCache.DEFAULT_MAX_ENTRIES);
+		RDFSchemaReasonerCache.clear();
+	}
+
+	@Test
+	public void bindingIsReused() throws Exception {
+		try (RDFModel first = loadModel(ReasonerType.OWL_MICRO);
+			 RDFModel second = loadModel(ReasonerType.OWL_MICRO)) {
+			assertEquals(1, RDFSchemaReasonerCache.size());
+			assertSame("The schema should not be loaded again", first.schemaModelSet, second.schemaModelSet);
+			assertTrue(getTypeURIs(second).contains(URI_MOTHERBOARD));
+			assertEquals(getTypeURIs(first), getTypeURIs(second));
+		}
+	}
+
+	@Test
+	public void reasonersHaveSeparateBindings() throws Exception {
+		try (RDFModel rdfs = loadModel(ReasonerType.RDFS);
+			 RDFModel micro = loadModel(ReasonerType.OWL_MICRO)) {
+			assertEquals(2, RDFSchemaReasonerCache.size());
+			assertNotSame(rdfs.schemaModelSet, micro.schemaModelSet);
+		}
+	}
+
+	@Test
+	public void changedSchemaIsBoundAgain() throws Exception {
+		try (RDFModel before = loadModel(ReasonerType.RDFS)) {
+			assertFalse(getTypeURIs(before).contains(URI_MARKER));
+
+			Files.writeString(schemaFile,
+				String.format("\n<%s> <http://www.w3.org/2000/01/rdf-schema#subClassOf> <%s> .\n", URI_MOTHERBOARD, URI_MARKER),
+				StandardOpenOption.APPEND);
+			Files.setLastModifiedTime(schemaFile, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+			try (RDFModel after = loadModel(ReasonerType.RDFS)) {
+				assertNotSame(before.schemaModelSet, after.schemaModelSet);
+				assertTrue(getTypeURIs(after).contains(URI_MARKER));
+			}
+		}
+		assertEquals("The outdated binding should have been replaced", 1, RDFSchemaReasonerCache.size());
+	}
+
+	@Test
+	public void bindingDoesNotBlockOtherSchemas() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<BoundSchema> slow = executor.submit(() -> bind("slow", () -> {
+				loading.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+			}));
+			assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+			// Binding another schema does not wait for the slow one
+			CompletableFuture<BoundSchema> other = CompletableFuture.supplyAsync(() -> {
+				try {
+					return bind("other", () -> {});
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			assertNotNull(other.get(10, TimeUnit.SECONDS));
+			assertFalse(slow.isDone());
+
+			release.countDown();
+			assertNotNull(slow.get(10, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void leastRecentlyUsedBindingIsEvicted() throws Exception {
+		RDFSchemaReasonerCache.setMaxEntries(2);
+		AtomicInteger loads = new AtomicInteger();
+		SchemaLoadHook loader = loads::incrementAndGet;
+
+		BoundSchema a = bind("a", loader);
+		bind("b", loader);
+		assertSame(a, bind("a", loader));
+		bind("c", loader);
+		assertEquals(3, loads.get());
+		assertEquals(2, RDFSchemaReasonerCache.size());
+
+		// "b" was the least recently used binding
+		assertSame(a, bind("a", loader));
+		bind("b", loader);
+		assertEquals(4, loads.get());
+
+		RDFSchemaReasonerCache.setMaxEntries(0);
+		assertEquals(0, RDFSchemaReasonerCache.size());
+	}
+
+	@Test
+	public void cachedBindingKeepsSchemaLeases() throws Exception {
+		// With no memory budget, shared graphs are evicted as soon as they are released
+		RDFSharedGraphCache graphCache = new RDFSharedGraphCache(0);
+		RDFDatasetLoader loader = new RDFDatasetLoader();
+		loader.setSharedGraphCache(graphCache);
+
+		try (BoundSchema bound = RDFSchemaReasonerCache.bind("a", List.of(schemaFile.toString()), ReasonerType.RDFS.getReasoner(), loader)) {
+			assertNotNull(bound.getReasoner());
+		}
+		assertEquals("The cached binding should keep its lease on the schema graph", 1, graphCache.size());
+
+		RDFSchemaReasonerCache.clear();
+		assertEquals("Dropping the binding should release the schema graph", 0, graphCache.size());
+	}
+
+	/**
+	 * Runs before the schema documents are loaded for a binding.
+	 */
+	@FunctionalInterface
+	private interface SchemaLoadHook {
+		void beforeLoad() throws IOException;
+	}
+
+	private BoundSchema bind(String settings, SchemaLoadHook hook) throws IOException {
+		RDFDatasetLoader loader = new RDFDatasetLoader() {
+			@Override
+			public Dataset loadNamed(Collection<String> uris) throws IOException {
+				hook.beforeLoad();
+				return super.loadNamed(uris);
+			}
+		};
+		return RDFSchemaReasonerCache.bind(settings, List.of(schemaFile.toString()), ReasonerType.RDFS.getReasoner(), loader);
+	}
+
+	private RDFModel loadModel(ReasonerType reasoner) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, OWL_DEMO_DATAMODEL);
+		props.put(RDFModel.PROPERTY_SCHEMA_URIS, schemaFile.toString());
+		props.put(RDFModel.PROPERTY_REASONER, reasoner.getId());
+
+		// There is a known issue in the model required for tests
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private Set<String> getTypeURIs(RDFModel model) {
+		return model.getElementById(URI_NFORCE).getTypes().stream()
+			.map(RDFResource::getUri)
+			.collect(Collectors.toSet());
+	}
+
+}
@@ -0,0 +1,217 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.shared.AddDeniedException;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.rdf.loading.RDFDatasetLoader;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.eclipse.epsilon.rdf.loading.RDFLoadCache;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache;
+import org.eclipse.epsilon.rdf.loading.RDFSharedGraphCache.Lease;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelSharedGraphCacheTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final String FOAF_RDF = "resources/foaf.rdf";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path spiderman;
+	private Path foaf;
+	private AtomicInteger parses;
+	private RDFLoadCache.Parser countingParser;
+
+	@Before
+	public void setup() throws IOException {
+		RDFSharedGraphCache.getInstance().clear();
+		spiderman = scratch.newFile("spiderman.ttl").toPath();
+		Files.copy(new File(SPIDERMAN_TTL).toPath(), spiderman, StandardCopyOption.REPLACE_EXISTING);
+		foaf = scratch.newFile("foaf.rdf").toPath();
+		Files.copy(new File(FOAF_RDF).toPath(), foaf, StandardCopyOption.REPLACE_EXISTING);
+
+		parses = new AtomicInteger();
+		countingParser = uri -> {
+			parses.incrementAndGet();
+			return RDFDataMgr.loadModel(uri);
+		};
+	}
+
+	@After
+	public void teardown() {
+		RDFSharedGraphCache.getInstance().clear();
+	}
+
+	@Test
+	public void modelsShareGraphs() throws Exception {
+		try (RDFModel first = loadModel(); RDFModel second = loadModel()) {
+			Graph firstGraph = first.dataModelSet.getNamedModel(spiderman.toString()).getGraph();
+			Graph secondGraph = second.dataModelSet.getNamedModel(spiderman.toString()).getGraph();
+			assertSame(firstGraph, secondGraph);
+			assertEquals(1, RDFSharedGraphCache.getInstance().size());
+			assertEquals(first.allContents().size(), second.allContents().size());
+		}
+	}
+
+	@Test
+	public void sharedGraphsAreReadOnly() throws Exception {
+		try (RDFModel model = loadModel()) {
+			Model data = model.dataModelSet.getNamedModel(spiderman.toString());
+			assertThrows(AddDeniedException.class,
+				() -> data.add(data.createResource("urn:a"), data.createProperty("urn:b"), "c"));
+		}
+	}
+
+	@Test
+	public void leasedGraphsAreReused() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		try (Lease first = cache.acquire(spiderman.toString(), countingParser);
+			 Lease second = cache.acquire(spiderman.toUri().toString(), countingParser)) {
+			assertSame(first.getGraph(), second.getGraph());
+			assertEquals(1, parses.get());
+		}
+	}
+
+	@Test
+	public void graphVariantsAreNotShared() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		RDFDatasetLoader plain = new RDFDatasetLoader();
+		RDFDatasetLoader compact = new RDFDatasetLoader();
+		compact.setCompactGraphs(true);
+		RDFDatasetLoader legacy = new RDFDatasetLoader();
+		legacy.setGraphImplementation(RDFGraphImplementation.LEGACY);
+
+		try (Lease lPlain = cache.acquire(spiderman.toString(), plain.getGraphVariant(), countingParser);
+			 Lease lCompact = cache.acquire(spiderman.toString(), compact.getGraphVariant(), countingParser);
+			 Lease lLegacy = cache.acquire(spiderman.toString(), legacy.getGraphVariant(), countingParser);
+			 Lease lPlainAgain = cache.acquire(spiderman.toString(), plain.getGraphVariant(), countingParser)) {
+			assertNotSame(lPlain.getGraph(), lCompact.getGraph());
+			assertNotSame(lPlain.getGraph(), lLegacy.getGraph());
+			assertSame(lPlain.getGraph(), lPlainAgain.getGraph());
+			assertEquals(3, parses.get());
+			assertEquals(3, cache.size());
+		}
+	}
+
+	@Test
+	public void changedFileIsParsedAgain() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		try (Lease first = cache.acquire(spiderman.toString(), countingParser)) {
+			Files.setLastModifiedTime(spiderman, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+			try (Lease second = cache.acquire(spiderman.toString(), countingParser)) {
+				assertNotSame(first.getGraph(), second.getGraph());
+				assertEquals(2, parses.get());
+				assertEquals(1, cache.size());
+			}
+		}
+	}
+
+	@Test
+	public void unusedGraphsAreEvicted() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		Lease lSpiderman = cache.acquire(spiderman.toString(), countingParser);
+		Lease lFoaf = cache.acquire(foaf.toString(), countingParser);
+		long spidermanSize = lSpiderman.getGraph().size() * RDFSharedGraphCache.ESTIMATED_BYTES_PER_TRIPLE;
+		long total = cache.getEstimatedMemoryUse();
+		assertEquals(2, cache.size());
+
+		// Graphs with leases are kept even if they exceed the budget
+		cache.setMemoryBudget(0);
+		assertEquals(2, cache.size());
+		lSpiderman.close();
+		lFoaf.close();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getEstimatedMemoryUse());
+
+		// Using the spiderman graph again makes the FOAF graph the least recently used
+		cache.setMemoryBudget(Long.MAX_VALUE);
+		cache.acquire(spiderman.toString(), countingParser).close();
+		cache.acquire(foaf.toString(), countingParser).close();
+		Lease again = cache.acquire(spiderman.toString(), countingParser);
+		again.close();
+		assertEquals(4, parses.get());
+
+		cache.setMemoryBudget(total - 1);
+		assertEquals(1, cache.size());
+		assertEquals(spidermanSize, cache.getEstimatedMemoryUse());
+		try (Lease kept = cache.acquire(spiderman.toString(), countingParser)) {
+			assertSame(again.getGraph(), kept.getGraph());
+		}
+		assertEquals(4, parses.get());
+
+		// Releasing a lease twice has no effect
+		again.close();
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void failedParseIsNotCached() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		assertThrows(IOException.class, () -> cache.acquire(spiderman.toString(), uri -> {
+			throw new IOException("Simulated failure");
+		}));
+		assertEquals(0, cache.size());
+
+		try (Lease lease = cache.acquire(spiderman.toString(), countingParser)) {
+			assertTrue(lease.getGraph().size() > 0);
+		}
+	}
+
+	@Test
+	public void remoteDocumentsAreNotShared() throws IOException {
+		RDFSharedGraphCache cache = new RDFSharedGraphCache(Long.MAX_VALUE);
+		assertNull(cache.acquire("http://example.org/remote.ttl", uri -> {
+			throw new AssertionError("Remote documents should not be parsed by the cache");
+		}));
+		assertNull(cache.acquire(scratch.getRoot().toPath().resolve("missing.ttl").toString(),
+			uri -> GraphFactory.makeDefaultModel()));
+	}
+
+	private RDFModel loadModel() throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, spiderman.toString());
+		props.put(RDFModel.PROPERTY_SHARED_GRAPH_CACHE, "true");
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+}
@@ -0,0 +1,239 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.emc.rdf.RDFModel.StorageType;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.rdf.loading.RDFSnapshotGraph;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelSnapshotStorageTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman-multiLang.ttl";
+	private static final String OWL_DEMO_DATAMODEL = "resources/OWL/owlDemoData.ttl";
+	private static final String OWL_DEMO_VALID_DATAMODEL = "resources/OWL/owlDemoData_valid.ttl";
+	private static final String OWL_DEMO_SCHEMAMODEL = "resources/OWL/owlDemoSchema.ttl";
+
+	private static final String URI_NFORCE = "urn:x-hp:eg/nForce";
+	private static final String URI_MOTHERBOARD = "urn:x-hp:eg/MotherBoard";
+	private static final String URI_MARKER = "urn:x-hp:eg/Marker";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private Path dataFile;
+	private Path schemaFile;
+	private Path snapshotFile;
+
+	@Before
+	public void setup() throws IOException {
+		dataFile = scratch.newFile("data.ttl").toPath();
+		schemaFile = scratch.newFile("schema.ttl").toPath();
+		Files.copy(new File(OWL_DEMO_DATAMODEL).toPath(), dataFile, StandardCopyOption.REPLACE_EXISTING);
+		Files.copy(new File(OWL_DEMO_SCHEMAMODEL).toPath(), schemaFile, StandardCopyOption.REPLACE_EXISTING);
+		snapshotFile = scratch.getRoot().toPath().resolve("snapshots").resolve("model.snapshot");
+	}
+
+	@Test
+	public void snapshotMatchesSourceGraph() throws IOException {
+		Graph source = RDFDataMgr.loadGraph(SPIDERMAN_TTL);
+		Node s = NodeFactory.createBlankNode(), p = NodeFactory.createURI("urn:x-test:p");
+		source.add(s, p, NodeFactory.createLiteralDT("42", XSDDatatype.XSDinteger));
+		source.add(s, p, NodeFactory.createLiteralDT("x", TypeMapper.getInstance().getSafeTypeByName("urn:x-test:custom")));
+		source.add(s, p, NodeFactory.createLiteralDirLang("مرحبا", "ar", "rtl"));
+		RDFSnapshotGraph.write(source, snapshotFile, "label");
+
+		RDFSnapshotGraph snapshot = RDFSnapshotGraph.open(snapshotFile);
+		assertEquals("label", snapshot.getLabel());
+		assertEquals(source.size(), snapshot.size());
+		assertTrue(snapshot.isIsomorphicWith(source));
+		assertEquals(source.getPrefixMapping().getNsPrefixMap(), snapshot.getPrefixMapping().getNsPrefixMap());
+
+		// Every triple should be found through every combination of concrete and wildcard positions
+		for (Triple t : source.find().toList()) {
+			for (int mask = 0; mask < 8; mask++) {
+				Node ms = (mask & 4) != 0 ? t.getSubject() : Node.ANY;
+				Node mp = (mask & 2) != 0 ? t.getPredicate() : Node.ANY;
+				Node mo = (mask & 1) != 0 ? t.getObject() : Node.ANY;
+				assertEquals(new HashSet<>(source.find(ms, mp, mo).toList()), new HashSet<>(snapshot.find(ms, mp, mo).toList()));
+			}
+		}
+		assertFalse(snapshot.contains(NodeFactory.createURI("urn:x-test:unknown"), Node.ANY, Node.ANY));
+	}
+
+	@Test
+	public void openRejectsOtherFiles() throws IOException {
+		Files.createDirectories(snapshotFile.getParent());
+		Files.writeString(snapshotFile, "not a snapshot");
+		assertThrows(IOException.class, () -> RDFSnapshotGraph.open(snapshotFile));
+
+		Files.write(snapshotFile, new byte[0]);
+		assertThrows(IOException.class, () -> RDFSnapshotGraph.open(snapshotFile));
+	}
+
+	@Test
+	public void snapshotIncludesInference() throws Exception {
+		try (RDFModel model = loadModel(ReasonerType.RDFS)) {
+			assertTrue(model.model.getBaseModel().getGraph() instanceof RDFSnapshotGraph);
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MOTHERBOARD));
+		}
+		assertTrue(Files.isRegularFile(snapshotFile));
+	}
+
+	@Test
+	public void snapshotIsReused() throws Exception {
+		loadModel(ReasonerType.RDFS).close();
+
+		// Add a marker to the snapshot, keeping its label: if it is reused, we will see it
+		RDFSnapshotGraph snapshot = RDFSnapshotGraph.open(snapshotFile);
+		Graph marked = GraphFactory.createDefaultGraph();
+		snapshot.find().forEachRemaining(marked::add);
+		marked.add(NodeFactory.createURI(URI_NFORCE), RDF.type.asNode(), NodeFactory.createURI(URI_MARKER));
+		RDFSnapshotGraph.write(marked, snapshotFile, snapshot.getLabel());
+
+		try (RDFModel model = loadModel(ReasonerType.RDFS)) {
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MARKER));
+		}
+	}
+
+	@Test
+	public void changesInvalidateSnapshot() throws Exception {
+		loadModel(ReasonerType.RDFS).close();
+		String label = RDFSnapshotGraph.open(snapshotFile).getLabel();
+
+		// A different reasoner needs a different snapshot
+		try (RDFModel model = loadModel(ReasonerType.NONE)) {
+			assertFalse(getTypeURIs(model, URI_NFORCE).contains(URI_MOTHERBOARD));
+		}
+		String noReasonerLabel = RDFSnapshotGraph.open(snapshotFile).getLabel();
+		assertFalse(label.equals(noReasonerLabel));
+
+		// So does different data
+		Files.writeString(dataFile, "\n<urn:x-hp:eg/extra> a <urn:x-hp:eg/Computer> .\n", StandardOpenOption.APPEND);
+		try (RDFModel model = loadModel(ReasonerType.NONE)) {
+			assertNotNull(model.getElementById("urn:x-hp:eg/extra"));
+		}
+		assertFalse(noReasonerLabel.equals(RDFSnapshotGraph.open(snapshotFile).getLabel()));
+	}
+
+	@Test
+	public void changedImportsInvalidateSnapshot() throws Exception {
+		Path importedFile = scratch.newFile("imported.ttl").toPath();
+		Files.writeString(importedFile, "<" + URI_NFORCE + "> a <" + URI_MARKER + "> .\n");
+		Files.writeString(dataFile, String.format("%n<urn:x-hp:eg/data> a <http://www.w3.org/2002/07/owl#Ontology> ;"
+			+ " <http://www.w3.org/2002/07/owl#imports> <%s> .%n", importedFile.toUri()), StandardOpenOption.APPEND);
+
+		loadModel(ReasonerType.NONE).close();
+		String label = RDFSnapshotGraph.open(snapshotFile).getLabel();
+		assertTrue("The imported document should be described in the label", label.contains(importedFile.toUri().toString()));
+		try (RDFModel model = loadModel(ReasonerType.NONE)) {
+			assertTrue(getTypeURIs(model, URI_NFORCE).contains(URI_MARKER));
+		}
+		assertEquals("The snapshot should be reused", label, RDFSnapshotGraph.open(snapshotFile).getLabel());
+
+		// The data and schema are the same, but the snapshot is out of date
+		Files.writeString(importedFile, "<" + URI_NFORCE + "> a <" + URI_MARKER + "2> .\n");
+		try (RDFModel model = loadModel(ReasonerType.NONE)) {
+			Set<String> types = getTypeURIs(model, URI_NFORCE);
+			assertFalse("The stale snapshot should not be used", types.contains(URI_MARKER));
+			assertTrue(types.contains(URI_MARKER + "2"));
+		}
+	}
+
+	@Test
+	public void snapshotIsValidatedOnceWhenWritten() throws Exception {
+		Files.copy(new File(OWL_DEMO_VALID_DATAMODEL).toPath(), dataFile, StandardCopyOption.REPLACE_EXISTING);
+		try (RDFModel model = loadModel(ReasonerType.OWL_FULL, ValidationMode.JENA_VALID)) {
+			assertTrue(model.getReportForLastValidation(), model.getReportForLastValidation().contains("The loaded model is valid"));
+		}
+		try (RDFModel model = loadModel(ReasonerType.OWL_FULL, ValidationMode.JENA_VALID)) {
+			assertTrue(model.getReportForLastValidation(), model.getReportForLastValidation().contains("passed validation when it was written"));
+		}
+
+		// A snapshot written without validation is not reused with validation
+		String label = RDFSnapshotGraph.open(snapshotFile).getLabel();
+		loadModel(ReasonerType.OWL_FULL, ValidationMode.NONE).close();
+		assertFalse(label.equals(RDFSnapshotGraph.open(snapshotFile).getLabel()));
+	}
+
+	@Test
+	public void invalidSnapshotIsNotWritten() throws Exception {
+		// The demo data has a known issue which is reported by the OWL reasoner
+		assertThrows(EolModelLoadingException.class, () -> loadModel(ReasonerType.OWL_FULL, ValidationMode.JENA_CLEAN));
+		assertFalse(Files.exists(snapshotFile));
+	}
+
+	@Test
+	public void snapshotCannotBeStored() throws Exception {
+		try (RDFModel model = loadModel(ReasonerType.NONE)) {
+			assertFalse(model.store());
+			assertFalse(model.store(scratch.newFolder("stored").toString()));
+		}
+	}
+
+	private RDFModel loadModel(ReasonerType reasoner) throws Exception {
+		// There is a known issue in the model required for tests
+		return loadModel(reasoner, ValidationMode.NONE);
+	}
+
+	private RDFModel loadModel(ReasonerType reasoner, ValidationMode validation) throws Exception {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, dataFile.toString());
+		props.put(RDFModel.PROPERTY_SCHEMA_URIS, schemaFile.toString());
+		props.put(RDFModel.PROPERTY_REASONER, reasoner.getId());
+		props.put(RDFModel.PROPERTY_STORAGE, StorageType.SNAPSHOT.getId());
+		props.put(RDFModel.PROPERTY_SNAPSHOT_LOCATION, snapshotFile.toString());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, validation.getId());
+		model.load(props);
+		return model;
+	}
+
+	private Set<String> getTypeURIs(RDFModel model, String elementURI) {
+		return model.getElementById(elementURI).getTypes().stream()
+			.map(RDFResource::getUri)
+			.collect(Collectors.toSet());
+	}
+
+}
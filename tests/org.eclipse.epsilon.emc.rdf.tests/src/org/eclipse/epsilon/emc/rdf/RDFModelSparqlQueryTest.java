@@ -0,0 +1,179 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.eol.EolModule;
+import org.eclipse.epsilon.eol.types.EolTuple;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RDFModelSparqlQueryTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final String NUMBERS_TTL = "resources/sparql-numbers.ttl";
+	private static final String SPIDERMAN_URI = "http://example.org/#spiderman";
+	private static final String GOBLIN_URI = "http://example.org/#green-goblin";
+
+	private RDFModel model;
+
+	@Before
+	public void setup() throws Exception {
+		model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_NAME, "Model");
+		props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL);
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+	}
+
+	@After
+	public void teardown() {
+		model.dispose();
+	}
+
+	@Test
+	public void selectWithModelPrefixes() {
+		List<EolTuple> results = model.query("SELECT ?p ?name WHERE { ?p a foaf:Person ; foaf:name ?name }");
+		assertEquals(3, results.size());
+
+		Set<Object> names = new HashSet<>();
+		for (EolTuple result : results) {
+			assertTrue(result.get("p") instanceof RDFResource);
+			names.add(result.get("name"));
+		}
+		assertEquals(Set.of("Green Goblin", "Spiderman", "Человек-паук"), names);
+	}
+
+	@Test
+	public void selectRawLiterals() {
+		List<EolTuple> results = model.query(
+			"SELECT ?name_literal WHERE { ?p foaf:name ?name_literal FILTER(lang(?name_literal) = 'ru') }");
+		assertEquals(1, results.size());
+
+		RDFLiteral literal = (RDFLiteral) results.get(0).get("name_literal");
+		assertEquals("ru", literal.getLanguage());
+		assertEquals("Человек-паук", literal.getValue());
+	}
+
+	@Test
+	public void selectUnbound() {
+		List<EolTuple> results = model.query(
+			"SELECT ?p ?friend WHERE { ?p foaf:name 'Green Goblin' OPTIONAL { ?p foaf:knows ?friend } }");
+		assertEquals(1, results.size());
+		assertSame(model.getElementById(GOBLIN_URI), results.get(0).get("p"));
+		assertNull(results.get(0).get("friend"));
+	}
+
+	@Test
+	public void selectWithBindings() {
+		String query = "SELECT ?enemy WHERE { ?p rel:enemyOf ?enemy }";
+		List<EolTuple> results = model.query(query, Map.of("p", model.getElementById(SPIDERMAN_URI)));
+		assertEquals(1, results.size());
+		assertSame(model.getElementById(GOBLIN_URI), results.get(0).get("enemy"));
+
+		results = model.query("SELECT ?p WHERE { ?p foaf:name ?name }", Map.of("?name", "Spiderman"));
+		assertEquals(1, results.size());
+		assertSame(model.getElementById(SPIDERMAN_URI), results.get(0).get("p"));
+	}
+
+	@Test
+	public void selectWithNumericBindings() throws Exception {
+		try (RDFModel numbers = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, NUMBERS_TTL);
+			props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+			props.put(RDFModel.PROPERTY_PREFIXES, "eg=http://example.org/#");
+			numbers.load(props);
+
+			String byAge = "SELECT ?p WHERE { ?p eg:age ?age }";
+			String byHeight = "SELECT ?p WHERE { ?p eg:height ?height }";
+			for (Object age : List.of(18, 18L, (short) 18, BigInteger.valueOf(18))) {
+				List<EolTuple> results = numbers.query(byAge, Map.of("age", age));
+				assertEquals("Integer bindings should match xsd:integer literals: " + age.getClass(), 1, results.size());
+				assertEquals(SPIDERMAN_URI, ((RDFResource) results.get(0).get("p")).getUri());
+			}
+			for (Object height : List.of(1.78, 1.78f, new BigDecimal("1.78"))) {
+				List<EolTuple> results = numbers.query(byHeight, Map.of("height", height));
+				assertEquals("Real bindings should match xsd:decimal literals: " + height.getClass(), 1, results.size());
+				assertEquals(SPIDERMAN_URI, ((RDFResource) results.get(0).get("p")).getUri());
+			}
+			assertEquals(1, numbers.query(byHeight, Map.of("height", 1.8)).size());
+		}
+	}
+
+	@Test
+	public void construct() {
+		List<EolTuple> results = model.construct(
+			"CONSTRUCT { ?b rel:enemyOf ?a } WHERE { ?a rel:enemyOf ?b }",
+			Map.of("a", model.getElementById(SPIDERMAN_URI)));
+		assertEquals(1, results.size());
+
+		EolTuple result = results.get(0);
+		assertSame(model.getElementById(GOBLIN_URI), result.get("subject"));
+		assertEquals("http://www.perceive.net/schemas/relationship/enemyOf", ((RDFResource) result.get("predicate")).getUri());
+		assertSame(model.getElementById(SPIDERMAN_URI), result.get("object"));
+	}
+
+	@Test
+	public void wrongQueryType() {
+		assertThrows(IllegalArgumentException.class, () -> model.query("CONSTRUCT WHERE { ?s ?p ?o }"));
+		assertThrows(IllegalArgumentException.class, () -> model.construct("SELECT * WHERE { ?s ?p ?o }"));
+	}
+
+	@Test
+	public void resultsAreCached() throws Exception {
+		String query = "SELECT ?name WHERE { ?p foaf:name ?name }";
+		List<EolTuple> results = model.query(query);
+		assertEquals(1, model.queryResultCache.size());
+
+		// Changing the returned tuples does not change the cached ones
+		results.get(0).put("name", "Changed");
+		results.clear();
+		assertEquals(3, model.query(query).size());
+		assertEquals(1, model.queryResultCache.size());
+
+		model.query(query, Map.of("p", model.getElementById(SPIDERMAN_URI)));
+		model.construct("CONSTRUCT WHERE { ?p foaf:name ?name }");
+		assertEquals(3, model.queryResultCache.size());
+
+		model.load();
+		assertEquals(0, model.queryResultCache.size());
+		assertEquals(Collections.emptyList(), model.query(query, Map.of("name", "Venom")));
+	}
+
+	@Test
+	public void queryFromEOL() throws Exception {
+		EolModule module = new EolModule();
+		module.getContext().getModelRepository().addModel(model);
+		module.parse("return Model.query('SELECT ?p WHERE { ?p foaf:name ?name }', Map { 'name' = 'Spiderman' }).first().p;");
+		assertSame(model.getElementById(SPIDERMAN_URI), module.execute());
+	}
+
+}
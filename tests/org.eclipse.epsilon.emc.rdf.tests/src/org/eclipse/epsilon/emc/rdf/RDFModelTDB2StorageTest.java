@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.jena.dboe.base.file.Location;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.tdb2.sys.DatabaseOps;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.StorageType;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RDFModelTDB2StorageTest {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final Set<String> ALL_NAMES = Set.of("Green Goblin", "Spiderman", "Человек-паук");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@Test
+	public void loadIntoNewDatabase() throws Exception {
+		File dbFolder = new File(scratch.getRoot(), "db");
+		try (RDFModel model = loadTDB2Model(SPIDERMAN_TTL, dbFolder)) {
+			assertEquals(StorageType.TDB2, model.getStorageType());
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+		assertTrue("The TDB2 database should have been created", DatabaseOps.findStorageLocation(Location.create(dbFolder.getPath())) != null);
+	}
+
+	@Test
+	public void reloadReusesDatabase() throws Exception {
+		File fCopy = scratch.newFile("spiderman.ttl");
+		Files.copy(new File(SPIDERMAN_TTL).toPath(), fCopy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		File dbFolder = new File(scratch.getRoot(), "db");
+
+		try (RDFModel model = loadTDB2Model(fCopy.getPath(), dbFolder)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+
+		// Once loaded, the document is read from the database and not parsed again
+		assertTrue(fCopy.delete());
+		try (RDFModel model = loadTDB2Model(fCopy.getPath(), dbFolder)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+	}
+
+	@Test
+	public void reloadChangedDocument() throws Exception {
+		File fCopy = scratch.newFile("spiderman.ttl");
+		Files.copy(new File(SPIDERMAN_TTL).toPath(), fCopy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		File dbFolder = new File(scratch.getRoot(), "db");
+
+		try (RDFModel model = loadTDB2Model(fCopy.getPath(), dbFolder)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+
+		// Changed documents are loaded again, replacing their previous statements
+		String changed = Files.readString(fCopy.toPath()).replace("Green Goblin", "Norman Osborn");
+		Files.writeString(fCopy.toPath(), changed);
+		fCopy.setLastModified(fCopy.lastModified() + 10_000);
+		try (RDFModel model = loadTDB2Model(fCopy.getPath(), dbFolder)) {
+			assertEquals(Set.of("Norman Osborn", "Spiderman", "Человек-паук"), getAllPersonNames(model));
+		}
+	}
+
+	@Test
+	public void otherThreadsFailFast() throws Exception {
+		File dbFolder = new File(scratch.getRoot(), "db");
+		try (RDFModel model = loadTDB2Model(SPIDERMAN_TTL, dbFolder)) {
+			AtomicReference<Throwable> error = new AtomicReference<>();
+			Thread other = new Thread(() -> {
+				try {
+					getAllPersonNames(model);
+				} catch (Throwable t) {
+					error.set(t);
+				}
+			});
+			other.start();
+			other.join();
+
+			assertTrue("Reading from another thread should fail with a clear message",
+				error.get() instanceof IllegalStateException
+				&& error.get().getMessage().contains("can only be read from the thread that loaded it"));
+
+			// The loading thread can still read the model
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+	}
+
+	@Test
+	public void onlyRequestedGraphsAreVisible() throws Exception {
+		File dbFolder = new File(scratch.getRoot(), "db");
+		try (RDFModel model = loadTDB2Model(SPIDERMAN_TTL, dbFolder)) {
+			assertEquals(ALL_NAMES, getAllPersonNames(model));
+		}
+
+		Dataset dataset = TDB2Factory.connectDataset(dbFolder.getPath());
+		assertTrue(dataset.calculateRead(() -> dataset.containsNamedModel(SPIDERMAN_TTL)));
+
+		try (RDFModel model = loadTDB2Model("resources/OWL/owlDemoData.ttl", dbFolder)) {
+			assertFalse("Graphs loaded by previous runs should not be part of the model",
+				model.hasType("foaf:Person"));
+		}
+	}
+
+	@Test
+	public void missingLocation() {
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL);
+			props.put(RDFModel.PROPERTY_STORAGE, StorageType.TDB2.getId());
+			model.load(props);
+			fail("An exception should have been thrown for the missing TDB2 location");
+		} catch (EolModelLoadingException ex) {
+			assertTrue(ex.getMessage().contains("TDB2 storage requires a database location"));
+		}
+	}
+
+	private RDFModel loadTDB2Model(String dataUri, File dbFolder) throws EolModelLoadingException {
+		RDFModel model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, dataUri);
+		props.put(RDFModel.PROPERTY_STORAGE, StorageType.TDB2.getId());
+		props.put(RDFModel.PROPERTY_TDB_LOCATION, dbFolder.getPath());
+		props.put(RDFModel.PROPERTY_REASONER, RDFModel.ReasonerType.NONE.getId());
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+		model.load(props);
+		return model;
+	}
+
+	private Set<Object> getAllPersonNames(RDFModel model) throws Exception {
+		EolContext context = new EolContext();
+		Set<Object> names = new HashSet<>();
+		for (RDFModelElement elem : model.getAllOfType("foaf:Person")) {
+			names.addAll((Collection<?>) ((RDFResource) elem).getProperty("foaf:name", context));
+		}
+		return names;
+	}
+
+}
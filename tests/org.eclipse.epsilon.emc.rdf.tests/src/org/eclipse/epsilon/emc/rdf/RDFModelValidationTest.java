@@ -12,15 +12,21 @@
  ********************************************************************************/
 package org.eclipse.epsilon.emc.rdf;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode.RDFModelValidationReport;
 import org.junit.Test;
 
 public class RDFModelValidationTest {
@@ -121,6 +127,45 @@ public class RDFModelValidationTest {
 		}
 	}
 	
+	// The warnings in the unclean model are only found by running the OWL rules over the inferred statements
+	@Test
+	public void loadUncleanModelSingleInferenceLayer() throws EolModelLoadingException {
+		this.model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_UNCLEAN);
+		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, JENA_CLEAN.getId());
+		props.put(RDFModel.PROPERTY_SINGLE_INFERENCE_LAYER, "true");
+		model.load(props);
+		assertTrue(model.getReportForLastValidation().contains("valid and clean"));
+	}
+
+	@Test
+	public void loadWithoutReasonerRejectsValidation() {
+		try {
+			loadModelDataOnly(SPIDERMAN_UNCLEAN, JENA_CLEAN, ReasonerType.NONE);
+			fail("An exception was expected");
+		} catch (EolModelLoadingException e) {
+			assertTrue("Validation should not be accepted without a reasoner",
+				e.getMessage().contains("requires a reasoner"));
+		}
+	}
+
+	@Test
+	public void loadWithoutReasonerDisablesDefaultValidation() throws EolModelLoadingException {
+		this.model = new RDFModel();
+		StringProperties props = new StringProperties();
+		props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_UNCLEAN);
+		props.put(RDFModel.PROPERTY_REASONER, ReasonerType.NONE.getId());
+		model.load(props);
+		assertEquals(NONE, model.getValidationMode());
+	}
+
+	@Test
+	public void validateWithoutReasonerFails() {
+		RDFModelValidationReport report = JENA_VALID.validate(ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM));
+		assertFalse("A model that was never checked should not be reported as valid", report.isValid());
+	}
+
 	// Functions not tests
 
 	protected void loadModelDataAndSchema(String dataModelUri, ValidationMode mode) throws EolModelLoadingException {
@@ -134,11 +179,16 @@ public class RDFModelValidationTest {
 	}
 	
 	protected void loadModelDataOnly(String dataModelUri, ValidationMode mode) throws EolModelLoadingException {
+		loadModelDataOnly(dataModelUri, mode, RDFModel.REASONER_DEFAULT);
+	}
+
+	protected void loadModelDataOnly(String dataModelUri, ValidationMode mode, ReasonerType reasoner) throws EolModelLoadingException {
 		this.model = new RDFModel();
 		StringProperties props = new StringProperties();
 		props.put(RDFModel.PROPERTY_DATA_URIS, dataModelUri);
 		props.put(RDFModel.PROPERTY_LANGUAGE_PREFERENCE, LANGUAGE_PREFERENCE_EN_STRING);
 		props.put(RDFModel.PROPERTY_VALIDATE_MODEL, mode.getId());
+		props.put(RDFModel.PROPERTY_REASONER, reasoner.getId());
 		model.load(props);
 	}
 
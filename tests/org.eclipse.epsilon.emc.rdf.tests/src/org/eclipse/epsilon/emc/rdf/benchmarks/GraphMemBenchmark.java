@@ -0,0 +1,170 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.eclipse.epsilon.rdf.loading.RDFCompactGraph;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+
+/**
+ * <p>
+ * Compares the heap used per triple and the latency of {@code find} for each
+ * {@link RDFGraphImplementation}, and for the {@link RDFCompactGraph} used by
+ * the {@code compact} storage type, on synthetic graphs of increasing size.
+ * Each subject has about 10 triples, over 20 predicates, and a third of the
+ * objects are literals from a pool of 1000 values.
+ * </p>
+ *
+ * <p>
+ * This is not a JUnit test: run it as a Java application from the root of
+ * the tests project. The optional first argument is a comma-separated list
+ * of graph sizes in triples. The largest default size (50M triples) needs a
+ * maximum heap of at least 24GB: graphs which do not fit are reported as
+ * {@code OOM}. The reported heap includes the terms held by the graph.
+ * </p>
+ */
+public class GraphMemBenchmark {
+
+	private static final int PREDICATES = 20;
+	private static final int LITERALS = 1000;
+	private static final int TRIPLES_PER_SUBJECT = 10;
+
+	private static final int FINDS_PER_PATTERN = 100_000;
+	private static final String[] PATTERNS = { "S??", "SP?", "?PO", "??O" };
+
+	public static void main(String[] args) throws Exception {
+		String sSizes = args.length > 0 ? args[0] : "100000,1000000,10000000,50000000";
+
+		StringBuilder header = new StringBuilder("triples,implementation,loadMillis,bytesPerTriple");
+		for (String pattern : PATTERNS) {
+			header.append(',').append(pattern).append("Micros");
+		}
+		System.out.println(header);
+
+		for (String sSize : sSizes.split(",")) {
+			int size = Integer.parseInt(sSize.strip());
+			for (RDFGraphImplementation impl : RDFGraphImplementation.values()) {
+				runBenchmark(size, impl.getId(), () -> {
+					Graph graph = impl.createGraph();
+					generate(size, graph::add);
+					return graph;
+				});
+			}
+			runBenchmark(size, "compact", () -> {
+				RDFCompactGraph.Builder builder = new RDFCompactGraph.Builder();
+				generate(size, builder::add);
+				return builder.build();
+			});
+		}
+	}
+
+	protected static void runBenchmark(int size, String name, Supplier<Graph> factory) {
+		StringBuilder row = new StringBuilder();
+		row.append(size).append(',').append(name);
+
+		Graph graph;
+		try {
+			long heapBefore = usedHeap();
+			long startLoad = System.nanoTime();
+			graph = factory.get();
+			long loadNanos = System.nanoTime() - startLoad;
+			long heapAfter = usedHeap();
+			row.append(String.format(",%d,%.1f", loadNanos / 1_000_000, (heapAfter - heapBefore) / (double) graph.size()));
+		} catch (OutOfMemoryError err) {
+			System.out.println(row.append(",OOM"));
+			return;
+		}
+
+		int subjects = Math.max(1, size / TRIPLES_PER_SUBJECT);
+		for (String pattern : PATTERNS) {
+			// The first round warms up the JIT compiler, the second one is measured
+			runFinds(graph, pattern, subjects);
+			long startFinds = System.nanoTime();
+			runFinds(graph, pattern, subjects);
+			long findNanos = System.nanoTime() - startFinds;
+			row.append(String.format(",%.3f", findNanos / 1_000.0 / FINDS_PER_PATTERN));
+		}
+		System.out.println(row);
+	}
+
+	/**
+	 * Runs the finds for a pattern, iterating over all their results. The terms
+	 * are chosen randomly with a fixed seed, so all graphs see the same finds.
+	 */
+	protected static long runFinds(Graph graph, String pattern, int subjects) {
+		SplittableRandom random = new SplittableRandom(pattern.hashCode());
+		long results = 0;
+		for (int i = 0; i < FINDS_PER_PATTERN; i++) {
+			Node s = pattern.charAt(0) == 'S' ? subject(random.nextInt(subjects)) : Node.ANY;
+			Node p = pattern.charAt(1) == 'P' ? predicate(random.nextInt(PREDICATES)) : Node.ANY;
+			Node o = pattern.charAt(2) == 'O' ? object(random, subjects) : Node.ANY;
+			ExtendedIterator<Triple> it = graph.find(s, p, o);
+			try {
+				while (it.hasNext()) {
+					it.next();
+					results++;
+				}
+			} finally {
+				it.close();
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Produces the triples of the synthetic graph with the given size. Some
+	 * triples may be repeated, so the graph may be slightly smaller.
+	 */
+	protected static void generate(int size, Consumer<Triple> sink) {
+		SplittableRandom random = new SplittableRandom(42);
+		int subjects = Math.max(1, size / TRIPLES_PER_SUBJECT);
+		for (int i = 0; i < size; i++) {
+			sink.accept(Triple.create(
+				subject(i / TRIPLES_PER_SUBJECT),
+				predicate(random.nextInt(PREDICATES)),
+				object(random, subjects)));
+		}
+	}
+
+	private static Node subject(int i) {
+		return NodeFactory.createURI("urn:x-bench:s" + i);
+	}
+
+	private static Node predicate(int i) {
+		return NodeFactory.createURI("urn:x-bench:p" + i);
+	}
+
+	private static Node object(SplittableRandom random, int subjects) {
+		if (random.nextInt(3) == 0) {
+			return NodeFactory.createLiteralString("v" + random.nextInt(LITERALS));
+		}
+		return subject(random.nextInt(subjects));
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+}
@@ -0,0 +1,121 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.emc.rdf.RDFModelElement;
+import org.eclipse.epsilon.emc.rdf.RDFPropertyGetter;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.introspection.IPropertyGetter;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+
+/**
+ * <p>
+ * Compares the cost of property accesses through {@link RDFPropertyGetter},
+ * with and without its cache of the property names that are resolved through
+ * Java methods.
+ * </p>
+ *
+ * <p>
+ * This is not a JUnit test: run it as a Java application from the root of
+ * the tests project. The optional first argument is the number of measured
+ * rounds over all the elements of the model.
+ * </p>
+ *
+ * <p>
+ * The number of non-null values found in each measured run is reported, so
+ * both getters can be checked to agree. The counts of all runs (including
+ * the warmup) are added into a sink printed at the end, so the JIT cannot
+ * discard the accesses as dead code.
+ * </p>
+ */
+public class PropertyGetterBenchmark {
+
+	private static final String SPIDERMAN_TTL = "resources/spiderman.ttl";
+	private static final String[] PROPERTIES = { "uri", "name", "foaf:name", "rel:enemyOf", "name_literal" };
+
+	private static final int WARMUP_ROUNDS = 20_000;
+
+	/**
+	 * Property getter which always asks Java reflection first, as the
+	 * {@link RDFPropertyGetter} did before it cached the Java properties.
+	 */
+	private static class UncachedPropertyGetter extends RDFPropertyGetter {
+		public UncachedPropertyGetter(RDFModel model) {
+			super(model);
+		}
+
+		@Override
+		protected boolean isJavaProperty(Object object, String property, IEolContext context) {
+			return hasProperty(object, property, context);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, SPIDERMAN_TTL);
+			props.put(RDFModel.PROPERTY_REASONER, ReasonerType.NONE.getId());
+			props.put(RDFModel.PROPERTY_VALIDATE_MODEL, ValidationMode.NONE.getId());
+			model.load(props);
+
+			EolContext context = new EolContext();
+			context.setWarningStream(new PrintStream(new ByteArrayOutputStream()));
+			List<RDFModelElement> elements = new ArrayList<>(model.allContents());
+
+			IPropertyGetter uncached = new UncachedPropertyGetter(model);
+			IPropertyGetter cached = model.getPropertyGetter();
+
+			long sink = 0;
+			System.out.println("getter,rounds,accesses,nonNullValues,nanosPerAccess");
+			for (IPropertyGetter getter : new IPropertyGetter[] { uncached, cached, uncached, cached }) {
+				sink += run(getter, elements, context, WARMUP_ROUNDS);
+				long accesses = (long) rounds * elements.size() * PROPERTIES.length;
+				long start = System.nanoTime();
+				long nonNull = run(getter, elements, context, rounds);
+				long nanos = System.nanoTime() - start;
+				sink += nonNull;
+
+				System.out.println(String.format("%s,%d,%d,%d,%.2f",
+					getter == cached ? "cached" : "uncached", rounds, accesses, nonNull, nanos / (double) accesses));
+			}
+			System.err.println("Sink: " + sink);
+		}
+	}
+
+	private static long run(IPropertyGetter getter, List<RDFModelElement> elements, EolContext context, int rounds) throws EolRuntimeException {
+		long nonNull = 0;
+		for (int i = 0; i < rounds; i++) {
+			for (RDFModelElement element : elements) {
+				for (String property : PROPERTIES) {
+					if (getter.invoke(element, property, context) != null) {
+						nonNull++;
+					}
+				}
+			}
+		}
+		return nonNull;
+	}
+
+}
@@ -0,0 +1,168 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.emc.rdf.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.rdf.RDFModel;
+import org.eclipse.epsilon.emc.rdf.RDFModel.ReasonerType;
+import org.eclipse.epsilon.emc.rdf.RDFModelElement;
+import org.eclipse.epsilon.emc.rdf.RDFResource;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
+import org.eclipse.epsilon.rdf.validation.RDFValidation.ValidationMode;
+
+/**
+ * <p>
+ * Compares the load time and property access latency of the available
+ * reasoners, on scaled up copies of the OWL demo data model. Each reasoner
+ * is measured without validation and with the default validation mode, as
+ * the model is validated by the reasoner while loading.
+ * </p>
+ *
+ * <p>
+ * This is not a JUnit test: run it as a Java application from the root of
+ * the tests project. The optional first argument is a comma-separated list
+ * of scale factors (number of copies of the demo individuals).
+ * </p>
+ */
+public class ReasonerBenchmark {
+
+	// The valid variant of the demo data, so it passes the default validation
+	private static final String OWL_DEMO_DATAMODEL = "resources/OWL/owlDemoData_valid.ttl";
+	private static final String OWL_DEMO_SCHEMAMODEL = "resources/OWL/owlDemoSchema.ttl";
+	private static final String OWL_DEMO_NS = "urn:x-hp:eg/";
+
+	private static final int ACCESS_ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		String sScales = args.length > 0 ? args[0] : "100,1000,10000";
+
+		System.out.println("scale,triples,reasoner,validation,loadMillis,firstAccessMillis,avgAccessMicros");
+		for (String sScale : sScales.split(",")) {
+			int scale = Integer.parseInt(sScale.strip());
+			File fData = createScaledDataModel(scale);
+			try {
+				long triples = RDFDataMgr.loadModel(fData.getPath()).size();
+				for (ReasonerType type : ReasonerType.values()) {
+					for (ValidationMode validation : List.of(ValidationMode.NONE, RDFModel.VALIDATION_SELECTION_DEFAULT)) {
+						runBenchmark(scale, triples, fData, type, validation);
+					}
+				}
+			} finally {
+				fData.delete();
+			}
+		}
+	}
+
+	protected static void runBenchmark(int scale, long triples, File fData, ReasonerType type, ValidationMode validation) throws Exception {
+		EolContext context = new EolContext();
+
+		try (RDFModel model = new RDFModel()) {
+			StringProperties props = new StringProperties();
+			props.put(RDFModel.PROPERTY_DATA_URIS, fData.getPath());
+			props.put(RDFModel.PROPERTY_SCHEMA_URIS, OWL_DEMO_SCHEMAMODEL);
+			props.put(RDFModel.PROPERTY_REASONER, type.getId());
+			props.put(RDFModel.PROPERTY_VALIDATE_MODEL, validation.getId());
+
+			long startLoad = System.nanoTime();
+			model.load(props);
+			long loadNanos = System.nanoTime() - startLoad;
+
+			// The first round includes any lazy inference triggered by the queries
+			long startFirst = System.nanoTime();
+			int accesses = accessProperties(model, context);
+			long firstNanos = System.nanoTime() - startFirst;
+
+			long startRounds = System.nanoTime();
+			for (int i = 0; i < ACCESS_ROUNDS; i++) {
+				accessProperties(model, context);
+			}
+			long roundNanos = System.nanoTime() - startRounds;
+
+			System.out.println(String.format("%d,%d,%s,%s,%d,%d,%.2f",
+				scale, triples, type.getId(), validation.getId(),
+				loadNanos / 1_000_000, firstNanos / 1_000_000,
+				roundNanos / 1_000.0 / ACCESS_ROUNDS / Math.max(1, accesses)));
+		}
+	}
+
+	protected static int accessProperties(RDFModel model, EolContext context) throws Exception {
+		int accesses = 0;
+		for (RDFModelElement elem : model.getAllOfType("eg:Computer")) {
+			RDFResource res = (RDFResource) elem;
+			Collection<?> motherBoards = (Collection<?>) res.getProperty("eg:motherBoard", context);
+			Collection<?> bundles = (Collection<?>) res.getProperty("hasBundle", context);
+			if (motherBoards.size() + bundles.size() < 0) {
+				throw new IllegalStateException("Unreachable: used to keep the results alive");
+			}
+			accesses += 2;
+		}
+		return accesses;
+	}
+
+	/**
+	 * Creates a copy of the demo data model with {@code scale} copies of each
+	 * of its individuals, by appending a suffix to their URIs.
+	 */
+	protected static File createScaledDataModel(int scale) throws IOException {
+		Model original = RDFDataMgr.loadModel(OWL_DEMO_DATAMODEL);
+		Model scaled = ModelFactory.createDefaultModel();
+		scaled.setNsPrefixes(original.getNsPrefixMap());
+
+		Set<Resource> predicates = new HashSet<>();
+		original.listStatements().forEachRemaining(stmt -> predicates.add(stmt.getPredicate()));
+
+		for (int i = 0; i < scale; i++) {
+			for (Statement stmt : original.listStatements().toList()) {
+				Resource subject = rename(scaled, stmt.getSubject(), predicates, i);
+				RDFNode object = stmt.getObject().isResource()
+					? rename(scaled, stmt.getObject().asResource(), predicates, i)
+					: stmt.getObject();
+				scaled.add(subject, stmt.getPredicate(), object);
+			}
+		}
+
+		File fScaled = File.createTempFile("owlDemoData-" + scale, ".ttl");
+		try (OutputStream os = new FileOutputStream(fScaled)) {
+			RDFDataMgr.write(os, scaled, Lang.TTL);
+		}
+		return fScaled;
+	}
+
+	private static Resource rename(Model target, Resource r, Set<Resource> predicates, int copy) {
+		if (r.isURIResource() && r.getURI().startsWith(OWL_DEMO_NS) && !predicates.contains(r)) {
+			String localName = r.getURI().substring(OWL_DEMO_NS.length());
+			if (Character.isLowerCase(localName.charAt(0))) {
+				// Individuals start with a lowercase letter, classes with an uppercase one
+				return target.createResource(r.getURI() + "_" + copy);
+			}
+		}
+		return r;
+	}
+
+}
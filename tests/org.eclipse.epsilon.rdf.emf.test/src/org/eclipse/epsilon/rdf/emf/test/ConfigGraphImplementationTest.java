@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.jena.mem2.GraphMem2Fast;
+import org.apache.jena.mem2.GraphMem2Legacy;
+import org.apache.jena.mem2.GraphMem2Roaring;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.eclipse.epsilon.rdf.loading.RDFGraphImplementation;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that data models are loaded into the in-memory graph implementation
+ * selected in the {@code .rdfres} file.
+ */
+public class ConfigGraphImplementationTest {
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private File dataModel;
+
+	@BeforeClass
+	public static void setupDrivers() {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+	}
+
+	@Before
+	public void setup() throws IOException {
+		dataModel = scratch.newFile("model.ttl");
+		Files.writeString(dataModel.toPath(), "<urn:x-test:thing> a <urn:x-test:Thing> .\n");
+	}
+
+	@Test
+	public void defaultIsFast() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(null));
+		assertEquals(RDFGraphImplementation.FAST, graph.getConfig().getRawGraphImplementation());
+		assertEquals(GraphMem2Fast.class, graph.getFirstNamedModel().getGraph().getClass());
+	}
+
+	@Test
+	public void legacy() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(RDFGraphImplementation.LEGACY.getId()));
+		assertEquals(GraphMem2Legacy.class, graph.getFirstNamedModel().getGraph().getClass());
+	}
+
+	@Test
+	public void roaring() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(RDFGraphImplementation.ROARING.getId()));
+		assertEquals(GraphMem2Roaring.class, graph.getFirstNamedModel().getGraph().getClass());
+		assertEquals(1, graph.getFirstNamedModel().size());
+	}
+
+	@Test
+	public void rubbishImplementation() throws IOException {
+		File fConfig = writeConfig("rubbish");
+		assertThrows(IllegalArgumentException.class, () -> getGraphResourceImpl(fConfig));
+	}
+
+	private File writeConfig(String graphImplementation) throws IOException {
+		File fConfig = scratch.newFile((graphImplementation == null ? "default" : graphImplementation) + ".rdfres");
+		StringBuilder sb = new StringBuilder();
+		sb.append("reasoner: none\n");
+		if (graphImplementation != null) {
+			sb.append("graphImplementation: ").append(graphImplementation).append('\n');
+		}
+		sb.append("dataModels:\n  - ").append(dataModel.getName()).append('\n');
+		Files.writeString(fConfig.toPath(), sb);
+		return fConfig;
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}
@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.eclipse.epsilon.rdf.loading.RDFImportResolver.ImportMode;
+import org.eclipse.epsilon.rdf.validation.RDFValidationException;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks the {@code owl:imports} options in the {@code .rdfres} file. The data
+ * model imports an ontology from an unreachable URI, which states that the two
+ * types of its only resource are disjoint: validation by the reasoner can only
+ * fail if the import is resolved through the catalog.
+ */
+public class ConfigImportsTest {
+
+	private static final String IMPORTED_URI = "http://example.invalid/ontologies/disjoint.ttl";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private File dataModel;
+	private File catalog;
+
+	@BeforeClass
+	public static void setupDrivers() {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+	}
+
+	@Before
+	public void setup() throws IOException {
+		dataModel = scratch.newFile("model.ttl");
+		Files.writeString(dataModel.toPath(), String.join("\n",
+			"@prefix owl: <http://www.w3.org/2002/07/owl#> .",
+			"@prefix ex: <urn:x-test:> .",
+			"ex:main a owl:Ontology ; owl:imports <" + IMPORTED_URI + "> .",
+			"ex:thing a ex:A, ex:B ."));
+
+		File imported = scratch.newFile("disjoint.ttl");
+		Files.writeString(imported.toPath(), String.join("\n",
+			"@prefix owl: <http://www.w3.org/2002/07/owl#> .",
+			"@prefix ex: <urn:x-test:> .",
+			"ex:A a owl:Class ; owl:disjointWith ex:B .",
+			"ex:B a owl:Class ."));
+
+		catalog = scratch.newFile("catalog.ttl");
+		Files.writeString(catalog.toPath(), String.join("\n",
+			"@prefix lm: <http://jena.hpl.hp.com/2004/08/location-mapping#> .",
+			"[] lm:mapping [ lm:name \"" + IMPORTED_URI + "\" ; lm:altName \"disjoint.ttl\" ] ."));
+	}
+
+	@Test
+	public void defaultModeFollowsImports() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(null, false));
+		assertEquals(ImportMode.FOLLOW, graph.getConfig().getRawImportMode());
+	}
+
+	@Test
+	public void offlineCatalogResolvesImports() throws IOException {
+		File fConfig = writeConfig(ImportMode.OFFLINE, true);
+		assertThrows(RDFValidationException.class, () -> getGraphResourceImpl(fConfig));
+	}
+
+	@Test
+	public void offlineWithoutCatalogSkipsImports() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(ImportMode.OFFLINE, false));
+		assertEquals(ImportMode.OFFLINE, graph.getConfig().getRawImportMode());
+	}
+
+	@Test
+	public void noneIgnoresCatalog() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig(ImportMode.NONE, true));
+		assertEquals(ImportMode.NONE, graph.getConfig().getRawImportMode());
+	}
+
+	private File writeConfig(ImportMode mode, boolean useCatalog) throws IOException {
+		File fConfig = scratch.newFile((mode == null ? "default" : mode.getId()) + ".rdfres");
+		StringBuilder sb = new StringBuilder();
+		sb.append("reasoner: owl\n");
+		sb.append("validationMode: jena-valid\n");
+		if (mode != null) {
+			sb.append("importMode: ").append(mode.getId()).append('\n');
+		}
+		if (useCatalog) {
+			sb.append("importCatalog: ").append(catalog.getName()).append('\n');
+			sb.append("importCache: true\n");
+		}
+		sb.append("dataModels:\n  - ").append(dataModel.getName()).append('\n');
+		Files.writeString(fConfig.toPath(), sb);
+		return fConfig;
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}
@@ -0,0 +1,169 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.emfatic.core.EmfaticResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.eclipse.epsilon.rdf.loading.RDFSchemaReasonerCache;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that the load cache configured in the {@code .rdfres} file is used:
+ * once cached, the documents are not parsed again while their size and
+ * modification time are unchanged.
+ */
+public class ConfigLoadCacheTest {
+
+	private static final File BOOK_METAMODEL = new File("resources/rdfresConfigs/book.emf");
+	private static final File DATA_MODEL = new File("resources/rdfresConfigs/model.ttl");
+	private static final File SCHEMA_MODEL = new File("resources/rdfresConfigs/schema.ttl");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setupDrivers() throws IOException {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("emf", new EmfaticResourceFactory());
+
+		ResourceSet rsMetamodel = new ResourceSetImpl();
+		Resource rMetamodel = rsMetamodel.getResource(URI.createFileURI(BOOK_METAMODEL.getAbsolutePath()), true);
+		for (EObject eob : rMetamodel.getContents()) {
+			if (eob instanceof EPackage epkg) {
+				EPackage.Registry.INSTANCE.put(epkg.getNsURI(), epkg);
+			}
+		}
+	}
+
+	@Test
+	public void thriftCache() throws IOException {
+		checkCacheIsUsed(RDFBinaryFormat.THRIFT);
+	}
+
+	@Test
+	public void protobufCache() throws IOException {
+		checkCacheIsUsed(RDFBinaryFormat.PROTOBUF);
+	}
+
+	@Test
+	public void rubbishFormat() throws IOException {
+		File fConfig = writeConfig(scratch.newFolder("cache"), "rubbish");
+		try {
+			getGraphResourceImpl(fConfig);
+			fail("An IllegalArgumentException should have been thrown for the `rubbish` cache format");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("Binary format not found:"));
+		}
+	}
+
+	private void checkCacheIsUsed(RDFBinaryFormat format) throws IOException {
+		// Work on copies, as the sources are corrupted below
+		File fData = copyToScratch(DATA_MODEL);
+		File fSchema = copyToScratch(SCHEMA_MODEL);
+		File cacheFolder = scratch.newFolder("cache");
+		File fConfig = writeConfig(cacheFolder, format.getId(), fData, fSchema);
+
+		// Bound schemas are reused across loads: make sure the schema goes through the load cache
+		RDFSchemaReasonerCache.clear();
+		RDFGraphResourceImpl first = getGraphResourceImpl(fConfig);
+		assertEquals(format, first.getConfig().getRawLoadCacheFormat());
+		assertEquals(1, first.getContents().size());
+		assertEquals("Both the data and the schema models should have been cached",
+			2, cacheFolder.listFiles((dir, name) -> name.endsWith(format.getExtension())).length);
+		Map<String, String> cacheState = getFolderState(cacheFolder);
+
+		// Replace the sources with empty documents of the same size and modification time
+		corruptKeepingVersion(fData);
+		corruptKeepingVersion(fSchema);
+
+		RDFSchemaReasonerCache.clear();
+		RDFGraphResourceImpl second = getGraphResourceImpl(fConfig);
+		assertEquals("The data model should have been read from the cache, not parsed again",
+			1, second.getContents().size());
+		assertEquals("The cached copies and their metadata should not have been rewritten",
+			cacheState, getFolderState(cacheFolder));
+	}
+
+	private File copyToScratch(File source) throws IOException {
+		File copy = new File(scratch.getRoot(), source.getName());
+		Files.copy(source.toPath(), copy.toPath());
+		return copy;
+	}
+
+	private void corruptKeepingVersion(File file) throws IOException {
+		long lastModified = file.lastModified();
+		byte[] comment = new byte[(int) file.length()];
+		Arrays.fill(comment, (byte) '#');
+		Files.write(file.toPath(), comment);
+		assertTrue(file.setLastModified(lastModified));
+	}
+
+	/**
+	 * Returns the modification time and contents of each file in the folder.
+	 */
+	private Map<String, String> getFolderState(File folder) throws IOException {
+		Map<String, String> state = new TreeMap<>();
+		for (File f : folder.listFiles()) {
+			byte[] contents = Files.readAllBytes(f.toPath());
+			state.put(f.getName(), f.lastModified() + ":" + Arrays.hashCode(contents));
+		}
+		return state;
+	}
+
+	private File writeConfig(File cacheFolder, String format) throws IOException {
+		return writeConfig(cacheFolder, format, DATA_MODEL, SCHEMA_MODEL);
+	}
+
+	private File writeConfig(File cacheFolder, String format, File dataModel, File schemaModel) throws IOException {
+		File fConfig = scratch.newFile("cached.rdfres");
+		Files.writeString(fConfig.toPath(), String.format(
+			"loadCache: %s\nloadCacheFormat: %s\ndataModels:\n  - %s\nschemaModels:\n  - %s\n",
+			cacheFolder.toURI(), format,
+			dataModel.getAbsoluteFile().toURI(), schemaModel.getAbsoluteFile().toURI()));
+		return fConfig;
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}
@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.emfatic.core.EmfaticResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.eclipse.epsilon.rdf.loading.RDFBinaryFormat;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that materialised inference in the {@code .rdfres} file produces the
+ * same contents as on-demand inference. The book in the data model does not
+ * have an {@code rdf:type}: it can only be deserialised if it is inferred.
+ */
+public class ConfigMaterialiseInferenceTest {
+
+	private static final File BOOK_METAMODEL = new File("resources/rdfresConfigs/book.emf");
+	private static final File DATA_MODEL = new File("resources/rdfresConfigs/model.ttl");
+	private static final File SCHEMA_MODEL = new File("resources/rdfresConfigs/schema.ttl");
+	private static final File RULES = new File("resources/rdfresConfigs/books.rules");
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setupDrivers() throws IOException {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("emf", new EmfaticResourceFactory());
+
+		ResourceSet rsMetamodel = new ResourceSetImpl();
+		Resource rMetamodel = rsMetamodel.getResource(URI.createFileURI(BOOK_METAMODEL.getAbsolutePath()), true);
+		for (EObject eob : rMetamodel.getContents()) {
+			if (eob instanceof EPackage epkg) {
+				EPackage.Registry.INSTANCE.put(epkg.getNsURI(), epkg);
+			}
+		}
+	}
+
+	@Test
+	public void materialisedOWL() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig("owl", null));
+		assertTrue(graph.getConfig().isMaterialiseInference());
+		assertEquals("The materialised closure should include the type of the book", 1, graph.getContents().size());
+	}
+
+	@Test
+	public void materialisedNone() throws IOException {
+		File cacheFolder = new File(scratch.getRoot(), "closures");
+		RDFGraphResourceImpl graph = getGraphResourceImpl(writeConfig("none", cacheFolder));
+		assertTrue("Without a reasoner, the untyped book should not be deserialised", graph.getContents().isEmpty());
+		assertFalse("Without a reasoner, there is no closure to cache", cacheFolder.exists());
+	}
+
+	@Test
+	public void closureIsCached() throws IOException {
+		File cacheFolder = scratch.newFolder("closures");
+		File fConfig = writeConfig("custom", cacheFolder);
+
+		assertEquals(1, getGraphResourceImpl(fConfig).getContents().size());
+		assertEquals(1, cacheFolder.listFiles((dir, name) -> name.endsWith(RDFBinaryFormat.THRIFT.getExtension())).length);
+
+		assertEquals(1, getGraphResourceImpl(fConfig).getContents().size());
+		assertEquals("The cached closure should have been reused",
+			1, cacheFolder.listFiles((dir, name) -> name.endsWith(RDFBinaryFormat.THRIFT.getExtension())).length);
+	}
+
+	@Test
+	public void validationModeChangesClosure() throws IOException {
+		File cacheFolder = scratch.newFolder("closures");
+		assertEquals(1, getGraphResourceImpl(writeConfig("custom", cacheFolder)).getContents().size());
+		assertEquals(1, getGraphResourceImpl(writeConfig("custom", cacheFolder, "jena-valid")).getContents().size());
+		assertEquals("Closures are only reused with the validation mode they passed",
+			2, cacheFolder.listFiles((dir, name) -> name.endsWith(RDFBinaryFormat.THRIFT.getExtension())).length);
+	}
+
+	private File writeConfig(String reasoner, File cacheFolder) throws IOException {
+		return writeConfig(reasoner, cacheFolder, "none");
+	}
+
+	private File writeConfig(String reasoner, File cacheFolder, String validationMode) throws IOException {
+		File fConfig = scratch.newFile(reasoner + "-" + validationMode + ".rdfres");
+		StringBuilder sb = new StringBuilder();
+		sb.append("reasoner: ").append(reasoner).append('\n');
+		sb.append("validationMode: ").append(validationMode).append('\n');
+		sb.append("reasonerRules:\n  - ").append(RULES.getAbsoluteFile().toURI()).append('\n');
+		sb.append("materialiseInference: true\n");
+		if (cacheFolder != null) {
+			sb.append("closureCache: ").append(cacheFolder.toURI()).append('\n');
+		}
+		sb.append("dataModels:\n  - ").append(DATA_MODEL.getAbsoluteFile().toURI()).append('\n');
+		sb.append("schemaModels:\n  - ").append(SCHEMA_MODEL.getAbsoluteFile().toURI()).append('\n');
+		Files.writeString(fConfig.toPath(), sb);
+		return fConfig;
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}
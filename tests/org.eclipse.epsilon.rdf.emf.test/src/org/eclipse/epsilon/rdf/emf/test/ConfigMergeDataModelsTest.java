@@ -0,0 +1,139 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.emfatic.core.EmfaticResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that merging the data models while loading keeps track of the model
+ * each statement came from, so changes are saved to the right files.
+ */
+public class ConfigMergeDataModelsTest {
+
+	private static final File BOOK_METAMODEL = new File("resources/rdfresConfigs/book.emf");
+
+	private static final String PREFIXES = "@prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#> .\n"
+		+ "@prefix books: <http://eclipse.org/epsilon/rdf/books#> .\n";
+
+	@Rule
+	public TemporaryFolder scratch = new TemporaryFolder();
+
+	private File firstModel, secondModel, fConfig;
+
+	@BeforeClass
+	public static void setupDrivers() throws IOException {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("emf", new EmfaticResourceFactory());
+
+		ResourceSet rsMetamodel = new ResourceSetImpl();
+		Resource rMetamodel = rsMetamodel.getResource(URI.createFileURI(BOOK_METAMODEL.getAbsolutePath()), true);
+		for (EObject eob : rMetamodel.getContents()) {
+			if (eob instanceof EPackage epkg) {
+				EPackage.Registry.INSTANCE.put(epkg.getNsURI(), epkg);
+			}
+		}
+	}
+
+	@Before
+	public void setup() throws IOException {
+		firstModel = scratch.newFile("first.ttl");
+		Files.writeString(firstModel.toPath(), PREFIXES
+			+ "<urn:x-test:quijote> rdf:type books:Book ; books:title \"El Quijote\" .\n");
+		secondModel = scratch.newFile("second.ttl");
+		Files.writeString(secondModel.toPath(), PREFIXES
+			+ "<urn:x-test:lazarillo> rdf:type books:Book ; books:title \"Lazarillo\" .\n");
+
+		fConfig = scratch.newFile("merged.rdfres");
+		Files.writeString(fConfig.toPath(),
+			"reasoner: none\nmergeDataModels: true\ndataModels:\n  - first.ttl\n  - second.ttl\n");
+	}
+
+	@Test
+	public void routesToSourceModels() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(fConfig);
+		assertTrue(graph.getConfig().isMergeDataModels());
+		assertEquals(2, graph.getContents().size());
+
+		assertEquals(List.of(ResourceFactory.createResource(firstModel.toURI().toString())),
+			graph.getResourcesForNamedModelsContaining(findBook(graph, "El Quijote")));
+		assertEquals(List.of(ResourceFactory.createResource(secondModel.toURI().toString())),
+			graph.getResourcesForNamedModelsContaining(findBook(graph, "Lazarillo")));
+	}
+
+	@Test
+	public void savesToSourceModels() throws IOException {
+		Model firstBefore = RDFDataMgr.loadModel(firstModel.getAbsolutePath());
+
+		RDFGraphResourceImpl graph = getGraphResourceImpl(fConfig);
+		EObject lazarillo = findBook(graph, "Lazarillo");
+		lazarillo.eSet(lazarillo.eClass().getEStructuralFeature("title"), "El Lazarillo de Tormes");
+		graph.save(null);
+
+		assertTrue(firstBefore.isIsomorphicWith(RDFDataMgr.loadModel(firstModel.getAbsolutePath())));
+		String savedSecond = Files.readString(secondModel.toPath());
+		assertTrue(savedSecond.contains("El Lazarillo de Tormes"));
+		assertFalse(savedSecond.contains("\"Lazarillo\""));
+
+		RDFGraphResourceImpl reloaded = getGraphResourceImpl(fConfig);
+		assertEquals(2, reloaded.getContents().size());
+		assertTrue(findBook(reloaded, "El Lazarillo de Tormes") != null);
+	}
+
+	private EObject findBook(RDFGraphResourceImpl graph, String title) {
+		for (EObject eob : graph.getContents()) {
+			EStructuralFeature titleFeature = eob.eClass().getEStructuralFeature("title");
+			if (title.equals(eob.eGet(titleFeature))) {
+				return eob;
+			}
+		}
+		return null;
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}
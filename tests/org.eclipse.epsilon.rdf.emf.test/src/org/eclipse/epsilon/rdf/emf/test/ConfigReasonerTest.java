@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2025 University of York
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Antonio Garcia-Dominguez - initial API and implementation
+ ********************************************************************************/
+package org.eclipse.epsilon.rdf.emf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.emfatic.core.EmfaticResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceFactory;
+import org.eclipse.epsilon.rdf.emf.RDFGraphResourceImpl;
+import org.eclipse.epsilon.rdf.loading.RDFReasonerType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that the reasoner selected in the {@code .rdfres} file is used. The
+ * book in the data model does not have an {@code rdf:type}: it can only be
+ * deserialised if a reasoner infers it from the schema or from custom rules.
+ */
+public class ConfigReasonerTest {
+
+	private static final File BOOK_METAMODEL = new File("resources/rdfresConfigs/book.emf");
+
+	private final File REASONER_BLANK = new File("resources/rdfresConfigs/Validation_blank.rdfres");
+	private final File REASONER_NONE = new File("resources/rdfresConfigs/Reasoner_none.rdfres");
+	private final File REASONER_OWL = new File("resources/rdfresConfigs/Reasoner_owl.rdfres");
+	private final File REASONER_OWL_FULL = new File("resources/rdfresConfigs/Reasoner_owl-full.rdfres");
+	private final File REASONER_CUSTOM = new File("resources/rdfresConfigs/Reasoner_custom.rdfres");
+	private final File REASONER_RUBBISH = new File("resources/rdfresConfigs/Reasoner_rubbish.rdfres");
+
+	@BeforeClass
+	public static void setupDrivers() throws IOException {
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("rdfres", new RDFGraphResourceFactory());
+		Resource.Factory.Registry.INSTANCE
+			.getExtensionToFactoryMap()
+			.put("emf", new EmfaticResourceFactory());
+
+		ResourceSet rsMetamodel = new ResourceSetImpl();
+		Resource rMetamodel = rsMetamodel.getResource(URI.createFileURI(BOOK_METAMODEL.getAbsolutePath()), true);
+		for (EObject eob : rMetamodel.getContents()) {
+			if (eob instanceof EPackage epkg) {
+				EPackage.Registry.INSTANCE.put(epkg.getNsURI(), epkg);
+			}
+		}
+	}
+
+	@Test
+	public void reasonerBlank() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(REASONER_BLANK);
+		assertEquals(RDFReasonerType.OWL_FULL, graph.getConfig().getRawReasoner());
+		assertEquals("The OWL reasoner should infer the type of the book", 1, graph.getContents().size());
+	}
+
+	@Test
+	public void reasonerNone() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(REASONER_NONE);
+		assertEquals(RDFReasonerType.NONE, graph.getConfig().getRawReasoner());
+		assertTrue("Without a reasoner, the untyped book should not be deserialised", graph.getContents().isEmpty());
+	}
+
+	@Test
+	public void reasonerOWL() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(REASONER_OWL);
+		assertEquals(RDFReasonerType.OWL_FULL, graph.getConfig().getRawReasoner());
+		assertEquals("The OWL reasoner should infer the type of the book", 1, graph.getContents().size());
+	}
+
+	@Test
+	public void reasonerOWLFull() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(REASONER_OWL_FULL);
+		assertEquals("The EMC driver ID should be accepted as well", RDFReasonerType.OWL_FULL, graph.getConfig().getRawReasoner());
+		assertEquals("The OWL reasoner should infer the type of the book", 1, graph.getContents().size());
+	}
+
+	@Test
+	public void reasonerCustom() throws IOException {
+		RDFGraphResourceImpl graph = getGraphResourceImpl(REASONER_CUSTOM);
+		assertEquals(RDFReasonerType.CUSTOM, graph.getConfig().getRawReasoner());
+		assertEquals("The custom rules should infer the type of the book", 1, graph.getContents().size());
+	}
+
+	@Test
+	public void reasonerRubbish() {
+		try {
+			getGraphResourceImpl(REASONER_RUBBISH);
+			fail("An IllegalArgumentException should have been thrown for `rubbish` reasoner configuration");
+		} catch (IllegalArgumentException | IOException e) {
+			assertEquals(e.getClass(), IllegalArgumentException.class);
+			assertTrue("Loading a configuration with an invalid reasoner should report an error",
+				e.getMessage().contains("Reasoner type not found:"));
+		}
+	}
+
+	protected RDFGraphResourceImpl getGraphResourceImpl(File file) throws IOException {
+		ResourceSet rsRDF = new ResourceSetImpl();
+		Resource r = rsRDF.createResource(URI.createFileURI(file.getAbsolutePath()));
+		r.load(null);
+		return (RDFGraphResourceImpl) r;
+	}
+
+}